@@ -0,0 +1,63 @@
+#!/bin/bash
+# Runs the k6 search load test against the backend twice, first on platform threads and then in
+# the virtual-threads profile, and prints throughput and p99 latency side by side.
+#
+# Needs: a Java 21+ runtime (virtual threads), k6, jq, and MySQL/Redis as configured in
+# application.properties. Usage, from BE/:
+#   ./loadtest/compare-threads.sh [vus] [duration]        e.g. ./loadtest/compare-threads.sh 400 3m
+
+set -euo pipefail
+
+VUS=${1:-200}
+DURATION=${2:-2m}
+PORT=${PORT:-8080}
+BASE_URL="http://localhost:${PORT}"
+OUT_DIR=target/loadtest
+JAR=$(ls target/court-management-*.jar 2>/dev/null | grep -v original | head -n 1 || true)
+
+JAVA_MAJOR=$(java -XshowSettings:properties -version 2>&1 | awk -F'= ' '/java.specification.version/ {print $2}')
+if [ "${JAVA_MAJOR%%.*}" -lt 21 ]; then
+    echo "Java ${JAVA_MAJOR} found; virtual threads need Java 21+" >&2
+    exit 1
+fi
+if [ -z "$JAR" ]; then
+    ./mvnw -q -DskipTests package
+    JAR=$(ls target/court-management-*.jar | grep -v original | head -n 1)
+fi
+mkdir -p "$OUT_DIR"
+
+run() {
+    local label=$1 profiles=$2
+    echo "== ${label}: starting backend (profiles: ${profiles:-default})"
+    java -jar "$JAR" --server.port="$PORT" ${profiles:+--spring.profiles.active=$profiles} \
+        > "$OUT_DIR/${label}-server.log" 2>&1 &
+    local pid=$!
+    trap "kill $pid 2>/dev/null || true" EXIT
+
+    for _ in $(seq 1 120); do
+        curl -sf "${BASE_URL}/api/health" > /dev/null && break
+        sleep 1
+    done
+
+    # Short warm-up so JIT, caches and in-memory indexes are hot before measuring
+    k6 run -q -e BASE_URL="$BASE_URL" -e VUS="$VUS" -e DURATION=30s loadtest/court-search.js > /dev/null
+    k6 run -q -e BASE_URL="$BASE_URL" -e VUS="$VUS" -e DURATION="$DURATION" \
+        --summary-export "$OUT_DIR/${label}.json" loadtest/court-search.js
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+run platform ""
+run virtual virtual-threads
+
+printf "\n%-10s %12s %10s %10s %10s\n" "mode" "req/s" "p50 ms" "p99 ms" "errors"
+for label in platform virtual; do
+    jq -r --arg label "$label" '[$label,
+        (.metrics.http_reqs.rate | floor),
+        (.metrics.http_req_duration["p(50)"] * 10 | floor / 10),
+        (.metrics.http_req_duration["p(99)"] * 10 | floor / 10),
+        (.metrics.http_req_failed.value * 100 | tostring + "%")] | @tsv' "$OUT_DIR/${label}.json" \
+        | awk -F'\t' '{printf "%-10s %12s %10s %10s %10s\n", $1, $2, $3, $4, $5}'
+done
@@ -0,0 +1,48 @@
+// k6 load test for the read-heavy public endpoints: court search (keyword, geo), suggest and
+// team post search. Run through compare-threads.sh, or directly:
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=200 -e DURATION=2m loadtest/court-search.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+export const options = {
+    scenarios: {
+        search: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.VUS || 200),
+            duration: __ENV.DURATION || '2m',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const KEYWORDS = ['san', 'cau long', 'quan 1', 'thu duc', 'binh thanh', 'go vap', 'pickleball'];
+const ORIGINS = [[10.7769, 106.7009], [10.8231, 106.6297], [21.0285, 105.8542], [16.0544, 108.2022]];
+
+function pick(items) {
+    return items[Math.floor(Math.random() * items.length)];
+}
+
+export default function () {
+    const roll = Math.random();
+    let res;
+    if (roll < 0.4) {
+        res = http.get(`${BASE_URL}/api/courts/search?keyword=${encodeURIComponent(pick(KEYWORDS))}&page=0&size=20`,
+            { tags: { endpoint: 'court-search' } });
+    } else if (roll < 0.7) {
+        const [lat, lng] = pick(ORIGINS);
+        // Jitter the origin by up to ~1 km so geo searches do not all hit one cached cell
+        res = http.get(`${BASE_URL}/api/courts/search?latitude=${lat + (Math.random() - 0.5) / 50}`
+            + `&longitude=${lng + (Math.random() - 0.5) / 50}&radiusKm=5&page=0&size=20`,
+            { tags: { endpoint: 'court-geo' } });
+    } else if (roll < 0.9) {
+        const keyword = pick(KEYWORDS);
+        res = http.get(`${BASE_URL}/api/courts/suggest?q=${encodeURIComponent(keyword.slice(0, 1 + Math.floor(Math.random() * keyword.length)))}`,
+            { tags: { endpoint: 'court-suggest' } });
+    } else {
+        res = http.get(`${BASE_URL}/api/team-posts/search?keyword=${encodeURIComponent(pick(KEYWORDS))}&page=0&size=20`,
+            { tags: { endpoint: 'team-post-search' } });
+    }
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,184 @@
+package com.badminton.courtmanagement.benchmark;
+
+import com.badminton.courtmanagement.entity.Booking;
+import com.badminton.courtmanagement.entity.Court;
+import com.badminton.courtmanagement.entity.CourtOwner;
+import com.badminton.courtmanagement.entity.CourtPricing;
+import com.badminton.courtmanagement.entity.TeamMember;
+import com.badminton.courtmanagement.entity.TeamPost;
+import com.badminton.courtmanagement.entity.User;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Deterministic fixtures shared by the benchmarks, spread around Ho Chi Minh City
+ */
+final class BenchmarkData {
+
+    static final double ORIGIN_LAT = 10.7769;
+    static final double ORIGIN_LNG = 106.7009;
+
+    private static final String[] SPORT_TYPES = {"BADMINTON", "PICKLEBALL", "BADMINTON,PICKLEBALL"};
+
+    private BenchmarkData() {
+    }
+
+    static List<Court> courts(int count, long seed) {
+        Random random = new Random(seed);
+        CourtOwner owner = owner(user(1L));
+        List<Court> courts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Court court = Court.builder()
+                    .id((long) i + 1)
+                    .owner(owner)
+                    .name("Sân cầu lông " + i)
+                    .description("Sân tiêu chuẩn thi đấu, có bãi giữ xe")
+                    .address(i + " Nguyễn Văn Linh")
+                    .city("Hồ Chí Minh")
+                    .district("Quận " + (i % 12 + 1))
+                    .sportTypes(SPORT_TYPES[i % SPORT_TYPES.length])
+                    .totalCourts(1 + i % 6)
+                    .openingTime(LocalTime.of(6, 0))
+                    .closingTime(LocalTime.of(22, 0))
+                    .phone("09000000" + (i % 100))
+                    .amenities("Wifi,Parking,Shower")
+                    .averageRating(BigDecimal.valueOf(random.nextInt(50), 1))
+                    .totalReviews(random.nextInt(200))
+                    .status(Court.CourtStatus.ACTIVE)
+                    .featured(i % 10 == 0)
+                    .images("[\"a.jpg\",\"b.jpg\"]")
+                    .build();
+            // Roughly one court in twenty has no coordinates, as in production data
+            if (i % 20 != 0) {
+                court.setLatitude(coordinate(ORIGIN_LAT + (random.nextDouble() - 0.5) * 0.6));
+                court.setLongitude(coordinate(ORIGIN_LNG + (random.nextDouble() - 0.5) * 0.6));
+            }
+            court.setPricings(pricings(court, random));
+            // What the court_pricing triggers keep in courts.min_price / max_price
+            List<BigDecimal> prices = court.getPricings().stream().map(CourtPricing::getBasePrice).sorted().toList();
+            court.setMinPrice(prices.get(0));
+            court.setMaxPrice(prices.get(prices.size() - 1));
+            courts.add(court);
+        }
+        return courts;
+    }
+
+    static Booking booking(Court court, User user) {
+        return Booking.builder()
+                .id(42L)
+                .user(user)
+                .court(court)
+                .bookingDate(LocalDate.of(2026, 1, 15))
+                .startTime(LocalTime.of(18, 0))
+                .endTime(LocalTime.of(20, 0))
+                .totalAmount(new BigDecimal("240000"))
+                .status(Booking.BookingStatus.CONFIRMED)
+                .bookingReference("BK20260115001")
+                .notes("Mang theo vợt dự phòng")
+                .build();
+    }
+
+    static TeamPost teamPost(User owner, int memberCount) {
+        TeamPost post = TeamPost.builder()
+                .id(7L)
+                .user(owner)
+                .title("Tìm người đánh đôi tối thứ 6")
+                .description("Trình độ trung bình, đánh vui vẻ")
+                .playDate(LocalDateTime.of(2026, 1, 16, 19, 0))
+                .location("Sân Phú Nhuận")
+                .maxPlayers(memberCount + 2)
+                .currentPlayers(memberCount)
+                .skillLevel("MEDIUM")
+                .sportType(TeamPost.SportType.BADMINTON)
+                .status(TeamPost.PostStatus.ACTIVE)
+                .images("a.jpg,b.jpg,c.jpg")
+                .build();
+        Set<TeamMember> members = new HashSet<>();
+        for (int i = 0; i < memberCount; i++) {
+            members.add(TeamMember.builder()
+                    .id((long) i + 1)
+                    .teamPost(post)
+                    .user(user(100L + i))
+                    .status(TeamMember.MemberStatus.ACCEPTED)
+                    .build());
+        }
+        post.setMembers(members);
+        return post;
+    }
+
+    static User user(Long id) {
+        return User.builder()
+                .id(id)
+                .username("user" + id)
+                .email("user" + id + "@example.com")
+                .password("$2a$10$abcdefghijklmnopqrstuv")
+                .fullName("Người dùng " + id)
+                .phone("0912345678")
+                .dateOfBirth(LocalDate.of(1995, 5, 20))
+                .skillLevel(User.SkillLevel.WEAK)
+                .preferredSports("BADMINTON")
+                .role(User.UserRole.USER)
+                .status(User.UserStatus.ACTIVE)
+                .build();
+    }
+
+    static CourtOwner owner(User user) {
+        return CourtOwner.builder()
+                .id(user.getId())
+                .user(user)
+                .businessName("Công ty Sân Cầu")
+                .businessPhone("0283456789")
+                .verificationStatus(CourtOwner.VerificationStatus.VERIFIED)
+                .build();
+    }
+
+    /**
+     * Wire a field the way Spring would inject it (generated mappers use field injection)
+     */
+    static void inject(Object target, String fieldName, Object value) {
+        try {
+            Field field = findField(target.getClass(), fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot set " + fieldName + " on " + target.getClass().getName(), e);
+        }
+    }
+
+    private static Field findField(Class<?> type, String fieldName) throws NoSuchFieldException {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            try {
+                return current.getDeclaredField(fieldName);
+            } catch (NoSuchFieldException ignored) {
+                // keep walking up the hierarchy
+            }
+        }
+        throw new NoSuchFieldException(fieldName);
+    }
+
+    private static Set<CourtPricing> pricings(Court court, Random random) {
+        Set<CourtPricing> pricings = new HashSet<>();
+        BigDecimal base = BigDecimal.valueOf(60000 + random.nextInt(10) * 10000L);
+        pricings.add(CourtPricing.builder().id(court.getId() * 2).court(court)
+                .startTime(LocalTime.of(6, 0)).endTime(LocalTime.of(17, 0))
+                .basePrice(base).build());
+        pricings.add(CourtPricing.builder().id(court.getId() * 2 + 1).court(court)
+                .startTime(LocalTime.of(17, 0)).endTime(LocalTime.of(22, 0))
+                .basePrice(base.add(BigDecimal.valueOf(40000))).build());
+        return pricings;
+    }
+
+    private static BigDecimal coordinate(double value) {
+        return BigDecimal.valueOf(value).setScale(8, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,205 @@
+package com.badminton.courtmanagement.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserting a block of bookings the way Hibernate does under each id strategy, against a real
+ * MySQL. IDENTITY sends one INSERT per row and reads its generated key; POOLED reserves 50 ids
+ * per round trip from an id table (on its own connection, as Hibernate's isolated work does)
+ * and sends the rows as JDBC batches of 50, which Connector/J rewrites into multi-row INSERTs
+ * with the prod profile's connection properties.
+ *
+ * Needs a scratch database: set BENCHMARK_JDBC_URL (e.g. jdbc:mysql://localhost:3308/bench),
+ * BENCHMARK_JDBC_USER and BENCHMARK_JDBC_PASSWORD. Creates and drops its own tables.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkInsertBenchmark {
+
+    private static final int ALLOCATION_SIZE = 50;
+    private static final String INSERT_COLUMNS = "court_id, user_id, booking_date, start_time, end_time, "
+            + "total_amount, status, booking_reference, created_at, updated_at";
+
+    @Param({"IDENTITY", "POOLED"})
+    private String idStrategy;
+
+    @Param({"1000"})
+    private int rows;
+
+    private Connection connection;
+    private Connection idConnection;
+    private long nextId;
+    private long reservedUpTo;
+
+    @Setup
+    public void setUp() throws SQLException {
+        String url = System.getenv("BENCHMARK_JDBC_URL");
+        if (url == null) {
+            throw new IllegalStateException("Set BENCHMARK_JDBC_URL (and _USER, _PASSWORD) to a scratch MySQL database");
+        }
+        Properties properties = new Properties();
+        properties.setProperty("user", System.getenv().getOrDefault("BENCHMARK_JDBC_USER", "root"));
+        properties.setProperty("password", System.getenv().getOrDefault("BENCHMARK_JDBC_PASSWORD", ""));
+        // Same connection settings as application-prod.properties
+        properties.setProperty("cachePrepStmts", "true");
+        properties.setProperty("useServerPrepStmts", "true");
+        properties.setProperty("rewriteBatchedStatements", "true");
+        properties.setProperty("useLocalSessionState", "true");
+        properties.setProperty("elideSetAutoCommits", "true");
+
+        connection = DriverManager.getConnection(url, properties);
+        idConnection = DriverManager.getConnection(url, properties);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_bookings");
+            statement.execute("""
+                    CREATE TABLE bench_bookings (
+                        id BIGINT PRIMARY KEY AUTO_INCREMENT,
+                        court_id BIGINT NOT NULL,
+                        user_id BIGINT NOT NULL,
+                        booking_date DATE NOT NULL,
+                        start_time TIME NOT NULL,
+                        end_time TIME NOT NULL,
+                        total_amount DECIMAL(10, 2) NOT NULL,
+                        status VARCHAR(20) NOT NULL,
+                        booking_reference VARCHAR(50) UNIQUE,
+                        created_at TIMESTAMP NOT NULL,
+                        updated_at TIMESTAMP NULL,
+                        INDEX idx_court_date (court_id, booking_date)
+                    )""");
+            statement.execute("DROP TABLE IF EXISTS bench_id_sequences");
+            statement.execute("CREATE TABLE bench_id_sequences (sequence_name VARCHAR(255) PRIMARY KEY, next_val BIGINT NOT NULL)");
+            statement.execute("INSERT INTO bench_id_sequences VALUES ('bench_bookings', 1)");
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE bench_bookings");
+        }
+        connection.commit();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_bookings");
+            statement.execute("DROP TABLE IF EXISTS bench_id_sequences");
+        }
+        connection.commit();
+        connection.close();
+        idConnection.close();
+    }
+
+    @Benchmark
+    public long insertBookings() throws SQLException {
+        long checksum = idStrategy.equals("IDENTITY") ? insertWithIdentity() : insertWithPooledIds();
+        connection.commit();
+        return checksum;
+    }
+
+    private long insertWithIdentity() throws SQLException {
+        long checksum = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bench_bookings (" + INSERT_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW())",
+                Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < rows; i++) {
+                bind(insert, 1, i);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    checksum += keys.getLong(1);
+                }
+            }
+        }
+        return checksum;
+    }
+
+    private long insertWithPooledIds() throws SQLException {
+        long checksum = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bench_bookings (id, " + INSERT_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW())")) {
+            for (int i = 0; i < rows; i++) {
+                long id = nextId();
+                insert.setLong(1, id);
+                bind(insert, 2, i);
+                insert.addBatch();
+                checksum += id;
+                if ((i + 1) % ALLOCATION_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        return checksum;
+    }
+
+    /**
+     * Pooled optimizer: one id-table round trip hands out the next ALLOCATION_SIZE ids
+     */
+    private long nextId() throws SQLException {
+        if (nextId >= reservedUpTo) {
+            idConnection.setAutoCommit(false);
+            try (PreparedStatement select = idConnection.prepareStatement(
+                         "SELECT next_val FROM bench_id_sequences WHERE sequence_name = 'bench_bookings' FOR UPDATE");
+                 PreparedStatement update = idConnection.prepareStatement(
+                         "UPDATE bench_id_sequences SET next_val = ? WHERE sequence_name = 'bench_bookings'")) {
+                long value;
+                try (ResultSet resultSet = select.executeQuery()) {
+                    resultSet.next();
+                    value = resultSet.getLong(1);
+                }
+                update.setLong(1, value + ALLOCATION_SIZE);
+                update.executeUpdate();
+                idConnection.commit();
+                nextId = value;
+                reservedUpTo = value + ALLOCATION_SIZE;
+            }
+        }
+        return nextId++;
+    }
+
+    private void bind(PreparedStatement insert, int first, int row) throws SQLException {
+        LocalTime start = LocalTime.of(5 + row % 17, 0);
+        insert.setLong(first, 1 + row % 200);
+        insert.setLong(first + 1, 1 + row % 5000);
+        insert.setDate(first + 2, Date.valueOf(LocalDate.of(2026, 1, 1).plusDays(row % 365)));
+        insert.setTime(first + 3, Time.valueOf(start));
+        insert.setTime(first + 4, Time.valueOf(start.plusHours(1)));
+        insert.setBigDecimal(first + 5, BigDecimal.valueOf(120_000 + (row % 10) * 10_000));
+        insert.setString(first + 6, "CONFIRMED");
+        // booking_reference is UNIQUE, so it must differ from every row already inserted in this iteration
+        insert.setString(first + 7, "BK" + System.nanoTime() + "-" + row);
+    }
+}
@@ -0,0 +1,107 @@
+package com.badminton.courtmanagement.benchmark;
+
+import com.badminton.courtmanagement.config.CacheValueSerializer;
+import com.badminton.courtmanagement.dto.CourtDto;
+import com.badminton.courtmanagement.dto.PageResponse;
+import com.badminton.courtmanagement.entity.Court;
+import com.badminton.courtmanagement.mapper.CourtMapperImpl;
+import com.badminton.courtmanagement.mapper.CourtOwnerMapperImpl;
+import com.badminton.courtmanagement.mapper.CourtPricingMapperImpl;
+import com.badminton.courtmanagement.mapper.UserMapperImpl;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode/decode cost and stored size of cache values in each supported format, on a court DTO
+ * with its owner and pricings and on a 20-court search page. The stored size is reported as the
+ * {@code payloadBytes} secondary result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"JDK", "JSON", "SMILE", "CBOR"})
+    private String format;
+
+    @Param({"0", "1024"})
+    private int compressionThreshold;
+
+    @Param({"court", "page"})
+    private String payload;
+
+    private CacheValueSerializer serializer;
+    private Object value;
+    private byte[] encoded;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+
+        public long payloadBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            payloadBytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        UserMapperImpl userMapper = new UserMapperImpl();
+        CourtOwnerMapperImpl ownerMapper = new CourtOwnerMapperImpl();
+        BenchmarkData.inject(ownerMapper, "userMapper", userMapper);
+        CourtMapperImpl courtMapper = new CourtMapperImpl();
+        CourtPricingMapperImpl pricingMapper = new CourtPricingMapperImpl();
+
+        List<CourtDto> courts = new ArrayList<>(PAGE_SIZE);
+        for (Court court : BenchmarkData.courts(PAGE_SIZE, 17)) {
+            CourtDto dto = courtMapper.toDto(court);
+            dto.setOwner(ownerMapper.toDto(court.getOwner()));
+            dto.setPricings(pricingMapper.toDtoList(new ArrayList<>(court.getPricings())));
+            courts.add(dto);
+        }
+
+        value = payload.equals("court")
+                ? courts.get(0)
+                : PageResponse.of(courts, 0, PAGE_SIZE, 500);
+        serializer = CacheValueSerializer.of(CacheValueSerializer.Format.of(format), compressionThreshold);
+        encoded = serializer.serialize(value);
+
+        if (!value.equals(serializer.deserialize(encoded))) {
+            throw new IllegalStateException(format + " did not round-trip " + payload);
+        }
+    }
+
+    @Benchmark
+    public byte[] encode(PayloadSize size) {
+        byte[] bytes = serializer.serialize(value);
+        size.payloadBytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public Object decode() {
+        return serializer.deserialize(encoded);
+    }
+}
@@ -0,0 +1,118 @@
+package com.badminton.courtmanagement.benchmark;
+
+import com.badminton.courtmanagement.entity.Booking;
+import com.badminton.courtmanagement.entity.Court;
+import com.badminton.courtmanagement.entity.CourtDayLock;
+import com.badminton.courtmanagement.entity.CourtOwner;
+import com.badminton.courtmanagement.entity.CourtPricing;
+import com.badminton.courtmanagement.entity.Discount;
+import com.badminton.courtmanagement.entity.DiscountUsage;
+import com.badminton.courtmanagement.entity.Message;
+import com.badminton.courtmanagement.entity.Notification;
+import com.badminton.courtmanagement.entity.Review;
+import com.badminton.courtmanagement.entity.TeamMember;
+import com.badminton.courtmanagement.entity.TeamPost;
+import com.badminton.courtmanagement.entity.Transaction;
+import com.badminton.courtmanagement.entity.User;
+import com.badminton.courtmanagement.entity.UserFavorite;
+import com.badminton.courtmanagement.specification.CourtSpecification;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CourtSpecification predicate building against Hibernate's CriteriaBuilder.
+ * The session factory is bootstrapped from the entity model only; no database is contacted.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CourtSpecificationBenchmark {
+
+    private StandardServiceRegistry registry;
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder criteriaBuilder;
+
+    @Setup
+    public void setUp() {
+        registry = new StandardServiceRegistryBuilder()
+                .applySetting("hibernate.dialect", "org.hibernate.dialect.MySQLDialect")
+                .applySetting("hibernate.boot.allow_jdbc_metadata_access", "false")
+                .applySetting("hibernate.hbm2ddl.auto", "none")
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(CourtOwner.class)
+                .addAnnotatedClass(Court.class)
+                .addAnnotatedClass(CourtPricing.class)
+                .addAnnotatedClass(CourtDayLock.class)
+                .addAnnotatedClass(Booking.class)
+                .addAnnotatedClass(Discount.class)
+                .addAnnotatedClass(DiscountUsage.class)
+                .addAnnotatedClass(Transaction.class)
+                .addAnnotatedClass(Review.class)
+                .addAnnotatedClass(UserFavorite.class)
+                .addAnnotatedClass(TeamPost.class)
+                .addAnnotatedClass(TeamMember.class)
+                .addAnnotatedClass(Message.class)
+                .addAnnotatedClass(Notification.class)
+                .buildMetadata()
+                .buildSessionFactory();
+        criteriaBuilder = sessionFactory.getCriteriaBuilder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+    }
+
+    @Benchmark
+    public Predicate keywordOnly() {
+        return toPredicate(CourtSpecification.buildSearchSpecification(
+                "cầu lông", null, null, null, null, null, null));
+    }
+
+    @Benchmark
+    public Predicate allFilters() {
+        return toPredicate(CourtSpecification.buildSearchSpecification(
+                "cầu lông", "BADMINTON", new BigDecimal("3.5"), new BigDecimal("5.0"), 10, 1L,
+                Court.CourtStatus.ACTIVE));
+    }
+
+    @Benchmark
+    public Predicate withinBounds() {
+        return toPredicate(CourtSpecification.isActive()
+                .and(CourtSpecification.withinBounds(new BigDecimal("10.6"), new BigDecimal("10.9"),
+                        new BigDecimal("106.5"), new BigDecimal("106.9"))));
+    }
+
+    private Predicate toPredicate(Specification<Court> spec) {
+        CriteriaQuery<Court> query = criteriaBuilder.createQuery(Court.class);
+        Root<Court> root = query.from(Court.class);
+        return spec.toPredicate(root, query, criteriaBuilder);
+    }
+}
@@ -0,0 +1,82 @@
+package com.badminton.courtmanagement.benchmark;
+
+import com.badminton.courtmanagement.dto.CourtSuggestionDto;
+import com.badminton.courtmanagement.entity.Court;
+import com.badminton.courtmanagement.repository.CourtRepository;
+import com.badminton.courtmanagement.service.CourtSuggestIndex;
+import com.badminton.courtmanagement.service.impl.CourtSuggestIndexImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One keystroke of the search box against the suggest trie. Prefixes are typed without
+ * diacritics, as most users do on mobile keyboards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CourtSuggestBenchmark {
+
+    private static final int LIMIT = 8;
+
+    @Param({"1000", "10000"})
+    private int courtCount;
+
+    @Param({"s", "san cau", "quan 1", "ho chi"})
+    private String prefix;
+
+    private CourtSuggestIndex index;
+
+    @Setup
+    public void setUp() {
+        CourtSuggestIndexImpl suggestIndex = new CourtSuggestIndexImpl(
+                suggestEntriesRepository(BenchmarkData.courts(courtCount, 11)));
+        suggestIndex.rebuild();
+        index = suggestIndex;
+    }
+
+    @Benchmark
+    public List<CourtSuggestionDto> suggest() {
+        return index.suggest(prefix, LIMIT);
+    }
+
+    /**
+     * Repository stand-in that answers only the projection the suggest index loads on rebuild
+     */
+    private static CourtRepository suggestEntriesRepository(List<Court> courts) {
+        List<Object[]> rows = courts.stream()
+                .map(court -> new Object[]{court.getId(), court.getName(), court.getCity(),
+                        court.getDistrict(), court.getAverageRating(), court.getTotalReviews()})
+                .toList();
+        return (CourtRepository) Proxy.newProxyInstance(
+                CourtRepository.class.getClassLoader(),
+                new Class<?>[]{CourtRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findActiveSuggestEntries")) {
+                        return rows;
+                    }
+                    if (method.getDeclaringClass() == Object.class) {
+                        return method.getName().equals("toString") ? "SuggestEntriesRepository"
+                                : method.getName().equals("hashCode") ? System.identityHashCode(proxy)
+                                : proxy == args[0];
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,109 @@
+package com.badminton.courtmanagement.benchmark;
+
+import com.badminton.courtmanagement.service.DistanceService;
+import com.badminton.courtmanagement.service.impl.DistanceServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DistanceServiceImpl: single pair (BigDecimal and primitive) and the batch pass used by the geo index.
+ * {@code legacyCacheKeyAndValue} measures only the client-side work the old Redis-cached path did
+ * per call (string key plus JDK serialization), without the network round trip, as a lower bound.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DistanceBenchmark {
+
+    private static final int POINTS = 1000;
+
+    private DistanceService distanceService;
+    private double[] lats;
+    private double[] lons;
+    private double[] out;
+    private BigDecimal originLat;
+    private BigDecimal originLng;
+    private BigDecimal targetLat;
+    private BigDecimal targetLng;
+
+    @Setup
+    public void setUp() {
+        distanceService = new DistanceServiceImpl();
+        Random random = new Random(17);
+        lats = new double[POINTS];
+        lons = new double[POINTS];
+        out = new double[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            lats[i] = BenchmarkData.ORIGIN_LAT + (random.nextDouble() - 0.5) * 0.6;
+            lons[i] = BenchmarkData.ORIGIN_LNG + (random.nextDouble() - 0.5) * 0.6;
+        }
+        originLat = BigDecimal.valueOf(BenchmarkData.ORIGIN_LAT);
+        originLng = BigDecimal.valueOf(BenchmarkData.ORIGIN_LNG);
+        targetLat = BigDecimal.valueOf(lats[0]);
+        targetLng = BigDecimal.valueOf(lons[0]);
+    }
+
+    @Benchmark
+    public double singleBigDecimal() {
+        return distanceService.calculateDistance(originLat, originLng, targetLat, targetLng);
+    }
+
+    @Benchmark
+    public double singlePrimitive() {
+        return distanceService.calculateDistance(BenchmarkData.ORIGIN_LAT, BenchmarkData.ORIGIN_LNG, lats[0], lons[0]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public double[] batch() {
+        distanceService.calculateDistances(BenchmarkData.ORIGIN_LAT, BenchmarkData.ORIGIN_LNG, lats, lons, out, POINTS);
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public void loopOfSingles(Blackhole blackhole) {
+        for (int i = 0; i < POINTS; i++) {
+            blackhole.consume(distanceService.calculateDistance(
+                    BenchmarkData.ORIGIN_LAT, BenchmarkData.ORIGIN_LNG, lats[i], lons[i]));
+        }
+    }
+
+    @Benchmark
+    public byte[] legacyCacheKeyAndValue() {
+        String key = "distance::" + originLat + "_" + originLng + "_" + targetLat + "_" + targetLng;
+        double distance = distanceService.calculateDistance(originLat, originLng, targetLat, targetLng);
+        return serialize(new Object[]{key, distance});
+    }
+
+    private static byte[] serialize(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (ObjectOutputStream stream = new ObjectOutputStream(bytes)) {
+            stream.writeObject(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
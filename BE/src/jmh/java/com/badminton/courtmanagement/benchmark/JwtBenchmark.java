@@ -0,0 +1,99 @@
+package com.badminton.courtmanagement.benchmark;
+
+import com.badminton.courtmanagement.config.AuthenticatedUser;
+import com.badminton.courtmanagement.config.JwtUtil;
+import com.badminton.courtmanagement.entity.User;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil token generation and parsing; a cache miss in JwtAuthenticationFilter costs one parseClaims
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private User user;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        BenchmarkData.inject(jwtUtil, "secretKey", secret());
+        BenchmarkData.inject(jwtUtil, "jwtExpiration", 3600000L);
+        BenchmarkData.inject(jwtUtil, "refreshExpiration", 86400000L);
+
+        user = User.builder()
+                .id(2L)
+                .email("user2@example.com")
+                .password("$2a$10$abcdefghijklmnopqrstuv")
+                .role(User.UserRole.USER)
+                .status(User.UserStatus.ACTIVE)
+                .build();
+        userDetails = AuthenticatedUser.of(user);
+        token = jwtUtil.generateToken(user);
+    }
+
+    /**
+     * The secret the application would use (jwt.secret / JWT_SECRET), else a random one of the
+     * same length; the HMAC cost only depends on the key length
+     */
+    private static String secret() {
+        String secret = System.getProperty("jwt.secret", System.getenv("JWT_SECRET"));
+        if (secret != null && !secret.isBlank()) {
+            return secret;
+        }
+        byte[] random = new byte[32];
+        new SecureRandom().nextBytes(random);
+        return Base64.getEncoder().withoutPadding().encodeToString(random);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtUtil.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtUtil.isTokenValid(token);
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return jwtUtil.parseClaims(token);
+    }
+
+    /**
+     * What JwtAuthenticationFilter used to do for an authenticated request (user lookup excluded)
+     */
+    @Benchmark
+    public boolean filterPath() {
+        String username = jwtUtil.extractUsername(token);
+        return username != null && jwtUtil.validateToken(token, userDetails);
+    }
+}
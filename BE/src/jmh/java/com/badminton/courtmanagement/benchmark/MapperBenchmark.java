@@ -0,0 +1,92 @@
+package com.badminton.courtmanagement.benchmark;
+
+import com.badminton.courtmanagement.dto.BookingDto;
+import com.badminton.courtmanagement.dto.CourtDto;
+import com.badminton.courtmanagement.dto.TeamPostDto;
+import com.badminton.courtmanagement.entity.Booking;
+import com.badminton.courtmanagement.entity.Court;
+import com.badminton.courtmanagement.entity.TeamPost;
+import com.badminton.courtmanagement.entity.User;
+import com.badminton.courtmanagement.mapper.BookingMapper;
+import com.badminton.courtmanagement.mapper.BookingMapperImpl;
+import com.badminton.courtmanagement.mapper.CourtMapper;
+import com.badminton.courtmanagement.mapper.CourtMapperImpl;
+import com.badminton.courtmanagement.mapper.TeamMemberMapperImpl;
+import com.badminton.courtmanagement.mapper.TeamPostMapper;
+import com.badminton.courtmanagement.mapper.TeamPostMapperImpl;
+import com.badminton.courtmanagement.mapper.UserMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generated MapStruct implementations, wired by hand the way Spring injects them
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private CourtMapper courtMapper;
+    private BookingMapper bookingMapper;
+    private TeamPostMapper teamPostMapper;
+
+    private Court court;
+    private List<Court> courtPage;
+    private Booking booking;
+    private TeamPost teamPost;
+
+    @Setup
+    public void setUp() {
+        UserMapperImpl userMapper = new UserMapperImpl();
+        TeamMemberMapperImpl teamMemberMapper = new TeamMemberMapperImpl();
+        BenchmarkData.inject(teamMemberMapper, "userMapper", userMapper);
+
+        TeamPostMapperImpl teamPostMapperImpl = new TeamPostMapperImpl();
+        BenchmarkData.inject(teamPostMapperImpl, "userMapper", userMapper);
+        BenchmarkData.inject(teamPostMapperImpl, "teamMemberMapper", teamMemberMapper);
+
+        courtMapper = new CourtMapperImpl();
+        bookingMapper = new BookingMapperImpl();
+        teamPostMapper = teamPostMapperImpl;
+
+        courtPage = BenchmarkData.courts(20, 3);
+        court = courtPage.get(1);
+        User user = BenchmarkData.user(2L);
+        booking = BenchmarkData.booking(court, user);
+        teamPost = BenchmarkData.teamPost(user, 6);
+    }
+
+    @Benchmark
+    public CourtDto courtToDto() {
+        return courtMapper.toDto(court);
+    }
+
+    @Benchmark
+    public List<CourtDto> courtPageToDtos() {
+        return courtMapper.toDtoList(courtPage);
+    }
+
+    @Benchmark
+    public BookingDto bookingToDto() {
+        return bookingMapper.toDto(booking);
+    }
+
+    @Benchmark
+    public TeamPostDto teamPostToDto() {
+        return teamPostMapper.toDto(teamPost);
+    }
+}
@@ -0,0 +1,152 @@
+package com.badminton.courtmanagement.benchmark;
+
+import com.badminton.courtmanagement.dto.CourtDto;
+import com.badminton.courtmanagement.entity.Court;
+import com.badminton.courtmanagement.entity.CourtPricing;
+import com.badminton.courtmanagement.mapper.CourtMapper;
+import com.badminton.courtmanagement.mapper.CourtMapperImpl;
+import com.badminton.courtmanagement.repository.CourtRepository;
+import com.badminton.courtmanagement.service.CourtGeoIndex;
+import com.badminton.courtmanagement.service.DistanceService;
+import com.badminton.courtmanagement.service.impl.CourtGeoIndexImpl;
+import com.badminton.courtmanagement.service.impl.DistanceServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Distance-ordered search paging with the database taken out of the picture.
+ * {@code legacyInMemoryPaging} reproduces what CourtServiceImpl.searchCourts did before the geo
+ * index: map every matching court, compute every distance, sort, then cut one page.
+ * {@code geoIndexPaging} is the current path: the index returns one page of ids and only that
+ * page is mapped.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchPagingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000", "10000"})
+    private int courtCount;
+
+    @Param({"0", "10"})
+    private int pageNumber;
+
+    private CourtMapper courtMapper;
+    private DistanceService distanceService;
+    private CourtGeoIndex geoIndex;
+    private List<Court> courts;
+    private Map<Long, Court> courtsById;
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+
+    @Setup
+    public void setUp() {
+        courtMapper = new CourtMapperImpl();
+        distanceService = new DistanceServiceImpl();
+        courts = BenchmarkData.courts(courtCount, 11);
+        courtsById = courts.stream().collect(Collectors.toMap(Court::getId, Function.identity()));
+        latitude = BigDecimal.valueOf(BenchmarkData.ORIGIN_LAT);
+        longitude = BigDecimal.valueOf(BenchmarkData.ORIGIN_LNG);
+
+        CourtGeoIndexImpl index = new CourtGeoIndexImpl(geoEntriesRepository(courts), distanceService);
+        index.rebuild();
+        geoIndex = index;
+    }
+
+    @Benchmark
+    public List<CourtDto> legacyInMemoryPaging() {
+        List<CourtDto> sorted = courts.stream()
+                .map(court -> {
+                    CourtDto dto = courtMapper.toDto(court);
+                    if (court.getLatitude() != null && court.getLongitude() != null) {
+                        dto.setDistance(distanceService.calculateDistance(
+                                latitude, longitude, court.getLatitude(), court.getLongitude()));
+                    }
+                    dto.setPrice(minPrice(court));
+                    return dto;
+                })
+                .sorted((c1, c2) -> {
+                    if (c1.getDistance() == null && c2.getDistance() == null) return 0;
+                    if (c1.getDistance() == null) return 1;
+                    if (c2.getDistance() == null) return -1;
+                    return Double.compare(c1.getDistance(), c2.getDistance());
+                })
+                .toList();
+
+        int start = pageNumber * PAGE_SIZE;
+        int end = Math.min(start + PAGE_SIZE, sorted.size());
+        return start < sorted.size() ? sorted.subList(start, end) : new ArrayList<>();
+    }
+
+    @Benchmark
+    public List<CourtDto> geoIndexPaging() {
+        CourtGeoIndex.Result result = geoIndex.search(BenchmarkData.ORIGIN_LAT, BenchmarkData.ORIGIN_LNG,
+                null, null, null, null, null, null, pageNumber * PAGE_SIZE, PAGE_SIZE);
+
+        List<CourtDto> page = new ArrayList<>(result.hits().size());
+        for (CourtGeoIndex.Hit hit : result.hits()) {
+            Court court = courtsById.get(hit.courtId());
+            CourtDto dto = courtMapper.toDto(court);
+            dto.setDistance(hit.distanceKm() != null ? Math.round(hit.distanceKm() * 100.0) / 100.0 : null);
+            page.add(dto);
+        }
+        return page;
+    }
+
+    private static BigDecimal minPrice(Court court) {
+        if (court.getPricings() == null || court.getPricings().isEmpty()) {
+            return null;
+        }
+        return court.getPricings().stream()
+                .map(CourtPricing::getBasePrice)
+                .min(BigDecimal::compareTo)
+                .orElse(null);
+    }
+
+    /**
+     * Repository stand-in that answers only the projection the geo index loads on rebuild
+     */
+    private static CourtRepository geoEntriesRepository(List<Court> courts) {
+        List<Object[]> rows = courts.stream()
+                .map(court -> new Object[]{court.getId(), court.getLatitude(), court.getLongitude(),
+                        court.getSportTypes(), court.getAverageRating(), minPrice(court)})
+                .toList();
+        return (CourtRepository) Proxy.newProxyInstance(
+                CourtRepository.class.getClassLoader(),
+                new Class<?>[]{CourtRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findActiveGeoEntries")) {
+                        return rows;
+                    }
+                    if (method.getDeclaringClass() == Object.class) {
+                        return method.getName().equals("toString") ? "GeoEntriesRepository"
+                                : method.getName().equals("hashCode") ? System.identityHashCode(proxy)
+                                : proxy == args[0];
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -1,14 +1,37 @@
 package com.badminton.courtmanagement.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.concurrent.Executor;
+
 @Configuration
+@EnableScheduling
 public class AppConfig {
     
+    /**
+     * Outbound HTTP clients, one per downstream, configured under outbound.http.<name>.*
+     */
+    @Bean
+    public DownstreamClients downstreamClients(Environment environment, MeterRegistry meterRegistry) {
+        // spring.threads.virtual.enabled on Java 21+ (virtual-threads profile): outbound calls run on virtual threads too
+        Executor executor = Threading.VIRTUAL.isActive(environment)
+                ? new VirtualThreadTaskExecutor("outbound-http-")
+                : null;
+        return new DownstreamClients(environment, meterRegistry, executor);
+    }
+    
+    /**
+     * Plain RestTemplate with the default pooled client and timeouts; prefer a named downstream client
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(DownstreamClients downstreamClients) {
+        return downstreamClients.get("default").getRestTemplate();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.badminton.courtmanagement.config;
+
+import com.badminton.courtmanagement.entity.User;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Principal of the current request. Built from access token claims, so services can read the
+ * user id and role without querying the users table.
+ */
+@Getter
+public class AuthenticatedUser implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final User.UserRole role;
+    private final User.UserStatus status;
+    private final int tokenVersion;
+    // Only set when loaded from the database for password login; never taken from a token
+    private final String password;
+    private final List<GrantedAuthority> authorities;
+
+    public AuthenticatedUser(Long id, String email, User.UserRole role, User.UserStatus status,
+                             int tokenVersion, String password) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.status = status;
+        this.tokenVersion = tokenVersion;
+        this.password = password;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    public static AuthenticatedUser of(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getRole(), user.getStatus(),
+                user.getTokenVersion() != null ? user.getTokenVersion() : 0, user.getPassword());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return status == User.UserStatus.ACTIVE;
+    }
+}
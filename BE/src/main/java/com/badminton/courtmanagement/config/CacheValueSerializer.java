@@ -0,0 +1,178 @@
+package com.badminton.courtmanagement.config;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Redis value serializer for the caches, in one of several wire formats. Jackson formats carry
+ * type ids so any cached object (DTOs, maps, primitive arrays) reads back as its own class.
+ * Payloads at least {@code compressionThreshold} bytes long are LZ4-compressed; every payload
+ * starts with a one-byte header saying which, so the threshold can change without flushing.
+ */
+public final class CacheValueSerializer implements RedisSerializer<Object> {
+
+    public enum Format {
+        JDK, JSON, SMILE, CBOR;
+
+        /**
+         * Case-insensitive lookup for property values such as "smile"
+         */
+        public static Format of(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private static final byte HEADER_RAW = 0;
+    private static final byte HEADER_LZ4 = 1;
+    private static final int LZ4_HEADER_LENGTH = 1 + Integer.BYTES;
+
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    private final Format format;
+    private final RedisSerializer<Object> delegate;
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor = LZ4.fastCompressor();
+    private final LZ4FastDecompressor decompressor = LZ4.fastDecompressor();
+
+    private CacheValueSerializer(Format format, RedisSerializer<Object> delegate, int compressionThreshold) {
+        this.format = format;
+        this.delegate = delegate;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    /**
+     * @param compressionThreshold smallest payload in bytes that gets compressed, 0 or less to never compress
+     */
+    public static CacheValueSerializer of(Format format, int compressionThreshold) {
+        RedisSerializer<Object> delegate = switch (format) {
+            case JDK -> new JdkSerializationRedisSerializer();
+            case JSON -> new JacksonSerializer(new JsonFactory());
+            // Repeated type ids and property names are written once and back-referenced afterwards
+            case SMILE -> new JacksonSerializer(SmileFactory.builder()
+                    .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                    .build());
+            case CBOR -> new JacksonSerializer(CBORFactory.builder()
+                    .enable(CBORGenerator.Feature.STRINGREF)
+                    .build());
+        };
+        return new CacheValueSerializer(format, delegate, compressionThreshold);
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        byte[] encoded = delegate.serialize(value);
+
+        if (compressionThreshold > 0 && encoded.length >= compressionThreshold) {
+            byte[] compressed = new byte[LZ4_HEADER_LENGTH + compressor.maxCompressedLength(encoded.length)];
+            int length = compressor.compress(encoded, 0, encoded.length, compressed, LZ4_HEADER_LENGTH);
+            // Incompressible payloads are stored raw rather than grown
+            if (length < encoded.length) {
+                ByteBuffer.wrap(compressed).put(HEADER_LZ4).putInt(encoded.length);
+                return Arrays.copyOf(compressed, LZ4_HEADER_LENGTH + length);
+            }
+        }
+
+        byte[] raw = new byte[encoded.length + 1];
+        raw[0] = HEADER_RAW;
+        System.arraycopy(encoded, 0, raw, 1, encoded.length);
+        return raw;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        byte[] encoded;
+        if (bytes[0] == HEADER_LZ4) {
+            if (bytes.length < LZ4_HEADER_LENGTH) {
+                throw new SerializationException("Truncated LZ4 cache payload");
+            }
+            int originalLength = ByteBuffer.wrap(bytes, 1, Integer.BYTES).getInt();
+            encoded = new byte[originalLength];
+            try {
+                decompressor.decompress(bytes, LZ4_HEADER_LENGTH, encoded, 0, originalLength);
+            } catch (RuntimeException e) {
+                throw new SerializationException("Corrupt LZ4 cache payload", e);
+            }
+        } else if (bytes[0] == HEADER_RAW) {
+            encoded = Arrays.copyOfRange(bytes, 1, bytes.length);
+        } else {
+            // Written by another format (e.g. before a format change): treat as a cache miss
+            throw new SerializationException("Unknown cache payload header " + bytes[0]);
+        }
+        return delegate.deserialize(encoded);
+    }
+
+    /**
+     * Jackson over any token format, with type ids restricted to application, JDK collection,
+     * time and number types
+     */
+    private static final class JacksonSerializer implements RedisSerializer<Object> {
+
+        private final ObjectMapper mapper;
+        private final ObjectWriter writer;
+
+        JacksonSerializer(JsonFactory factory) {
+            BasicPolymorphicTypeValidator validator = BasicPolymorphicTypeValidator.builder()
+                    .allowIfSubType("com.badminton.courtmanagement.")
+                    .allowIfSubType("java.util.")
+                    .allowIfSubType("java.time.")
+                    .allowIfSubType("java.math.")
+                    .allowIfSubType("java.lang.")
+                    .allowIfSubTypeIsArray()
+                    .build();
+            mapper = new ObjectMapper(factory)
+                    .registerModule(new JavaTimeModule())
+                    .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+            mapper.activateDefaultTyping(validator, ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+            // Writing the root as Object gives final roots (int[], String, LocalDate) a type id too
+            writer = mapper.writerFor(Object.class);
+        }
+
+        @Override
+        public byte[] serialize(Object value) throws SerializationException {
+            try {
+                return writer.writeValueAsBytes(value);
+            } catch (IOException e) {
+                throw new SerializationException("Could not write cache value: " + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public Object deserialize(byte[] bytes) throws SerializationException {
+            try {
+                return mapper.readValue(bytes, Object.class);
+            } catch (IOException e) {
+                throw new SerializationException("Could not read cache value: " + e.getMessage(), e);
+            }
+        }
+    }
+}
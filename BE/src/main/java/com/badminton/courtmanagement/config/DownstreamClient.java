@@ -0,0 +1,95 @@
+package com.badminton.courtmanagement.config;
+
+import com.badminton.courtmanagement.constants.ErrorConstants;
+import com.badminton.courtmanagement.exception.BusinessException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.retry.Retry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * One downstream HTTP service (Nominatim, VietQR...) behind its own pooled client, timeouts,
+ * bulkhead, retry and circuit breaker. Calls are wrapped as retry(circuit breaker(bulkhead(call))),
+ * so every attempt takes a bulkhead slot and counts towards the breaker. A full bulkhead or an
+ * open breaker fails fast with {@link ErrorConstants#DOWNSTREAM_UNAVAILABLE} instead of tying up
+ * the request thread. Each call is timed as {@code outbound.http.client.requests}.
+ */
+@Slf4j
+public class DownstreamClient {
+    
+    private final String name;
+    private final RestTemplate restTemplate;
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final Retry retry;
+    private final MeterRegistry meterRegistry;
+    
+    DownstreamClient(String name, RestTemplate restTemplate, Bulkhead bulkhead, CircuitBreaker circuitBreaker,
+                     Retry retry, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.restTemplate = restTemplate;
+        this.bulkhead = bulkhead;
+        this.circuitBreaker = circuitBreaker;
+        this.retry = retry;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    /**
+     * The underlying pooled RestTemplate, with timeouts but without bulkhead, retry or breaker
+     */
+    public RestTemplate getRestTemplate() {
+        return restTemplate;
+    }
+    
+    /**
+     * Run an idempotent request (GET, PUT...), retried with jittered backoff on I/O errors, 5xx and 429
+     */
+    public <T> T call(Function<RestTemplate, T> request) {
+        return execute(Retry.decorateSupplier(retry, guarded(request)));
+    }
+    
+    /**
+     * Run a request that must not be repeated (e.g. a POST that creates something)
+     */
+    public <T> T callOnce(Function<RestTemplate, T> request) {
+        return execute(guarded(request));
+    }
+    
+    private <T> Supplier<T> guarded(Function<RestTemplate, T> request) {
+        return CircuitBreaker.decorateSupplier(circuitBreaker,
+                Bulkhead.decorateSupplier(bulkhead, () -> request.apply(restTemplate)));
+    }
+    
+    private <T> T execute(Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "SUCCESS";
+        try {
+            return call.get();
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            outcome = "REJECTED";
+            log.warn("Downstream {} rejected call: {}", name, e.getMessage());
+            throw new BusinessException(ErrorConstants.DOWNSTREAM_UNAVAILABLE, ErrorConstants.SERVICE_UNAVAILABLE, e);
+        } catch (RuntimeException e) {
+            outcome = "ERROR";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("outbound.http.client.requests")
+                    .description("Outbound HTTP calls per downstream, including retries")
+                    .tag("downstream", name)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.badminton.courtmanagement.config;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+/**
+ * Creates and holds one {@link DownstreamClient} per downstream name. Settings are read from
+ * {@code outbound.http.<name>.*}, falling back to {@code outbound.http.default.*}. Each downstream
+ * gets its own JDK HttpClient: connections are pooled and kept alive per client, the I/O itself is
+ * non-blocking, and a slow downstream cannot exhaust another one's connections.
+ */
+@Slf4j
+public class DownstreamClients {
+    
+    private static final String PREFIX = "outbound.http.";
+    private static final String DEFAULTS = "default";
+    
+    // Failures worth retrying and counting towards the breaker; other 4xx are the caller's fault
+    private static final Predicate<Throwable> DOWNSTREAM_FAILURE = e -> e instanceof ResourceAccessException
+            || e instanceof HttpServerErrorException
+            || e instanceof HttpClientErrorException.TooManyRequests;
+    
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final Executor executor;
+    private final BulkheadRegistry bulkheads = BulkheadRegistry.ofDefaults();
+    private final CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.ofDefaults();
+    private final RetryRegistry retries = RetryRegistry.ofDefaults();
+    private final ConcurrentMap<String, DownstreamClient> clients = new ConcurrentHashMap<>();
+    
+    /**
+     * @param executor runs the HTTP clients' async work and response handling; null for the JDK default pool
+     */
+    public DownstreamClients(Environment environment, MeterRegistry meterRegistry, Executor executor) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.executor = executor;
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(meterRegistry);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(meterRegistry);
+        TaggedRetryMetrics.ofRetryRegistry(retries).bindTo(meterRegistry);
+    }
+    
+    public DownstreamClient get(String name) {
+        return clients.computeIfAbsent(name, this::create);
+    }
+    
+    private DownstreamClient create(String name) {
+        Duration connectTimeout = Duration.ofMillis(setting(name, "connect-timeout-ms", 2000L));
+        Duration readTimeout = Duration.ofMillis(setting(name, "read-timeout-ms", 5000L));
+        
+        HttpClient.Builder httpClientBuilder = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL);
+        if (executor != null) {
+            httpClientBuilder.executor(executor);
+        }
+        HttpClient httpClient = httpClientBuilder.build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        
+        BulkheadConfig bulkheadConfig = BulkheadConfig.custom()
+                .maxConcurrentCalls(setting(name, "max-concurrent-calls", 20))
+                .maxWaitDuration(Duration.ofMillis(setting(name, "bulkhead-max-wait-ms", 100L)))
+                .build();
+        
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .slidingWindowSize(setting(name, "circuit-breaker.window-size", 20))
+                .minimumNumberOfCalls(setting(name, "circuit-breaker.minimum-calls", 10))
+                .failureRateThreshold(setting(name, "circuit-breaker.failure-rate-threshold", 50f))
+                .waitDurationInOpenState(Duration.ofMillis(setting(name, "circuit-breaker.open-state-ms", 30000L)))
+                .permittedNumberOfCallsInHalfOpenState(setting(name, "circuit-breaker.half-open-calls", 3))
+                .recordException(DOWNSTREAM_FAILURE)
+                .build();
+        
+        // Exponential backoff with +/-50% jitter so callers that failed together do not retry together
+        RetryConfig retryConfig = RetryConfig.custom()
+                .maxAttempts(setting(name, "retry.max-attempts", 3))
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(
+                        Duration.ofMillis(setting(name, "retry.initial-backoff-ms", 200L)), 2.0, 0.5))
+                .retryOnException(DOWNSTREAM_FAILURE)
+                .build();
+        
+        log.info("Outbound HTTP client {}: connect {} read {} concurrency {}", name, connectTimeout, readTimeout,
+                bulkheadConfig.getMaxConcurrentCalls());
+        return new DownstreamClient(name,
+                new RestTemplate(requestFactory),
+                bulkheads.bulkhead(name, bulkheadConfig),
+                circuitBreakers.circuitBreaker(name, circuitBreakerConfig),
+                retries.retry(name, retryConfig),
+                meterRegistry);
+    }
+    
+    private <T> T setting(String name, String key, T defaultValue) {
+        @SuppressWarnings("unchecked")
+        Class<T> type = (Class<T>) defaultValue.getClass();
+        T fallback = environment.getProperty(PREFIX + DEFAULTS + "." + key, type, defaultValue);
+        return environment.getProperty(PREFIX + name + "." + key, type, fallback);
+    }
+}
@@ -1,27 +1,72 @@
 package com.badminton.courtmanagement.config;
 
+import com.badminton.courtmanagement.entity.User;
+import com.badminton.courtmanagement.service.TokenVersionService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserDetailsService userDetailsService;
+    private final TokenVersionService tokenVersionService;
+
+    @Value("${jwt.auth-cache.max-size:10000}")
+    private long authCacheMaxSize;
+
+    @Value("${jwt.auth-cache.ttl-seconds:300}")
+    private long authCacheTtlSeconds;
+
+    // Verified token -> principal; an entry never outlives the token it was built from
+    private Cache<String, VerifiedToken> verifiedTokens;
+
+    @PostConstruct
+    void initCache() {
+        long ttlNanos = TimeUnit.SECONDS.toNanos(authCacheTtlSeconds);
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(authCacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String token, VerifiedToken value, long currentTime) {
+                        long untilExpiry = TimeUnit.MILLISECONDS.toNanos(value.expiresAtMillis() - System.currentTimeMillis());
+                        return Math.max(Math.min(ttlNanos, untilExpiry), 0);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
 
     @Override
     protected void doFilterInternal(
@@ -31,21 +76,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         
         final String authHeader = request.getHeader("Authorization");
-        final String jwt;
-        final String userEmail;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        jwt = authHeader.substring(7);
-        userEmail = jwtUtil.extractUsername(jwt);
+        final String jwt = authHeader.substring(7);
 
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-            
-            if (jwtUtil.validateToken(jwt, userDetails)) {
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails = resolvePrincipal(jwt);
+
+            if (userDetails != null && userDetails.isEnabled() && isCurrentVersion(userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -57,4 +99,70 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
-} 
\ No newline at end of file
+
+    /**
+     * Principal for a token, from the cache or from a single verified parse.
+     * Returns null when the token is invalid or expired.
+     */
+    private UserDetails resolvePrincipal(String jwt) {
+        VerifiedToken cached = verifiedTokens.getIfPresent(jwt);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return cached.principal();
+        }
+
+        Claims claims;
+        try {
+            claims = jwtUtil.parseClaims(jwt);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Rejected JWT: {}", e.getMessage());
+            return null;
+        }
+
+        UserDetails principal;
+        try {
+            principal = principalOf(claims);
+        } catch (IllegalArgumentException e) {
+            log.debug("JWT principal could not be resolved for {}: {}", claims.getSubject(), e.getMessage());
+            return null;
+        }
+
+        verifiedTokens.put(jwt, new VerifiedToken(principal, claims.getExpiration().getTime()));
+        return principal;
+    }
+
+    private UserDetails principalOf(Claims claims) {
+        Long userId = claims.get(JwtUtil.CLAIM_USER_ID, Long.class);
+        String role = claims.get(JwtUtil.CLAIM_ROLE, String.class);
+        String status = claims.get(JwtUtil.CLAIM_STATUS, String.class);
+        Integer tokenVersion = claims.get(JwtUtil.CLAIM_TOKEN_VERSION, Integer.class);
+
+        // Tokens issued before these claims were embedded cannot be checked against the user's
+        // token version, so they could never be revoked; their holders have to sign in again
+        if (userId == null || role == null || status == null || tokenVersion == null) {
+            throw new IllegalArgumentException("token predates the embedded user claims");
+        }
+
+        return new AuthenticatedUser(
+                userId,
+                claims.getSubject(),
+                User.UserRole.valueOf(role),
+                User.UserStatus.valueOf(status),
+                tokenVersion,
+                null
+        );
+    }
+
+    /**
+     * Reject tokens issued before the user's last status or password change
+     */
+    private boolean isCurrentVersion(UserDetails userDetails) {
+        if (!(userDetails instanceof AuthenticatedUser user)) {
+            return false;
+        }
+        Integer currentVersion = tokenVersionService.getCurrentVersion(user.getId());
+        return currentVersion != null && currentVersion == user.getTokenVersion();
+    }
+
+    private record VerifiedToken(UserDetails principal, long expiresAtMillis) {
+    }
+}
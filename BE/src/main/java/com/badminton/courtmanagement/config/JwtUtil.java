@@ -1,7 +1,9 @@
 package com.badminton.courtmanagement.config;
 
+import com.badminton.courtmanagement.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
@@ -15,6 +17,11 @@ import java.util.function.Function;
 @Component
 public class JwtUtil {
 
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_STATUS = "status";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
     // Generated randomly for security (256-bit minimum, base64-encoded)
     @Value("${jwt.secret:7Y2b3X9kPqWvT8mZ6nL4rJ2xF5hC0tA9sD1gB8eQ3}")
     private String secretKey;
@@ -27,9 +34,30 @@ public class JwtUtil {
     @Value("${jwt.refresh-expiration:86400000}")
     private Long refreshExpiration;
 
+    // Built once; both the key and the parser are immutable and thread-safe
+    private Key signingKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
     private Key getSigningKey() {
-        byte[] keyBytes = secretKey.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+        if (signingKey == null) {
+            init();
+        }
+        return signingKey;
+    }
+
+    private JwtParser getParser() {
+        if (jwtParser == null) {
+            init();
+        }
+        return jwtParser;
     }
 
     public String extractUsername(String token) {
@@ -45,26 +73,39 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
+    /**
+     * Verify the signature and expiry in a single parse and return the claims.
+     * Throws {@link JwtException} (including {@link ExpiredJwtException}) when the token is not valid.
+     */
+    public Claims parseClaims(String token) {
+        return getParser()
                 .parseClaimsJws(token)
                 .getBody();
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private Claims extractAllClaims(String token) {
+        return parseClaims(token);
     }
 
-    public String generateToken(UserDetails userDetails) {
+    /**
+     * Tokens are only minted for a loaded user, so every one carries the claims and the token
+     * version that revocation checks rely on
+     */
+    public String generateToken(User user) {
+        AuthenticatedUser principal = AuthenticatedUser.of(user);
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userDetails.getUsername(), jwtExpiration);
+        claims.put(CLAIM_USER_ID, principal.getId());
+        claims.put(CLAIM_ROLE, principal.getRole().name());
+        claims.put(CLAIM_STATUS, principal.getStatus().name());
+        claims.put(CLAIM_TOKEN_VERSION, principal.getTokenVersion());
+        return createToken(claims, principal.getEmail(), jwtExpiration);
     }
 
-    public String generateRefreshToken(UserDetails userDetails) {
+    public String generateRefreshToken(User user) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userDetails.getUsername(), refreshExpiration);
+        claims.put(CLAIM_USER_ID, user.getId());
+        claims.put(CLAIM_TOKEN_VERSION, user.getTokenVersion() != null ? user.getTokenVersion() : 0);
+        return createToken(claims, user.getEmail(), refreshExpiration);
     }
 
     private String createToken(Map<String, Object> claims, String subject, Long expiration) {
@@ -78,14 +119,18 @@ public class JwtUtil {
     }
 
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        try {
+            // The parser already rejects expired tokens, so one parse covers both checks
+            return userDetails.getUsername().equals(parseClaims(token).getSubject());
+        } catch (JwtException | IllegalArgumentException e) {
+            return false;
+        }
     }
 
     public Boolean isTokenValid(String token) {
         try {
-            extractAllClaims(token);
-            return !isTokenExpired(token);
+            parseClaims(token);
+            return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
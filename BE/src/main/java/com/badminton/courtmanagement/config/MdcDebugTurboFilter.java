@@ -0,0 +1,31 @@
+package com.badminton.courtmanagement.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * Logback turbo filter that enables DEBUG for application loggers on requests that
+ * {@link RequestIdFilter} marked for sampling, leaving every other request at the configured
+ * level. It runs before the level check on every log call, so it only reads the MDC for DEBUG
+ * events and answers NEUTRAL otherwise.
+ */
+public class MdcDebugTurboFilter extends TurboFilter {
+
+    private String loggerPrefix = "com.badminton.courtmanagement";
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level != Level.DEBUG || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        return "true".equals(MDC.get(RequestIdFilter.MDC_DEBUG)) ? FilterReply.ACCEPT : FilterReply.NEUTRAL;
+    }
+}
@@ -0,0 +1,48 @@
+package com.badminton.courtmanagement.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Per-request SQL statement budget. A request that prepares more statements than the budget is
+ * logged as a warning. Off by default: ListingQueryCountTest guards the listings at build time,
+ * and this is only meant for chasing a regression on a running instance.
+ */
+@Component
+@ConditionalOnProperty(name = "jpa.query-budget.enabled", havingValue = "true")
+@Slf4j
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    @Value("${jpa.query-budget.max-statements:15}")
+    private int maxStatements;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        QueryCountInspector.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = QueryCountInspector.stop();
+            if (statements > maxStatements) {
+                log.warn("{} {} executed {} SQL statements (budget {})",
+                        request.getMethod(), request.getRequestURI(), statements, maxStatements);
+            } else {
+                log.debug("{} {} executed {} SQL statements", request.getMethod(), request.getRequestURI(), statements);
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.badminton.courtmanagement.config;
+
+import com.badminton.courtmanagement.utils.SecurityUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Remembers which users committed a read-write transaction in the last {@code window}, so their
+ * reads stay on the primary until the replicas have caught up with their own changes. The mark is
+ * kept locally and in Redis, so it also holds when the next request lands on another node; Redis
+ * is asked at most once per request, and a Redis failure routes the read to the primary.
+ */
+@Slf4j
+public class ReadYourWritesTracker implements TransactionExecutionListener, BooleanSupplier {
+
+    private static final String KEY_PREFIX = "db:recent-write:";
+    private static final String REQUEST_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".sticky";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration window;
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(StringRedisTemplate redisTemplate, Duration window, long maxSize) {
+        this.redisTemplate = redisTemplate;
+        this.window = window;
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    /**
+     * Mark the current user once their read-write transaction has committed
+     */
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        if (commitFailure != null || !transaction.isNewTransaction() || transaction.isReadOnly()) {
+            return;
+        }
+        Long userId = SecurityUtils.getCurrentUserId();
+        if (userId == null) {
+            return;
+        }
+        recentWriters.put(userId, Boolean.TRUE);
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            request.setAttribute(REQUEST_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + userId, "1", window);
+        } catch (RuntimeException e) {
+            log.warn("Could not record recent write for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * Whether the current user's reads must go to the primary
+     */
+    @Override
+    public boolean getAsBoolean() {
+        Long userId = SecurityUtils.getCurrentUserId();
+        if (userId == null) {
+            return false;
+        }
+        if (recentWriters.getIfPresent(userId) != null) {
+            return true;
+        }
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request == null) {
+            return lookupRemote(userId);
+        }
+        Object sticky = request.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (sticky == null) {
+            sticky = lookupRemote(userId);
+            request.setAttribute(REQUEST_ATTRIBUTE, sticky, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Boolean) sticky;
+    }
+
+    private boolean lookupRemote(Long userId) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + userId));
+        } catch (RuntimeException e) {
+            log.debug("Recent write lookup failed for user {}, reading from primary: {}", userId, e.getMessage());
+            return true;
+        }
+    }
+}
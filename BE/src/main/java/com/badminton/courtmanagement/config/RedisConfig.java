@@ -1,21 +1,34 @@
 package com.badminton.courtmanagement.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.cache.BatchStrategies;
+import com.badminton.courtmanagement.constants.AppConstants;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Duration;
+import java.util.Map;
 
 @Configuration
 @EnableCaching
 public class RedisConfig {
 
+    private static final Duration DEFAULT_CACHE_TTL = Duration.ofSeconds(AppConstants.CACHE_TTL_LONG);
+
     @Bean
     public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
@@ -37,14 +50,67 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * Shared L2 cache; per-cache TTLs come from {@link #cacheTtls()}. Values use
+     * {@code cache.serializer.format} unless {@code cache.serializer.caches.<cache name>} picks another.
+     */
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory, Environment environment,
+                                               @Value("${cache.serializer.format:smile}") String defaultFormat,
+                                               @Value("${cache.serializer.compression-threshold-bytes:1024}") int compressionThreshold) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofHours(1)) // Cache distance calculations for 1 hour
-                .disableCachingNullValues();
+                .entryTtl(DEFAULT_CACHE_TTL)
+                .disableCachingNullValues()
+                .serializeValuesWith(valueSerializer(CacheValueSerializer.Format.of(defaultFormat), compressionThreshold));
+
+        // SCAN instead of KEYS when a whole cache is cleared, so a clear never blocks Redis
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(
+                        RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory, BatchStrategies.scan(1000)))
+                .cacheDefaults(config);
+        cacheTtls().forEach((name, ttl) -> {
+            String format = environment.getProperty("cache.serializer.caches." + name, defaultFormat);
+            builder.withCacheConfiguration(name, config.entryTtl(ttl)
+                    .serializeValuesWith(valueSerializer(CacheValueSerializer.Format.of(format), compressionThreshold)));
+        });
+        return builder.build();
+    }
+
+    /**
+     * Cache manager used by the services: in-process L1 in front of Redis, kept coherent across
+     * nodes by pub/sub invalidation
+     */
+    @Bean
+    @Primary
+    public TwoLevelCacheManager cacheManager(RedisCacheManager redisCacheManager,
+                                             StringRedisTemplate stringRedisTemplate,
+                                             @Value("${cache.local.max-size:10000}") long localMaxSize) {
+        return new TwoLevelCacheManager(redisCacheManager, stringRedisTemplate,
+                AppConstants.CACHE_INVALIDATION_CHANNEL, cacheTtls(), DEFAULT_CACHE_TTL, localMaxSize);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                           TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(AppConstants.CACHE_INVALIDATION_CHANNEL));
+        return container;
+    }
+
+    private static RedisSerializationContext.SerializationPair<Object> valueSerializer(CacheValueSerializer.Format format,
+                                                                                      int compressionThreshold) {
+        return RedisSerializationContext.SerializationPair.fromSerializer(
+                CacheValueSerializer.of(format, compressionThreshold));
+    }
 
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(config)
-                .build();
+    private static Map<String, Duration> cacheTtls() {
+        return Map.of(
+                AppConstants.CACHE_COURTS, Duration.ofSeconds(AppConstants.CACHE_TTL_MEDIUM),
+                AppConstants.CACHE_COURT_PRICING, Duration.ofSeconds(AppConstants.CACHE_TTL_LONG),
+                AppConstants.CACHE_USER_PROFILE, Duration.ofSeconds(AppConstants.CACHE_TTL_MEDIUM),
+                AppConstants.CACHE_TEAM_POSTS, Duration.ofSeconds(AppConstants.CACHE_TTL_SHORT),
+                AppConstants.CACHE_COURT_AVAILABILITY, Duration.ofSeconds(AppConstants.CACHE_TTL_SHORT),
+                AppConstants.CACHE_BOOKING_STATISTICS, Duration.ofSeconds(AppConstants.CACHE_TTL_VERY_SHORT),
+                AppConstants.CACHE_COURT_SEARCH, Duration.ofSeconds(AppConstants.CACHE_TTL_SHORT));
     }
-} 
\ No newline at end of file
+}
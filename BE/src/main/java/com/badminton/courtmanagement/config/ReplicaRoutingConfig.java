@@ -0,0 +1,125 @@
+package com.badminton.courtmanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replica routing, enabled with datasource.routing.enabled. The primary pool is built from
+ * spring.datasource.*; each URL in datasource.routing.replica-urls gets its own pool with the
+ * same Hikari and Connector/J settings.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Value("${datasource.routing.replica-username:${spring.datasource.username}}")
+    private String replicaUsername;
+
+    @Value("${datasource.routing.replica-password:${spring.datasource.password}}")
+    private String replicaPassword;
+
+    @Value("${datasource.routing.replica-pool-size:20}")
+    private int replicaPoolSize;
+
+    // Kept short: one unreachable replica must not delay the probe of the others past their max age
+    @Value("${datasource.routing.replica-connection-timeout-ms:1000}")
+    private long replicaConnectionTimeoutMs;
+
+    @Value("${datasource.routing.max-lag-seconds:2}")
+    private long maxLagSeconds;
+
+    @Value("${datasource.routing.lag-check-interval-ms:1000}")
+    private long lagCheckIntervalMs;
+
+    @Value("${datasource.routing.lag-query:SHOW REPLICA STATUS}")
+    private String lagQuery;
+
+    @Value("${datasource.routing.lag-column:Seconds_Behind_Source}")
+    private String lagColumn;
+
+    // Development only: a plain server without replication status stands in for a replica
+    @Value("${datasource.routing.allow-standalone-replicas:false}")
+    private boolean allowStandaloneReplicas;
+
+    @Value("${datasource.routing.sticky-window-ms:5000}")
+    private long stickyWindowMs;
+
+    @Value("${datasource.routing.sticky-max-users:100000}")
+    private long stickyMaxUsers;
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(StringRedisTemplate redisTemplate) {
+        return new ReadYourWritesTracker(redisTemplate, Duration.ofMillis(stickyWindowMs), stickyMaxUsers);
+    }
+
+    /**
+     * A bean of its own so its pools and probe thread are closed on shutdown; everything else
+     * uses the lazy proxy below
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties properties, Environment environment,
+                                                             ReadYourWritesTracker readYourWritesTracker,
+                                                             MeterRegistry meterRegistry) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (primary.getPoolName() == null) {
+            primary.setPoolName("court-management");
+        }
+        primary.setMetricRegistry(meterRegistry);
+
+        List<String> urls = binder.bind("datasource.routing.replica-urls", Bindable.listOf(String.class))
+                .orElse(List.of());
+        List<HikariDataSource> replicas = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            binder.bind("spring.datasource.hikari", Bindable.ofInstance(replica));
+            replica.setPoolName(primary.getPoolName() + "-replica-" + i);
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setJdbcUrl(urls.get(i));
+            replica.setUsername(replicaUsername);
+            replica.setPassword(replicaPassword);
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setMinimumIdle(replicaPoolSize);
+            replica.setConnectionTimeout(replicaConnectionTimeoutMs);
+            replica.setReadOnly(true);
+            replica.setMetricRegistry(meterRegistry);
+            replicas.add(replica);
+        }
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replicas,
+                Duration.ofSeconds(maxLagSeconds), Duration.ofMillis(lagCheckIntervalMs), readYourWritesTracker,
+                new ReplicaRoutingDataSource.LagQuery(lagQuery, lagColumn, allowStandaloneReplicas));
+        routing.getReplicaLag().keySet().forEach(name -> Gauge
+                .builder("db.replica.lag", routing, r -> r.getReplicaLag().getOrDefault(name, -1L))
+                .tag("replica", name)
+                .baseUnit("seconds")
+                .register(meterRegistry));
+        routing.start();
+        return routing;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
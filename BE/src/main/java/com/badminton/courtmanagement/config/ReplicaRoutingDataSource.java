@@ -0,0 +1,188 @@
+package com.badminton.courtmanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Sends read-only transactions to a replica and everything else to the primary. Only replicas
+ * whose last lag probe succeeded, came in under {@code maxLag} and is no older than two probe
+ * intervals are used; with none left, or while the current user is inside their read-your-writes
+ * window, reads go to the primary too. The probe runs on a thread of its own so that it neither
+ * waits behind the application's scheduled jobs nor holds them up when a replica is slow; a probe
+ * that hangs leaves its replica's measurement to age out.
+ * <p>
+ * The read-only flag is only set once the transaction has started, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, which defers picking
+ * the target until the first statement.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final Duration probeInterval;
+    // A measurement older than this is not trusted, whatever it said
+    private final long maxProbeAgeNanos;
+    private final BooleanSupplier readYourWrites;
+    private final LagQuery lagQuery;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService prober = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replica-lag-probe");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas, Duration maxLag,
+                                    Duration probeInterval, BooleanSupplier readYourWrites, LagQuery lagQuery) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.maxLag = maxLag;
+        this.probeInterval = probeInterval;
+        this.maxProbeAgeNanos = probeInterval.multipliedBy(2).toNanos();
+        this.readYourWrites = readYourWrites;
+        this.lagQuery = lagQuery;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        this.replicas.forEach(replica -> targets.put(replica.name, replica.dataSource));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || readYourWrites.getAsBoolean()) {
+            return PRIMARY;
+        }
+        // Round-robin over the replicas that are currently usable
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        long now = System.nanoTime();
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.usable && now - replica.probedAtNanos <= maxProbeAgeNanos) {
+                return replica.name;
+            }
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * Start probing every {@code probeInterval} on the dedicated thread
+     */
+    public void start() {
+        long intervalMillis = probeInterval.toMillis();
+        prober.scheduleWithFixedDelay(this::probeReplicasSafely, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Re-measure replication lag on every replica. Replicas start out unused until their first probe.
+     */
+    public void probeReplicas() {
+        for (Replica replica : replicas) {
+            boolean usable;
+            try {
+                replica.lagSeconds = measureLag(replica.dataSource, lagQuery);
+                usable = replica.lagSeconds >= 0 && replica.lagSeconds <= maxLag.toSeconds();
+            } catch (SQLException | RuntimeException e) {
+                replica.lagSeconds = -1;
+                usable = false;
+                log.debug("Lag probe on {} failed: {}", replica.name, e.getMessage());
+            }
+            if (usable && !replica.usable) {
+                log.info("Replica {} back in rotation (lag {}s)", replica.name, replica.lagSeconds);
+            } else if (!usable && replica.usable) {
+                log.warn("Replica {} out of rotation (lag {}s, limit {}s)", replica.name, replica.lagSeconds,
+                        maxLag.toSeconds());
+            }
+            replica.usable = usable;
+            replica.probedAtNanos = System.nanoTime();
+        }
+    }
+
+    // An exception escaping a scheduled task would cancel all later runs
+    private void probeReplicasSafely() {
+        try {
+            probeReplicas();
+        } catch (RuntimeException e) {
+            log.warn("Replica lag probe failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Lag in seconds per replica, -1 while replication is stopped or the replica is unreachable
+     */
+    public Map<String, Long> getReplicaLag() {
+        Map<String, Long> lag = new HashMap<>();
+        replicas.forEach(replica -> lag.put(replica.name, replica.lagSeconds));
+        return lag;
+    }
+
+    @Override
+    public void close() {
+        prober.shutdownNow();
+        replicas.forEach(replica -> replica.dataSource.close());
+        primary.close();
+    }
+
+    /**
+     * Seconds behind the source, -1 for a stopped replication thread. A server that reports no
+     * replication status at all is not replicating anything, so it is unusable as well unless
+     * standalone stand-ins (local development) are explicitly allowed
+     */
+    private static long measureLag(HikariDataSource dataSource, LagQuery lagQuery) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery.sql())) {
+            if (!rs.next()) {
+                return lagQuery.allowStandalone() ? 0 : -1;
+            }
+            long lag = rs.getLong(lagQuery.column());
+            return rs.wasNull() ? -1 : lag;
+        }
+    }
+
+    /**
+     * How lag is read: the status statement, its seconds-behind column, and whether an empty status
+     * counts as current
+     */
+    public record LagQuery(String sql, String column, boolean allowStandalone) {
+
+        // MySQL 8.0.22+; older servers need SHOW SLAVE STATUS / Seconds_Behind_Master
+        public static final LagQuery MYSQL = new LagQuery("SHOW REPLICA STATUS", "Seconds_Behind_Source", false);
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final HikariDataSource dataSource;
+        private volatile boolean usable;
+        private volatile long lagSeconds = -1;
+        private volatile long probedAtNanos;
+
+        private Replica(HikariDataSource dataSource) {
+            this.name = dataSource.getPoolName();
+            this.dataSource = dataSource;
+        }
+    }
+}
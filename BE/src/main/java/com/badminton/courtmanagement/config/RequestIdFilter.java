@@ -0,0 +1,68 @@
+package com.badminton.courtmanagement.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Tags every log line of a request with its id (taken from {@code X-Request-Id} or generated) and
+ * echoes the id back in the response. Requests whose id is listed in
+ * {@code logging.debug-sampling.request-ids}, plus a random {@code logging.debug-sampling.rate}
+ * share of all requests, are marked for DEBUG output, which {@link MdcDebugTurboFilter} lets
+ * through even when the logger level is INFO.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Request-Id";
+    public static final String MDC_REQUEST_ID = "requestId";
+    public static final String MDC_DEBUG = "debug";
+
+    // Client ids are echoed into logs and headers, so only short opaque tokens are accepted
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    @Value("${logging.debug-sampling.request-ids:}")
+    private Set<String> debugRequestIds;
+
+    @Value("${logging.debug-sampling.rate:0}")
+    private double debugRate;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        String requestId = request.getHeader(HEADER);
+        if (requestId == null || !VALID_ID.matcher(requestId).matches()) {
+            requestId = UUID.randomUUID().toString().substring(0, 8);
+        }
+        MDC.put(MDC_REQUEST_ID, requestId);
+        if (debugRequestIds.contains(requestId)
+                || (debugRate > 0 && ThreadLocalRandom.current().nextDouble() < debugRate)) {
+            MDC.put(MDC_DEBUG, "true");
+        }
+        response.setHeader(HEADER, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_REQUEST_ID);
+            MDC.remove(MDC_DEBUG);
+        }
+    }
+}
@@ -56,6 +56,9 @@ public class SecurityConfig {
                         ).permitAll()
                         // Admin endpoints
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        // Container health check; details stay hidden from anonymous callers
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         // Protected endpoints
                         .anyRequest().authenticated()
                 )
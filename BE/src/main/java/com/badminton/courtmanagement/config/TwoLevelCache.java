@@ -0,0 +1,147 @@
+package com.badminton.courtmanagement.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Cache backed by a bounded in-process Caffeine map (L1) in front of a shared Redis cache (L2).
+ * Reads try L1, then L2, and copy L2 hits into L1. Writes go to both levels and tell the other
+ * nodes to drop their L1 copy. Redis failures are logged and the cache keeps working from L1
+ * and the database, so callers never see a cache outage.
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final TwoLevelCacheManager.InvalidationPublisher publisher;
+
+    TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<String, Object> local, Cache remote,
+                  TwoLevelCacheManager.InvalidationPublisher publisher) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.publisher = publisher;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            return new SimpleValueWrapper(value);
+        }
+
+        ValueWrapper wrapper = getRemote(key);
+        if (wrapper != null && wrapper.get() != null) {
+            local.put(localKey, wrapper.get());
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        local.put(localKey(key), value);
+        try {
+            remote.put(key, value);
+        } catch (RuntimeException e) {
+            log.warn("Cache {} write to Redis failed: {}", name, e.getMessage());
+        }
+        publisher.evict(name, localKey(key));
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.invalidate(localKey(key));
+        try {
+            remote.evict(key);
+        } catch (RuntimeException e) {
+            log.warn("Cache {} eviction in Redis failed: {}", name, e.getMessage());
+        }
+        publisher.evict(name, localKey(key));
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        try {
+            remote.clear();
+        } catch (RuntimeException e) {
+            log.warn("Cache {} clear in Redis failed: {}", name, e.getMessage());
+        }
+        publisher.clear(name);
+    }
+
+    /**
+     * Drop an entry from this node only (another node changed it)
+     */
+    void evictLocal(String localKey) {
+        local.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    private ValueWrapper getRemote(Object key) {
+        try {
+            return remote.get(key);
+        } catch (RuntimeException e) {
+            log.warn("Cache {} read from Redis failed, falling back to source: {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Keys travel between nodes as strings, the same form Redis cache keys are rendered in
+     */
+    static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
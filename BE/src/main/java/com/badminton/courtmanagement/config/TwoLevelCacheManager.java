@@ -0,0 +1,116 @@
+package com.badminton.courtmanagement.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Hands out {@link TwoLevelCache}s over the Redis cache manager and keeps the L1 maps of all
+ * nodes coherent through Redis pub/sub: every local write or eviction is broadcast, and each
+ * node drops its own copy of the key when another node's message arrives. Messages are fire and
+ * forget; a node that misses one serves the stale entry for at most the cache TTL.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    private static final String OP_EVICT = "E";
+    private static final String OP_CLEAR = "C";
+    private static final String SEPARATOR = "|";
+
+    private final CacheManager remoteCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final Map<String, Duration> ttls;
+    private final Duration defaultTtl;
+    private final long localMaxSize;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private final InvalidationPublisher publisher = new InvalidationPublisher();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager, StringRedisTemplate redisTemplate, String channel,
+                                Map<String, Duration> ttls, Duration defaultTtl, long localMaxSize) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.ttls = Map.copyOf(ttls);
+        this.defaultTtl = defaultTtl;
+        this.localMaxSize = localMaxSize;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * Invalidation message from any node, including this one (own messages are ignored)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + SEPARATOR, 4);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        TwoLevelCache cache = caches.get(parts[2]);
+        if (cache == null) {
+            return;
+        }
+        if (OP_CLEAR.equals(parts[1])) {
+            cache.clearLocal();
+        } else if (OP_EVICT.equals(parts[1]) && parts.length == 4) {
+            cache.evictLocal(parts[3]);
+        }
+    }
+
+    private TwoLevelCache createCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            throw new IllegalStateException("No Redis cache configured for " + name);
+        }
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(ttls.getOrDefault(name, defaultTtl))
+                .build();
+        return new TwoLevelCache(name, local, remote, publisher);
+    }
+
+    /**
+     * Broadcasts L1 invalidations; a Redis outage only delays coherence, it never fails the caller
+     */
+    final class InvalidationPublisher {
+
+        void evict(String cacheName, String key) {
+            publish(String.join(SEPARATOR, nodeId, OP_EVICT, cacheName, key));
+        }
+
+        void clear(String cacheName) {
+            publish(String.join(SEPARATOR, nodeId, OP_CLEAR, cacheName));
+        }
+
+        private void publish(String message) {
+            try {
+                redisTemplate.convertAndSend(channel, message);
+            } catch (RuntimeException e) {
+                log.warn("Could not publish cache invalidation: {}", e.getMessage());
+            }
+        }
+    }
+}
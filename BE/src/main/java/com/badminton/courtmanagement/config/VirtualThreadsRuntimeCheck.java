@@ -0,0 +1,42 @@
+package com.badminton.courtmanagement.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+/**
+ * Refuses to start when spring.threads.virtual.enabled is set on a runtime older than Java 21.
+ * Spring Boot silently falls back to platform threads there, which would leave the
+ * virtual-threads profile's small Tomcat backlog and tight pool timeouts sized for a thread model
+ * that is not running. Runs after the config files and profiles have been loaded.
+ */
+public class VirtualThreadsRuntimeCheck implements EnvironmentPostProcessor, Ordered {
+
+    static final String PROPERTY = "spring.threads.virtual.enabled";
+    private static final int MIN_FEATURE_VERSION = 21;
+
+    private final int featureVersion;
+
+    public VirtualThreadsRuntimeCheck() {
+        this(Runtime.version().feature());
+    }
+
+    VirtualThreadsRuntimeCheck(int featureVersion) {
+        this.featureVersion = featureVersion;
+    }
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (featureVersion < MIN_FEATURE_VERSION && environment.getProperty(PROPERTY, Boolean.class, false)) {
+            throw new IllegalStateException(PROPERTY + "=true needs Java " + MIN_FEATURE_VERSION
+                    + " or newer, but this runtime is Java " + featureVersion
+                    + "; run on Java 21+ or drop the virtual-threads profile");
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -28,6 +28,14 @@ public final class AppConstants {
     public static final int BOOKING_SLOT_DURATION_MINUTES = 60;
     public static final int COURT_OPERATING_START_HOUR = 6;
     public static final int COURT_OPERATING_END_HOUR = 23;
+    public static final int BOOKING_LOCK_STRIPES = 256;
+    public static final long BOOKING_LOCK_TIMEOUT_SECONDS = 5;
+    public static final long BOOKING_LOCK_RETRY_MILLIS = 50;
+    public static final int AVAILABILITY_MAX_RANGE_DAYS = 31;
+    public static final int STATISTICS_DAILY_WINDOW_DAYS = 30;
+    public static final int STATISTICS_HEATMAP_WINDOW_DAYS = 90;
+    public static final int SEARCH_MAX_RANKED_HITS = 1000;
+    public static final int SEARCH_RANKED_BATCH_SIZE = 1000;
     
     // Rating
     public static final int MIN_RATING = 1;
@@ -42,13 +50,22 @@ public final class AppConstants {
     public static final String DEFAULT_BANK_BIN = "970422"; // MB Bank
     public static final String QR_TEMPLATE = "compact2";
     
+    // Outbound HTTP downstream names (settings under outbound.http.<name>.*)
+    public static final String DOWNSTREAM_NOMINATIM = "nominatim";
+    public static final String DOWNSTREAM_VIETQR = "vietqr";
+    
     // Cache keys
     public static final String CACHE_COURTS = "courts";
     public static final String CACHE_COURT_PRICING = "court_pricing";
     public static final String CACHE_USER_PROFILE = "user_profile";
     public static final String CACHE_TEAM_POSTS = "team_posts";
+    public static final String CACHE_COURT_AVAILABILITY = "court_availability";
+    public static final String CACHE_BOOKING_STATISTICS = "booking_statistics";
+    public static final String CACHE_COURT_SEARCH = "court_search";
+    public static final String CACHE_INVALIDATION_CHANNEL = "cache:invalidation";
     
     // Cache TTL (in seconds)
+    public static final long CACHE_TTL_VERY_SHORT = 60; // 1 minute
     public static final long CACHE_TTL_SHORT = 300; // 5 minutes
     public static final long CACHE_TTL_MEDIUM = 1800; // 30 minutes
     public static final long CACHE_TTL_LONG = 3600; // 1 hour
@@ -17,6 +17,7 @@ public final class ErrorConstants {
     public static final String COURT_NOT_FOUND = "COURT_NOT_FOUND";
     public static final String COURT_INACTIVE = "COURT_INACTIVE";
     public static final String COURT_OWNER_NOT_FOUND = "COURT_OWNER_NOT_FOUND";
+    public static final String AVAILABILITY_RANGE_TOO_LONG = "AVAILABILITY_RANGE_TOO_LONG";
     
     // Booking errors
     public static final String BOOKING_NOT_FOUND = "BOOKING_NOT_FOUND";
@@ -25,6 +26,8 @@ public final class ErrorConstants {
     public static final String BOOKING_INVALID_TIME = "BOOKING_INVALID_TIME";
     public static final String BOOKING_ALREADY_PAID = "BOOKING_ALREADY_PAID";
     public static final String BOOKING_CANNOT_CANCEL = "BOOKING_CANNOT_CANCEL";
+    public static final String BOOKING_SLOT_BUSY = "BOOKING_SLOT_BUSY";
+    public static final String BOOKING_SLOT_NOT_PRICED = "BOOKING_SLOT_NOT_PRICED";
     
     // Payment errors
     public static final String PAYMENT_FAILED = "PAYMENT_FAILED";
@@ -75,6 +78,7 @@ public final class ErrorConstants {
     public static final String VALIDATION_ERROR = "VALIDATION_ERROR";
     public static final String CONSTRAINT_VIOLATION = "CONSTRAINT_VIOLATION";
     public static final String INVALID_INPUT = "INVALID_INPUT";
+    public static final String INVALID_CURSOR = "INVALID_CURSOR";
     public static final String REQUIRED_FIELD_MISSING = "REQUIRED_FIELD_MISSING";
     
     // System errors
@@ -82,6 +86,8 @@ public final class ErrorConstants {
     public static final String SERVICE_UNAVAILABLE = "SERVICE_UNAVAILABLE";
     public static final String DATABASE_ERROR = "DATABASE_ERROR";
     public static final String EXTERNAL_SERVICE_ERROR = "EXTERNAL_SERVICE_ERROR";
+    public static final String GEOCODING_RATE_LIMITED = "GEOCODING_RATE_LIMITED";
+    public static final String DOWNSTREAM_UNAVAILABLE = "DOWNSTREAM_UNAVAILABLE";
     
     private ErrorConstants() {
         // Prevent instantiation
@@ -4,6 +4,7 @@ import com.badminton.courtmanagement.dto.*;
 import com.badminton.courtmanagement.entity.User;
 import com.badminton.courtmanagement.service.CourtService;
 import com.badminton.courtmanagement.service.AuthService;
+import com.badminton.courtmanagement.service.DashboardStatsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -15,7 +16,6 @@ import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
 import java.math.BigDecimal;
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -27,24 +27,14 @@ public class AdminController {
 
     private final CourtService courtService;
     private final AuthService authService;
+    private final DashboardStatsService dashboardStatsService;
 
     // =========================== DASHBOARD STATS ===========================
     
     @GetMapping("/dashboard/stats")
     @Operation(summary = "Lấy thống kê tổng quan", description = "Lấy thống kê dashboard cho admin")
     public ApiResponse<Map<String, Object>> getDashboardStats() {
-        Map<String, Object> stats = Map.of(
-            "totalCourts", 25,
-            "activeCourts", 22,
-            "totalUsers", 150,
-            "totalBookings", 340,
-            "monthlyRevenue", 15000000,
-            "popularSports", List.of(
-                Map.of("name", "Cầu lông", "count", 18),
-                Map.of("name", "Pickleball", "count", 7)
-            )
-        );
-        return ApiResponse.success(stats);
+        return ApiResponse.success(dashboardStatsService.getDashboardStats());
     }
 
     // =========================== COURT MANAGEMENT ===========================
@@ -58,7 +48,7 @@ public class AdminController {
         
         // For now, use the existing searchCourts method
         PageResponse<CourtDto> courts = courtService.searchCourts(
-            keyword, null, null, null, null, null, pageable);
+            keyword, null, null, null, null, null, null, null, null, pageable);
         return ApiResponse.success(courts);
     }
 
@@ -60,6 +60,18 @@ public class BookingController {
         return ApiResponse.success(bookings);
     }
     
+    @GetMapping("/my-bookings/cursor")
+    @Operation(summary = "Lấy booking của tôi theo cursor", security = @SecurityRequirement(name = "bearerAuth"))
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ApiResponse<CursorPageResponse<BookingDto>> getMyBookingsByCursor(
+            @Parameter(description = "Cursor từ trang trước") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Kích thước trang") @RequestParam(defaultValue = "20") int size) {
+        
+        log.debug("Getting my bookings after cursor: {}", cursor);
+        CursorPageResponse<BookingDto> bookings = bookingService.getMyBookingsByCursor(cursor, size);
+        return ApiResponse.success(bookings);
+    }
+    
     @GetMapping("/user/{userId}")
     @Operation(summary = "Lấy booking theo user ID", security = @SecurityRequirement(name = "bearerAuth"))
     @PreAuthorize("hasRole('ADMIN')")
@@ -96,6 +108,19 @@ public class BookingController {
         return ApiResponse.success(bookings);
     }
     
+    @GetMapping("/owner/{ownerId}/cursor")
+    @Operation(summary = "Lấy booking theo chủ sân theo cursor", security = @SecurityRequirement(name = "bearerAuth"))
+    @PreAuthorize("hasRole('COURT_OWNER') or hasRole('ADMIN')")
+    public ApiResponse<CursorPageResponse<BookingDto>> getBookingsByOwnerByCursor(
+            @Parameter(description = "ID chủ sân") @PathVariable Long ownerId,
+            @Parameter(description = "Cursor từ trang trước") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Kích thước trang") @RequestParam(defaultValue = "20") int size) {
+        
+        log.debug("Getting bookings by owner id: {} after cursor: {}", ownerId, cursor);
+        CursorPageResponse<BookingDto> bookings = bookingService.getBookingsByOwnerByCursor(ownerId, cursor, size);
+        return ApiResponse.success(bookings);
+    }
+    
     @PatchMapping("/{id}/status")
     @Operation(summary = "Cập nhật trạng thái booking", security = @SecurityRequirement(name = "bearerAuth"))
     @PreAuthorize("hasRole('COURT_OWNER') or hasRole('ADMIN')")
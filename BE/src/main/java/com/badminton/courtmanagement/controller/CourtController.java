@@ -1,21 +1,27 @@
 package com.badminton.courtmanagement.controller;
 
 import com.badminton.courtmanagement.dto.ApiResponse;
+import com.badminton.courtmanagement.dto.CourtAvailabilityDto;
 import com.badminton.courtmanagement.dto.PageResponse;
 import com.badminton.courtmanagement.dto.CourtDto;
+import com.badminton.courtmanagement.dto.CourtSuggestionDto;
+import com.badminton.courtmanagement.service.CourtAvailabilityService;
 import com.badminton.courtmanagement.service.CourtService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping("/api/courts")
@@ -24,6 +30,7 @@ import java.math.BigDecimal;
 public class CourtController {
 
     private final CourtService courtService;
+    private final CourtAvailabilityService courtAvailabilityService;
 
     @GetMapping
     @Operation(summary = "Lấy danh sách sân", description = "Lấy danh sách tất cả sân cầu lông với phân trang")
@@ -95,13 +102,27 @@ public class CourtController {
             @Parameter(description = "Vĩ độ (để tính khoảng cách)") @RequestParam(required = false) BigDecimal latitude,
             @Parameter(description = "Kinh độ (để tính khoảng cách)") @RequestParam(required = false) BigDecimal longitude,
             @Parameter(description = "Bán kính tìm kiếm (km)") @RequestParam(required = false) Double radiusKm,
+            @Parameter(description = "Giá khởi điểm tối thiểu") @RequestParam(required = false) BigDecimal minPrice,
+            @Parameter(description = "Giá khởi điểm tối đa") @RequestParam(required = false) BigDecimal maxPrice,
+            @Parameter(description = "Sắp xếp theo giá (asc/desc), bỏ qua khi tìm theo vị trí") @RequestParam(required = false) String priceSort,
             @PageableDefault(size = 20) Pageable pageable) {
         
         PageResponse<CourtDto> courts = courtService.searchCourts(
-            keyword, sportType, minRating, latitude, longitude, radiusKm, pageable);
+            keyword, sportType, minRating, latitude, longitude, radiusKm,
+            minPrice, maxPrice, Sort.Direction.fromOptionalString(priceSort).orElse(null), pageable);
         return ApiResponse.success(courts);
     }
 
+    @GetMapping("/suggest")
+    @Operation(summary = "Gợi ý tìm kiếm", description = "Gợi ý tên sân, quận, thành phố theo tiền tố đang gõ (không phân biệt dấu)")
+    public ApiResponse<List<CourtSuggestionDto>> suggestCourts(
+            @Parameter(description = "Tiền tố đang gõ", required = true) @RequestParam String q,
+            @Parameter(description = "Số gợi ý tối đa", example = "8") @RequestParam(defaultValue = "8") int limit) {
+        
+        List<CourtSuggestionDto> suggestions = courtService.suggestCourts(q, limit);
+        return ApiResponse.success(suggestions);
+    }
+
     @GetMapping("/nearby")
     @Operation(summary = "Lấy sân gần vị trí hiện tại", description = "Lấy danh sách sân trong bán kính từ vị trí hiện tại")
     public ApiResponse<List<CourtDto>> getNearbyCourts(
@@ -141,6 +162,22 @@ public class CourtController {
         return ApiResponse.success(details);
     }
 
+    @GetMapping("/{id}/availability")
+    @Operation(summary = "Lấy lịch trống của sân", description = "Lấy các khung giờ trống/bận của sân trong khoảng ngày")
+    public ApiResponse<CourtAvailabilityDto> getCourtAvailability(
+            @Parameter(description = "ID của sân") @PathVariable Long id,
+            @Parameter(description = "Từ ngày (mặc định hôm nay)") 
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Đến ngày (mặc định bằng từ ngày)") 
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        
+        LocalDate startDate = from != null ? from : LocalDate.now();
+        LocalDate endDate = to != null ? to : startDate;
+        
+        CourtAvailabilityDto availability = courtAvailabilityService.getAvailability(id, startDate, endDate);
+        return ApiResponse.success(availability);
+    }
+
     @GetMapping("/{id}/pricing")
     @Operation(summary = "Lấy bảng giá của sân", description = "Lấy thông tin giá theo khung giờ")
     public ApiResponse<Map<String, Object>> getCourtPricing(
@@ -1,6 +1,8 @@
 package com.badminton.courtmanagement.controller;
 
 import com.badminton.courtmanagement.dto.ApiResponse;
+import com.badminton.courtmanagement.service.DashboardStatsService;
+import com.badminton.courtmanagement.utils.SecurityUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -16,21 +18,15 @@ import java.util.Map;
 @Tag(name = "Dashboard", description = "API dashboard và thống kê")
 public class DashboardController {
 
+    private final DashboardStatsService dashboardStatsService;
+
     @GetMapping("/stats")
-    @Operation(summary = "Lấy thống kê dashboard", description = "Lấy các thống kê tổng quan cho dashboard")
+    @Operation(summary = "Lấy thống kê dashboard",
+            description = "Lấy các thống kê tổng quan cho dashboard; doanh thu và số liệu người dùng chỉ trả về cho ADMIN")
     public ApiResponse<Map<String, Object>> getDashboardStats() {
-        // Trả về thống kê mẫu để test
-        Map<String, Object> stats = Map.of(
-            "totalCourts", 15,
-            "totalBookings", 245,
-            "totalRevenue", 12500000,
-            "activeUsers", 320,
-            "todayBookings", 8,
-            "weeklyRevenue", 2800000,
-            "monthlyBookings", 89,
-            "averageRating", 4.6
-        );
-        
-        return ApiResponse.success(stats);
+        if (SecurityUtils.hasRole("ADMIN")) {
+            return ApiResponse.success(dashboardStatsService.getDashboardStats());
+        }
+        return ApiResponse.success(dashboardStatsService.getPublicDashboardStats());
     }
 } 
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.badminton.courtmanagement.controller;
 
 import com.badminton.courtmanagement.dto.ApiResponse;
 import com.badminton.courtmanagement.dto.CreateMessageRequest;
+import com.badminton.courtmanagement.dto.CursorPageResponse;
 import com.badminton.courtmanagement.dto.MessageDto;
 import com.badminton.courtmanagement.service.MessageService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -54,6 +55,19 @@ public class MessageController {
         return ApiResponse.success(messages);
     }
     
+    @GetMapping("/conversation/{userId}/cursor")
+    @Operation(summary = "Lấy cuộc trò chuyện theo cursor, tin nhắn mới nhất trước", security = @SecurityRequirement(name = "bearerAuth"))
+    @PreAuthorize("hasRole('USER') or hasRole('COURT_OWNER') or hasRole('ADMIN')")
+    public ApiResponse<CursorPageResponse<MessageDto>> getConversationByCursor(
+            @Parameter(description = "ID của user cần trò chuyện") @PathVariable Long userId,
+            @Parameter(description = "Cursor từ trang trước") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Kích thước trang") @RequestParam(defaultValue = "20") int size) {
+        
+        log.debug("Getting conversation with user: {} after cursor: {}", userId, cursor);
+        CursorPageResponse<MessageDto> messages = messageService.getConversationByCursor(userId, cursor, size);
+        return ApiResponse.success(messages);
+    }
+    
     @PatchMapping("/{id}/read")
     @Operation(summary = "Đánh dấu tin nhắn đã đọc", security = @SecurityRequirement(name = "bearerAuth"))
     @PreAuthorize("hasRole('USER') or hasRole('COURT_OWNER') or hasRole('ADMIN')")
@@ -81,6 +81,17 @@ public class TeamPostController {
         return ApiResponse.success(teamPosts);
     }
     
+    @GetMapping("/cursor")
+    @Operation(summary = "Lấy danh sách bài đăng theo cursor", description = "Phân trang theo cursor, không đếm tổng số bài đăng")
+    public ApiResponse<CursorPageResponse<TeamPostDto>> getAllTeamPostsByCursor(
+            @Parameter(description = "Cursor từ trang trước") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Kích thước trang") @RequestParam(defaultValue = "20") int size) {
+        
+        log.debug("Getting all team posts after cursor: {}", cursor);
+        CursorPageResponse<TeamPostDto> teamPosts = teamPostService.getAllTeamPostsByCursor(cursor, size);
+        return ApiResponse.success(teamPosts);
+    }
+    
     @GetMapping("/joined-teams")
     @Operation(summary = "Lấy danh sách đội đã tham gia", security = @SecurityRequirement(name = "bearerAuth"))
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
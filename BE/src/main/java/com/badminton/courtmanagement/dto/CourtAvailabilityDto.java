@@ -0,0 +1,36 @@
+package com.badminton.courtmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Lịch trống/bận của sân theo khoảng ngày")
+public class CourtAvailabilityDto {
+    
+    @Schema(description = "ID sân", example = "1")
+    private Long courtId;
+    
+    @Schema(description = "Ngày bắt đầu", example = "2024-01-15")
+    private LocalDate from;
+    
+    @Schema(description = "Ngày kết thúc", example = "2024-01-21")
+    private LocalDate to;
+    
+    @Schema(description = "Độ dài mỗi khung giờ (phút)", example = "60")
+    private Integer slotDurationMinutes;
+    
+    @Schema(description = "Số sân con", example = "4")
+    private Integer totalCourts;
+    
+    @Schema(description = "Lịch theo từng ngày")
+    private List<DayAvailabilityDto> days;
+}
@@ -8,6 +8,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -18,7 +19,9 @@ import java.util.List;
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @Schema(description = "Thông tin sân cầu lông")
-public class CourtDto {
+public class CourtDto implements Serializable {
+    
+    private static final long serialVersionUID = 1L;
     
     @Schema(description = "ID sân", example = "1")
     private Long id;
@@ -80,6 +83,9 @@ public class CourtDto {
     @Schema(description = "Giá khởi điểm (VND/giờ)", example = "80000")
     private BigDecimal price;
     
+    @Schema(description = "Giá cao nhất (VND/giờ)", example = "120000")
+    private BigDecimal maxPrice;
+    
     @Schema(description = "Thời gian tạo")
     private LocalDateTime createdAt;
     
@@ -8,6 +8,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 @Data
@@ -16,7 +17,9 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @Schema(description = "Thông tin chủ sân")
-public class CourtOwnerDto {
+public class CourtOwnerDto implements Serializable {
+    
+    private static final long serialVersionUID = 1L;
     
     @Schema(description = "ID chủ sân", example = "1")
     private Long id;
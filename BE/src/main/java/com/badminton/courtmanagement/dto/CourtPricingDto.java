@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.LocalTime;
 
@@ -16,7 +17,9 @@ import java.time.LocalTime;
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @Schema(description = "Bảng giá sân")
-public class CourtPricingDto {
+public class CourtPricingDto implements Serializable {
+    
+    private static final long serialVersionUID = 1L;
     
     @Schema(description = "ID bảng giá", example = "1")
     private Long id;
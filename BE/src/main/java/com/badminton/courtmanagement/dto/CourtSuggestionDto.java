@@ -0,0 +1,31 @@
+package com.badminton.courtmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Một gợi ý khi gõ ô tìm kiếm sân")
+public class CourtSuggestionDto {
+    
+    @Schema(description = "Nội dung gợi ý", example = "Sân cầu lông Đống Đa")
+    private String text;
+    
+    @Schema(description = "Loại gợi ý: COURT, DISTRICT hoặc CITY", example = "COURT")
+    private Type type;
+    
+    @Schema(description = "ID của sân (chỉ có khi type = COURT)", example = "12")
+    private Long courtId;
+    
+    @Schema(description = "Số sân active ở địa điểm này (chỉ có khi type = DISTRICT/CITY)", example = "8")
+    private Integer courtCount;
+    
+    public enum Type {
+        COURT, DISTRICT, CITY
+    }
+}
@@ -0,0 +1,53 @@
+package com.badminton.courtmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Response wrapper cho phân trang theo cursor (không đếm tổng số phần tử)")
+public class CursorPageResponse<T> {
+    
+    @Schema(description = "Danh sách dữ liệu")
+    private List<T> content;
+    
+    @Schema(description = "Kích thước trang", example = "20")
+    private int size;
+    
+    @Schema(description = "Số phần tử trong trang hiện tại", example = "20")
+    private int numberOfElements;
+    
+    @Schema(description = "Có trang sau không", example = "true")
+    private boolean hasNext;
+    
+    @Schema(description = "Cursor để lấy trang sau, null nếu là trang cuối")
+    private String nextCursor;
+    
+    /**
+     * Tạo response từ kết quả truy vấn lấy dư một phần tử (size + 1) để biết còn trang sau không
+     */
+    public static <E, T> CursorPageResponse<T> of(List<E> rows, int size,
+                                                  Function<E, T> mapper,
+                                                  Function<E, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        
+        return CursorPageResponse.<T>builder()
+                .content(page.stream().map(mapper).toList())
+                .size(size)
+                .numberOfElements(page.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null)
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.badminton.courtmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Lịch trống/bận của sân trong một ngày")
+public class DayAvailabilityDto {
+    
+    @Schema(description = "Ngày", example = "2024-01-15")
+    private LocalDate date;
+    
+    @Schema(description = "Các khung giờ trong ngày")
+    private List<TimeSlotDto> slots;
+}
@@ -0,0 +1,35 @@
+package com.badminton.courtmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Kết quả geocoding")
+public class GeocodingResultDto implements Serializable {
+    
+    private static final long serialVersionUID = 1L;
+    
+    @Schema(description = "Vĩ độ", example = "10.7769")
+    private BigDecimal latitude;
+    
+    @Schema(description = "Kinh độ", example = "106.7009")
+    private BigDecimal longitude;
+    
+    @Schema(description = "Tên hiển thị đầy đủ của địa điểm")
+    private String displayName;
+    
+    @Schema(description = "Các thành phần địa chỉ (đường, quận, thành phố...)")
+    private Map<String, Object> address;
+}
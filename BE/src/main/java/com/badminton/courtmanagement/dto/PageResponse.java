@@ -8,6 +8,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
 
+import java.io.Serializable;
 import java.util.List;
 
 @Data
@@ -16,7 +17,9 @@ import java.util.List;
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @Schema(description = "Response wrapper cho pagination")
-public class PageResponse<T> {
+public class PageResponse<T> implements Serializable {
+    
+    private static final long serialVersionUID = 1L;
     
     @Schema(description = "Danh sách dữ liệu")
     private List<T> content;
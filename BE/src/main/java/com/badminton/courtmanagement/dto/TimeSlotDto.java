@@ -0,0 +1,32 @@
+package com.badminton.courtmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Một khung giờ trong lịch sân")
+public class TimeSlotDto {
+    
+    @Schema(description = "Giờ bắt đầu", example = "18:00")
+    private LocalTime startTime;
+    
+    @Schema(description = "Giờ kết thúc", example = "19:00")
+    private LocalTime endTime;
+    
+    @Schema(description = "Số booking đang giữ khung giờ này", example = "1")
+    private Integer bookedCount;
+    
+    @Schema(description = "Số sân con còn trống; một booking giữ cả sân nên là 0 khi có booking trùng giờ", example = "4")
+    private Integer availableCourts;
+    
+    @Schema(description = "Còn có thể đặt không", example = "true")
+    private Boolean available;
+}
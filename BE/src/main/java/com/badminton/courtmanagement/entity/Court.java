@@ -97,6 +97,13 @@ public class Court extends BaseEntity {
     @Column(name = "total_reviews")
     private Integer totalReviews = 0;
     
+    // Giá thấp nhất/cao nhất của bảng giá đang áp dụng, do trigger trên court_pricing cập nhật
+    @Column(name = "min_price", precision = 10, scale = 2, insertable = false, updatable = false)
+    private BigDecimal minPrice;
+    
+    @Column(name = "max_price", precision = 10, scale = 2, insertable = false, updatable = false)
+    private BigDecimal maxPrice;
+    
     @Builder.Default
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
@@ -0,0 +1,35 @@
+package com.badminton.courtmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Một dòng khóa cho mỗi (sân, ngày); được SELECT ... FOR UPDATE khi nhận booking
+ * để các node backend khác nhau không cùng giữ một khung giờ
+ */
+@Entity
+@Table(name = "court_day_locks",
+       uniqueConstraints = @UniqueConstraint(name = "uk_court_day", columnNames = {"court_id", "booking_date"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+public class CourtDayLock extends BaseEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "court_id", nullable = false)
+    private Long courtId;
+    
+    @Column(name = "booking_date", nullable = false)
+    private LocalDate bookingDate;
+}
@@ -27,6 +27,7 @@ public class CourtPricing extends BaseEntity {
     @NotNull
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "court_id", nullable = false)
+    @EqualsAndHashCode.Exclude
     private Court court;
     
     @Column(nullable = false, length = 255)
@@ -0,0 +1,58 @@
+package com.badminton.courtmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Kết quả geocoding đã tra cứu, dùng lại thay vì gọi Nominatim; found = false lưu kết quả "không tìm thấy"
+ */
+@Entity
+@Table(name = "geocoding_cache",
+       uniqueConstraints = @UniqueConstraint(name = "uk_geocoding_lookup", columnNames = {"lookup_type", "lookup_key"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+public class GeocodingCacheEntry extends BaseEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "lookup_type", nullable = false, length = 10)
+    private LookupType lookupType;
+    
+    @Column(name = "lookup_key", nullable = false)
+    private String lookupKey;
+    
+    @Column(nullable = false)
+    private Boolean found;
+    
+    @Column(precision = 10, scale = 8)
+    private BigDecimal latitude;
+    
+    @Column(precision = 11, scale = 8)
+    private BigDecimal longitude;
+    
+    @Column(name = "display_name", length = 500)
+    private String displayName;
+    
+    @Column(name = "address_json", columnDefinition = "TEXT")
+    private String addressJson;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+    
+    public enum LookupType {
+        FORWARD, REVERSE
+    }
+}
@@ -5,7 +5,6 @@ import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
-import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 @Entity
@@ -14,7 +13,6 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@EqualsAndHashCode(callSuper = false)
 public class TeamMember extends BaseEntity {
     
     @Id
@@ -36,6 +34,24 @@ public class TeamMember extends BaseEntity {
     @Column(nullable = false, length = 20)
     private MemberStatus status = MemberStatus.PENDING;
     
+    /**
+     * Same row, by id; unsaved members are only equal to themselves. Associations stay out, so adding
+     * a member to a loaded Set initialises neither the post nor the user, and the hash code does not
+     * change when the id is assigned on save
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof TeamMember other && id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return TeamMember.class.hashCode();
+    }
+
     public enum MemberStatus {
         PENDING, ACCEPTED, REJECTED
     }
@@ -0,0 +1,43 @@
+package com.badminton.courtmanagement.event;
+
+import com.badminton.courtmanagement.entity.Booking;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Sự kiện phát ra khi booking được tạo hoặc đổi trạng thái
+ */
+@Value
+public class BookingChangedEvent {
+    
+    Long bookingId;
+    Long courtId;
+    LocalDate bookingDate;
+    LocalTime startTime;
+    LocalTime endTime;
+    BigDecimal totalAmount;
+    Booking.BookingStatus previousStatus;
+    Booking.BookingStatus status;
+    
+    public static BookingChangedEvent of(Booking booking, Booking.BookingStatus previousStatus) {
+        return new BookingChangedEvent(
+                booking.getId(),
+                booking.getCourt().getId(),
+                booking.getBookingDate(),
+                booking.getStartTime(),
+                booking.getEndTime(),
+                booking.getTotalAmount(),
+                previousStatus,
+                booking.getStatus());
+    }
+    
+    /**
+     * Booking có đang giữ khung giờ trên sân không (PENDING hoặc CONFIRMED)
+     */
+    public boolean isHoldingSlot() {
+        return status == Booking.BookingStatus.PENDING || status == Booking.BookingStatus.CONFIRMED;
+    }
+}
@@ -0,0 +1,17 @@
+package com.badminton.courtmanagement.event;
+
+import lombok.Value;
+
+/**
+ * Sự kiện phát ra khi sân được tạo, cập nhật hoặc đổi trạng thái
+ */
+@Value
+public class CourtChangedEvent {
+    
+    Long courtId;
+    ChangeType type;
+    
+    public enum ChangeType {
+        CREATED, UPDATED, STATUS_CHANGED
+    }
+}
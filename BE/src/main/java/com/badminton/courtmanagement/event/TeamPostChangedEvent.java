@@ -0,0 +1,12 @@
+package com.badminton.courtmanagement.event;
+
+import lombok.Value;
+
+/**
+ * Sự kiện phát ra khi bài đăng tìm đội được tạo, cập nhật, đổi trạng thái hoặc bị xóa
+ */
+@Value
+public class TeamPostChangedEvent {
+    
+    Long teamPostId;
+}
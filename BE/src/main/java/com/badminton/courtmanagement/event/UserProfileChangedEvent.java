@@ -0,0 +1,12 @@
+package com.badminton.courtmanagement.event;
+
+import lombok.Value;
+
+/**
+ * Sự kiện phát ra khi thông tin hồ sơ hoặc trạng thái của user thay đổi
+ */
+@Value
+public class UserProfileChangedEvent {
+    
+    Long userId;
+}
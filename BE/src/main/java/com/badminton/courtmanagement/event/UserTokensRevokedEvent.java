@@ -0,0 +1,12 @@
+package com.badminton.courtmanagement.event;
+
+import lombok.Value;
+
+/**
+ * Sự kiện phát ra khi phiên bản token của user tăng (đổi trạng thái, đổi mật khẩu)
+ */
+@Value
+public class UserTokensRevokedEvent {
+    
+    Long userId;
+}
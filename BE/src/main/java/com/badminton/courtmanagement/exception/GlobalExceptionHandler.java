@@ -1,7 +1,9 @@
 package com.badminton.courtmanagement.exception;
 
+import com.badminton.courtmanagement.config.RequestIdFilter;
 import com.badminton.courtmanagement.dto.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -176,6 +178,11 @@ public class GlobalExceptionHandler {
     }
     
     private String generateRequestId() {
+        // Same id as the request's log lines and X-Request-Id header when the filter ran
+        String requestId = MDC.get(RequestIdFilter.MDC_REQUEST_ID);
+        if (requestId != null) {
+            return requestId;
+        }
         return UUID.randomUUID().toString().substring(0, 8);
     }
 } 
\ No newline at end of file
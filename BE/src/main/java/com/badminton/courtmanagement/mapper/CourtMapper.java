@@ -13,7 +13,7 @@ public interface CourtMapper {
     
     @Mapping(target = "images", source = "images", qualifiedByName = "stringToList")
     @Mapping(target = "distance", ignore = true)
-    @Mapping(target = "price", ignore = true)
+    @Mapping(target = "price", source = "minPrice")
     @Mapping(target = "operatingHours", ignore = true)
     @Mapping(target = "owner", ignore = true) // Ignore owner to avoid circular dependency
     @Mapping(target = "pricings", ignore = true) // Ignore pricings to avoid circular dependency
@@ -36,6 +36,8 @@ public interface CourtMapper {
     @Mapping(target = "closingTime", ignore = true)
     @Mapping(target = "featured", ignore = true)
     @Mapping(target = "coverImage", ignore = true)
+    @Mapping(target = "minPrice", ignore = true)
+    @Mapping(target = "maxPrice", ignore = true)
     Court toEntity(CreateCourtRequest request);
     
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
@@ -56,6 +58,8 @@ public interface CourtMapper {
     @Mapping(target = "closingTime", ignore = true)
     @Mapping(target = "featured", ignore = true)
     @Mapping(target = "coverImage", ignore = true)
+    @Mapping(target = "minPrice", ignore = true)
+    @Mapping(target = "maxPrice", ignore = true)
     void updateEntityFromRequest(CreateCourtRequest request, @MappingTarget Court court);
     
     List<CourtDto> toDtoList(List<Court> courts);
@@ -32,6 +32,7 @@ public interface UserMapper {
     @Mapping(target = "sentMessages", ignore = true)
     @Mapping(target = "receivedMessages", ignore = true)
     @Mapping(target = "notifications", ignore = true)
+    @Mapping(target = "tokenVersion", ignore = true)
     User toEntity(UserDto userDto);
     
     List<UserDto> toDtoList(List<User> users);
@@ -89,6 +89,31 @@ public interface BookingRepository extends JpaRepository<Booking, Long>, JpaSpec
                                           @Param("endTime") LocalTime endTime,
                                           @Param("excludeBookingId") Long excludeBookingId);
     
+    /**
+     * Lấy khung giờ của các booking đang giữ chỗ từ ngày chỉ định (nạp chỉ mục slot)
+     */
+    @Query("""
+        SELECT b.id, b.court.id, b.bookingDate, b.startTime, b.endTime 
+        FROM Booking b 
+        WHERE b.status IN ('PENDING', 'CONFIRMED') 
+        AND b.bookingDate >= :fromDate
+        """)
+    List<Object[]> findActiveSlotsFrom(@Param("fromDate") LocalDate fromDate);
+    
+    /**
+     * Lấy khung giờ của các booking đang giữ chỗ của một sân trong khoảng ngày
+     */
+    @Query("""
+        SELECT b.bookingDate, b.startTime, b.endTime 
+        FROM Booking b 
+        WHERE b.court.id = :courtId 
+        AND b.bookingDate BETWEEN :startDate AND :endDate 
+        AND b.status IN ('PENDING', 'CONFIRMED')
+        """)
+    List<Object[]> findActiveSlotsByCourtAndDateRange(@Param("courtId") Long courtId,
+                                                     @Param("startDate") LocalDate startDate,
+                                                     @Param("endDate") LocalDate endDate);
+    
     /**
      * Tìm booking theo sân và ngày
      */
@@ -124,12 +149,18 @@ public interface BookingRepository extends JpaRepository<Booking, Long>, JpaSpec
     /**
      * Tìm booking quá hạn (chưa thanh toán)
      */
-    @Query("""
+    @Query(value = """
         SELECT b FROM Booking b 
         WHERE b.status = 'PENDING' 
+        AND b.createdAt < :cutoffTime 
+        ORDER BY b.createdAt ASC, b.id ASC
+        """,
+        countQuery = """
+        SELECT COUNT(b) FROM Booking b 
+        WHERE b.status = 'PENDING' 
         AND b.createdAt < :cutoffTime
         """)
-    List<Booking> findOverdueBookings(@Param("cutoffTime") LocalDateTime cutoffTime);
+    Page<Booking> findOverdueBookings(@Param("cutoffTime") LocalDateTime cutoffTime, Pageable pageable);
     
     /**
      * Đếm booking theo trạng thái
@@ -146,6 +177,11 @@ public interface BookingRepository extends JpaRepository<Booking, Long>, JpaSpec
      */
     long countByCourtAndStatus(Court court, Booking.BookingStatus status);
     
+    /**
+     * Tổng số booking của sân
+     */
+    long countByCourtId(Long courtId);
+    
     /**
      * Tìm booking theo user trong khoảng thời gian
      */
@@ -174,6 +210,67 @@ public interface BookingRepository extends JpaRepository<Booking, Long>, JpaSpec
                                               @Param("endDate") LocalDate endDate,
                                               Pageable pageable);
     
+    /**
+     * Trang đầu booking của user theo keyset (bookingDate, startTime, id) giảm dần, không đếm tổng
+     */
+    @Query("""
+        SELECT b FROM Booking b 
+        WHERE b.user.id = :userId 
+        ORDER BY b.bookingDate DESC, b.startTime DESC, b.id DESC
+        """)
+    List<Booking> findKeysetByUserId(@Param("userId") Long userId, Pageable pageable);
+    
+    /**
+     * Trang tiếp theo booking của user sau cursor
+     */
+    @Query("""
+        SELECT b FROM Booking b 
+        WHERE b.user.id = :userId 
+        AND (b.bookingDate < :bookingDate 
+             OR (b.bookingDate = :bookingDate AND b.startTime < :startTime) 
+             OR (b.bookingDate = :bookingDate AND b.startTime = :startTime AND b.id < :id)) 
+        ORDER BY b.bookingDate DESC, b.startTime DESC, b.id DESC
+        """)
+    List<Booking> findKeysetByUserIdAfter(@Param("userId") Long userId,
+                                          @Param("bookingDate") LocalDate bookingDate,
+                                          @Param("startTime") LocalTime startTime,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+    
+    /**
+     * Trang đầu booking của chủ sân trong khoảng thời gian theo keyset, không đếm tổng
+     */
+    @Query("""
+        SELECT b FROM Booking b 
+        WHERE b.court.owner.id = :ownerId 
+        AND b.bookingDate BETWEEN :startDate AND :endDate 
+        ORDER BY b.bookingDate DESC, b.startTime DESC, b.id DESC
+        """)
+    List<Booking> findKeysetByCourtOwnerAndDateRange(@Param("ownerId") Long ownerId,
+                                                     @Param("startDate") LocalDate startDate,
+                                                     @Param("endDate") LocalDate endDate,
+                                                     Pageable pageable);
+    
+    /**
+     * Trang tiếp theo booking của chủ sân sau cursor
+     */
+    @Query("""
+        SELECT b FROM Booking b 
+        WHERE b.court.owner.id = :ownerId 
+        AND b.bookingDate BETWEEN :startDate AND :endDate 
+        AND (b.bookingDate < :bookingDate 
+             OR (b.bookingDate = :bookingDate AND b.startTime < :startTime) 
+             OR (b.bookingDate = :bookingDate AND b.startTime = :startTime AND b.id < :id)) 
+        ORDER BY b.bookingDate DESC, b.startTime DESC, b.id DESC
+        """)
+    List<Booking> findKeysetByCourtOwnerAndDateRangeAfter(@Param("ownerId") Long ownerId,
+                                                          @Param("startDate") LocalDate startDate,
+                                                          @Param("endDate") LocalDate endDate,
+                                                          @Param("bookingDate") LocalDate bookingDate,
+                                                          @Param("startTime") LocalTime startTime,
+                                                          @Param("id") Long id,
+                                                          Pageable pageable);
+    
     /**
      * Thống kê doanh thu theo sân trong khoảng thời gian
      */
@@ -188,6 +285,59 @@ public interface BookingRepository extends JpaRepository<Booking, Long>, JpaSpec
     List<Object[]> getRevenueStatsByCourt(@Param("startDate") LocalDate startDate,
                                          @Param("endDate") LocalDate endDate);
     
+    /**
+     * Số booking và doanh thu gom theo sân, ngày và trạng thái (nạp bảng tổng hợp dashboard)
+     */
+    @Query("""
+        SELECT b.court.id, b.bookingDate, b.status, COUNT(b), COALESCE(SUM(b.totalAmount), 0) 
+        FROM Booking b 
+        GROUP BY b.court.id, b.bookingDate, b.status
+        """)
+    List<Object[]> aggregateByCourtDateAndStatus();
+    
+    /**
+     * Số booking và doanh thu theo trạng thái của một sân
+     */
+    @Query("""
+        SELECT b.status, COUNT(b), COALESCE(SUM(b.totalAmount), 0) 
+        FROM Booking b 
+        WHERE b.court.id = :courtId 
+        GROUP BY b.status
+        """)
+    List<Object[]> countAndRevenueByStatusForCourt(@Param("courtId") Long courtId);
+    
+    /**
+     * Số booking và doanh thu theo ngày của một sân (bỏ qua booking đã hủy)
+     */
+    @Query("""
+        SELECT b.bookingDate, COUNT(b), 
+               COALESCE(SUM(CASE WHEN b.status IN ('CONFIRMED', 'COMPLETED') THEN b.totalAmount ELSE 0 END), 0) 
+        FROM Booking b 
+        WHERE b.court.id = :courtId 
+        AND b.status <> 'CANCELLED' 
+        AND b.bookingDate BETWEEN :startDate AND :endDate 
+        GROUP BY b.bookingDate 
+        ORDER BY b.bookingDate
+        """)
+    List<Object[]> dailyStatsForCourt(@Param("courtId") Long courtId,
+                                      @Param("startDate") LocalDate startDate,
+                                      @Param("endDate") LocalDate endDate);
+    
+    /**
+     * Số booking theo thứ trong tuần (1 = Chủ nhật) và giờ bắt đầu của một sân
+     */
+    @Query(value = """
+        SELECT DAYOFWEEK(b.booking_date), HOUR(b.start_time), COUNT(*) 
+        FROM bookings b 
+        WHERE b.court_id = :courtId 
+        AND b.status <> 'CANCELLED' 
+        AND b.booking_date BETWEEN :startDate AND :endDate 
+        GROUP BY DAYOFWEEK(b.booking_date), HOUR(b.start_time)
+        """, nativeQuery = true)
+    List<Object[]> hourOfWeekHeatmapForCourt(@Param("courtId") Long courtId,
+                                             @Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate);
+    
     /**
      * Tìm booking cần nhắc nhở thanh toán
      */
@@ -0,0 +1,50 @@
+package com.badminton.courtmanagement.repository;
+
+import com.badminton.courtmanagement.entity.CourtDayLock;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface CourtDayLockRepository extends JpaRepository<CourtDayLock, Long> {
+    
+    /**
+     * Tạo dòng khóa cho (sân, ngày) nếu chưa có, commit ngay trong transaction riêng
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = """
+        INSERT IGNORE INTO court_day_locks (court_id, booking_date, created_at, updated_at) 
+        VALUES (:courtId, :bookingDate, NOW(), NOW())
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("courtId") Long courtId, @Param("bookingDate") LocalDate bookingDate);
+    
+    /**
+     * Khóa dòng (sân, ngày) đến hết transaction hiện tại (SELECT ... FOR UPDATE NOWAIT).
+     * Không chờ: nếu node khác đang giữ khóa thì ném PessimisticLockingFailureException ngay,
+     * người gọi tự thử lại trong giới hạn thời gian của mình
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "0"))
+    @Query("SELECT l FROM CourtDayLock l WHERE l.courtId = :courtId AND l.bookingDate = :bookingDate")
+    Optional<CourtDayLock> lockCourtDay(@Param("courtId") Long courtId, @Param("bookingDate") LocalDate bookingDate);
+    
+    /**
+     * Xóa các dòng khóa của những ngày đã qua (không còn nhận booking)
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM CourtDayLock l WHERE l.bookingDate < :date")
+    int deleteBefore(@Param("date") LocalDate date);
+}
@@ -57,21 +57,35 @@ public interface CourtRepository extends JpaRepository<Court, Long>, JpaSpecific
                                                              Pageable pageable);
     
     /**
-     * Tìm sân trong bán kính (sử dụng Haversine formula)
+     * Tìm ID sân trong bán kính, sắp xếp theo khoảng cách (Haversine, lọc trước bằng bounding box)
      */
     @Query(value = """
-        SELECT c.*, 
-               (6371 * acos(cos(radians(:latitude)) * cos(radians(c.latitude)) * 
+        SELECT c.id, 
+               (6371 * acos(LEAST(1, cos(radians(:latitude)) * cos(radians(c.latitude)) * 
                            cos(radians(c.longitude) - radians(:longitude)) + 
-                           sin(radians(:latitude)) * sin(radians(c.latitude)))) AS distance
+                           sin(radians(:latitude)) * sin(radians(c.latitude))))) AS distance
         FROM courts c 
         WHERE c.status = :#{#status.name()}
+        AND c.latitude BETWEEN :minLat AND :maxLat 
+        AND c.longitude BETWEEN :minLng AND :maxLng
+        AND (:sportType IS NULL OR FIND_IN_SET(:sportType, c.sport_types) > 0)
+        AND (:minRating IS NULL OR c.average_rating >= :minRating)
+        AND (:minPrice IS NULL OR c.min_price >= :minPrice)
+        AND (:maxPrice IS NULL OR c.min_price <= :maxPrice)
         HAVING distance <= :radiusKm 
-        ORDER BY distance
+        ORDER BY distance, c.id
         """, nativeQuery = true)
     List<Object[]> findCourtsWithinRadius(@Param("latitude") BigDecimal latitude,
                                          @Param("longitude") BigDecimal longitude,
                                          @Param("radiusKm") Double radiusKm,
+                                         @Param("minLat") double minLat,
+                                         @Param("maxLat") double maxLat,
+                                         @Param("minLng") double minLng,
+                                         @Param("maxLng") double maxLng,
+                                         @Param("sportType") String sportType,
+                                         @Param("minRating") BigDecimal minRating,
+                                         @Param("minPrice") BigDecimal minPrice,
+                                         @Param("maxPrice") BigDecimal maxPrice,
                                          @Param("status") Court.CourtStatus status);
     
     /**
@@ -102,11 +116,34 @@ public interface CourtRepository extends JpaRepository<Court, Long>, JpaSpecific
      */
     long countByStatus(Court.CourtStatus status);
     
+    /**
+     * Số sân và điểm đánh giá trung bình gom theo trạng thái và loại thể thao
+     */
+    @Query("SELECT c.status, c.sportTypes, COUNT(c), AVG(c.averageRating) FROM Court c GROUP BY c.status, c.sportTypes")
+    List<Object[]> aggregateByStatusAndSportTypes();
+    
+    /**
+     * Cặp (id sân, id chủ sân) của tất cả sân
+     */
+    @Query("SELECT c.id, c.owner.id FROM Court c")
+    List<Object[]> findAllOwnerIds();
+    
+    /**
+     * Id chủ sân của một sân
+     */
+    @Query("SELECT c.owner.id FROM Court c WHERE c.id = :courtId")
+    Optional<Long> findOwnerIdById(@Param("courtId") Long courtId);
+    
     /**
      * Đếm số sân theo chủ sân và trạng thái
      */
     long countByOwnerAndStatus(CourtOwner owner, Court.CourtStatus status);
     
+    /**
+     * Đếm số sân của chủ sân
+     */
+    long countByOwner(CourtOwner owner);
+    
     /**
      * Kiểm tra sân có tồn tại với tên và địa chỉ không
      */
@@ -133,6 +170,30 @@ public interface CourtRepository extends JpaRepository<Court, Long>, JpaSpecific
     @Query("SELECT c FROM Court c WHERE c.status = 'ACTIVE'")
     List<Court> findAllActiveCourts();
     
+    /**
+     * ID các sân active khớp từ khóa (tên, địa chỉ, mô tả, loại thể thao), dùng khi chỉ mục toàn văn chưa sẵn sàng
+     */
+    @Query("""
+        SELECT c.id FROM Court c
+        WHERE c.status = 'ACTIVE'
+        AND (LOWER(c.name) LIKE :pattern OR LOWER(c.address) LIKE :pattern
+             OR LOWER(c.description) LIKE :pattern OR LOWER(c.sportTypes) LIKE :pattern)
+        ORDER BY c.id
+        """)
+    List<Long> findActiveIdsByKeyword(@Param("pattern") String pattern, Pageable pageable);
+    
+    /**
+     * Lấy tọa độ, loại thể thao, đánh giá và giá khởi điểm của các sân active (nạp chỉ mục không gian)
+     */
+    @Query("SELECT c.id, c.latitude, c.longitude, c.sportTypes, c.averageRating, c.minPrice FROM Court c WHERE c.status = 'ACTIVE'")
+    List<Object[]> findActiveGeoEntries();
+    
+    /**
+     * Lấy tên, thành phố, quận và đánh giá của các sân active (nạp chỉ mục gợi ý)
+     */
+    @Query("SELECT c.id, c.name, c.city, c.district, c.averageRating, c.totalReviews FROM Court c WHERE c.status = 'ACTIVE'")
+    List<Object[]> findActiveSuggestEntries();
+    
     /**
      * Tìm sân có booking trong khoảng thời gian
      */
@@ -0,0 +1,49 @@
+package com.badminton.courtmanagement.repository;
+
+import com.badminton.courtmanagement.entity.GeocodingCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface GeocodingCacheRepository extends JpaRepository<GeocodingCacheEntry, Long> {
+    
+    /**
+     * Tìm kết quả geocoding đã lưu theo loại tra cứu và khóa chuẩn hóa
+     */
+    Optional<GeocodingCacheEntry> findByLookupTypeAndLookupKey(GeocodingCacheEntry.LookupType lookupType, String lookupKey);
+    
+    /**
+     * Lưu hoặc ghi đè kết quả geocoding; an toàn khi nhiều node cùng ghi một khóa
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        INSERT INTO geocoding_cache (lookup_type, lookup_key, found, latitude, longitude, display_name, 
+                                     address_json, expires_at, created_at, updated_at) 
+        VALUES (:lookupType, :lookupKey, :found, :latitude, :longitude, :displayName, 
+                :addressJson, :expiresAt, NOW(), NOW()) 
+        ON DUPLICATE KEY UPDATE found = VALUES(found), latitude = VALUES(latitude), longitude = VALUES(longitude), 
+            display_name = VALUES(display_name), address_json = VALUES(address_json), 
+            expires_at = VALUES(expires_at), updated_at = NOW()
+        """, nativeQuery = true)
+    int upsert(@Param("lookupType") String lookupType, @Param("lookupKey") String lookupKey,
+               @Param("found") boolean found, @Param("latitude") BigDecimal latitude,
+               @Param("longitude") BigDecimal longitude, @Param("displayName") String displayName,
+               @Param("addressJson") String addressJson, @Param("expiresAt") LocalDateTime expiresAt);
+    
+    /**
+     * Xóa các kết quả đã hết hạn
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM GeocodingCacheEntry g WHERE g.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
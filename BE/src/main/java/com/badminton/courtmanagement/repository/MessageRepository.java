@@ -4,24 +4,50 @@ import com.badminton.courtmanagement.entity.Message;
 import com.badminton.courtmanagement.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface MessageRepository extends JpaRepository<Message, Long> {
     
     // Find conversation between two users
+    @EntityGraph(attributePaths = {"sender", "receiver"})
     @Query("SELECT m FROM Message m WHERE " +
            "(m.sender = :user1 AND m.receiver = :user2) OR " +
            "(m.sender = :user2 AND m.receiver = :user1) " +
            "ORDER BY m.createdAt ASC")
     List<Message> findConversationBetweenUsers(@Param("user1") User user1, @Param("user2") User user2);
     
+    // Keyset pagination of a conversation, newest first: first page, then rows after (createdAt, id)
+    @EntityGraph(attributePaths = {"sender", "receiver"})
+    @Query("SELECT m FROM Message m WHERE " +
+           "((m.sender.id = :user1Id AND m.receiver.id = :user2Id) OR " +
+           "(m.sender.id = :user2Id AND m.receiver.id = :user1Id)) " +
+           "ORDER BY m.createdAt DESC, m.id DESC")
+    List<Message> findKeysetConversation(@Param("user1Id") Long user1Id,
+                                         @Param("user2Id") Long user2Id,
+                                         Pageable pageable);
+    
+    @EntityGraph(attributePaths = {"sender", "receiver"})
+    @Query("SELECT m FROM Message m WHERE " +
+           "((m.sender.id = :user1Id AND m.receiver.id = :user2Id) OR " +
+           "(m.sender.id = :user2Id AND m.receiver.id = :user1Id)) " +
+           "AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.id < :id)) " +
+           "ORDER BY m.createdAt DESC, m.id DESC")
+    List<Message> findKeysetConversationAfter(@Param("user1Id") Long user1Id,
+                                              @Param("user2Id") Long user2Id,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
+    
     // Find conversations for a user (latest message per conversation)
+    @EntityGraph(attributePaths = {"sender", "receiver"})
     @Query("SELECT m FROM Message m WHERE m.id IN (" +
            "SELECT MAX(m2.id) FROM Message m2 WHERE " +
            "m2.sender = :user OR m2.receiver = :user " +
@@ -36,6 +62,7 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
     long countByReceiverAndIsReadFalse(User receiver);
     
     // Find messages by related post
+    @EntityGraph(attributePaths = {"sender", "receiver"})
     List<Message> findByRelatedPostIdOrderByCreatedAtAsc(Long postId);
     
     // Find messages by sender
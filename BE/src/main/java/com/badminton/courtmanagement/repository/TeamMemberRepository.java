@@ -3,6 +3,7 @@ package com.badminton.courtmanagement.repository;
 import com.badminton.courtmanagement.entity.TeamMember;
 import com.badminton.courtmanagement.entity.TeamPost;
 import com.badminton.courtmanagement.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,6 +17,7 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
     
     // Find by team post
     List<TeamMember> findByTeamPost(TeamPost teamPost);
+    @EntityGraph(attributePaths = "user")
     List<TeamMember> findByTeamPostOrderByCreatedAtAsc(TeamPost teamPost);
     
     // Find by user
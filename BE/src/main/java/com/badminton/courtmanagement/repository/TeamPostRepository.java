@@ -1,9 +1,12 @@
 package com.badminton.courtmanagement.repository;
 
+import com.badminton.courtmanagement.entity.TeamMember;
 import com.badminton.courtmanagement.entity.TeamPost;
 import com.badminton.courtmanagement.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -18,22 +21,55 @@ public interface TeamPostRepository extends JpaRepository<TeamPost, Long>, JpaSp
     
     // Find by user
     Page<TeamPost> findByUser(User user, Pageable pageable);
+    @EntityGraph(attributePaths = "user")
     Page<TeamPost> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
     
     // Find by status
+    @EntityGraph(attributePaths = "user")
     Page<TeamPost> findByStatusOrderByCreatedAtDesc(TeamPost.PostStatus status, Pageable pageable);
     
+    // Team posts a user has joined with the given membership status, paged and counted in SQL
+    @Query(value = "SELECT tp FROM TeamPost tp JOIN FETCH tp.user WHERE tp.id IN (" +
+                   "SELECT tm.teamPost.id FROM TeamMember tm WHERE tm.user.id = :userId AND tm.status = :status" +
+                   ") ORDER BY tp.createdAt DESC, tp.id DESC",
+           countQuery = "SELECT COUNT(tp) FROM TeamPost tp WHERE tp.id IN (" +
+                        "SELECT tm.teamPost.id FROM TeamMember tm WHERE tm.user.id = :userId AND tm.status = :status)")
+    Page<TeamPost> findJoinedByUserId(@Param("userId") Long userId,
+                                      @Param("status") TeamMember.MemberStatus status,
+                                      Pageable pageable);
+    
+    // Search with the author loaded in the same statement
+    @Override
+    @EntityGraph(attributePaths = "user")
+    Page<TeamPost> findAll(Specification<TeamPost> spec, Pageable pageable);
+    
+    // Keyset pagination by status: first page, then rows after (createdAt, id)
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT tp FROM TeamPost tp WHERE tp.status = :status ORDER BY tp.createdAt DESC, tp.id DESC")
+    List<TeamPost> findKeysetByStatus(@Param("status") TeamPost.PostStatus status, Pageable pageable);
+    
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT tp FROM TeamPost tp WHERE tp.status = :status " +
+           "AND (tp.createdAt < :createdAt OR (tp.createdAt = :createdAt AND tp.id < :id)) " +
+           "ORDER BY tp.createdAt DESC, tp.id DESC")
+    List<TeamPost> findKeysetByStatusAfter(@Param("status") TeamPost.PostStatus status,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+    
     // Find upcoming posts
     @Query("SELECT tp FROM TeamPost tp WHERE tp.playDate > :currentTime AND tp.status = :status ORDER BY tp.playDate ASC")
     List<TeamPost> findUpcomingTeamPosts(@Param("currentTime") LocalDateTime currentTime, 
                                         @Param("status") TeamPost.PostStatus status);
     
     // Find upcoming posts by user
+    @EntityGraph(attributePaths = "user")
     @Query("SELECT tp FROM TeamPost tp WHERE tp.user = :user AND tp.playDate > :currentTime ORDER BY tp.playDate ASC")
     List<TeamPost> findUpcomingTeamPostsByUser(@Param("user") User user, 
                                               @Param("currentTime") LocalDateTime currentTime);
     
     // Find popular posts (with most members)
+    @EntityGraph(attributePaths = "user")
     @Query("SELECT tp FROM TeamPost tp WHERE tp.status = :status ORDER BY tp.currentPlayers DESC")
     List<TeamPost> findPopularTeamPosts(@Param("status") TeamPost.PostStatus status, Pageable pageable);
     
@@ -41,4 +41,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
            "LOWER(u.email) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(u.username) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     Page<User> findByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    
+    /**
+     * Đếm user theo trạng thái
+     */
+    long countByStatus(User.UserStatus status);
+    
+    /**
+     * Phiên bản token hiện tại của user (không nạp cả entity)
+     */
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
 } 
\ No newline at end of file
@@ -25,6 +25,11 @@ public interface BookingService {
      */
     PageResponse<BookingDto> getMyBookings(Pageable pageable);
     
+    /**
+     * Lấy booking của user hiện tại theo cursor (không đếm tổng số)
+     */
+    CursorPageResponse<BookingDto> getMyBookingsByCursor(String cursor, int size);
+    
     /**
      * Lấy danh sách booking theo user ID
      */
@@ -40,6 +45,11 @@ public interface BookingService {
      */
     PageResponse<BookingDto> getBookingsByOwner(Long ownerId, Pageable pageable);
     
+    /**
+     * Lấy booking theo chủ sân theo cursor (không đếm tổng số)
+     */
+    CursorPageResponse<BookingDto> getBookingsByOwnerByCursor(Long ownerId, String cursor, int size);
+    
     /**
      * Cập nhật trạng thái booking
      */
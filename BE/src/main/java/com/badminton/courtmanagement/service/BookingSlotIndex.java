@@ -0,0 +1,26 @@
+package com.badminton.courtmanagement.service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Chỉ mục khung giờ đã đặt theo sân và ngày, giữ trong bộ nhớ
+ */
+public interface BookingSlotIndex {
+    
+    /**
+     * Kiểm tra khung giờ có trùng với booking PENDING/CONFIRMED đã biết không.
+     * Chỉ là gợi ý: chỉ mục có thể cũ (thay đổi từ node khác), cần xác nhận lại với database
+     */
+    boolean hasConflict(Long courtId, LocalDate bookingDate, LocalTime startTime, LocalTime endTime);
+    
+    /**
+     * Nạp lại toàn bộ chỉ mục từ database
+     */
+    void rebuild();
+    
+    /**
+     * Chỉ mục đã được nạp xong chưa
+     */
+    boolean isReady();
+}
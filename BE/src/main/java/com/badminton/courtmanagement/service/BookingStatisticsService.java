@@ -0,0 +1,17 @@
+package com.badminton.courtmanagement.service;
+
+import java.util.Map;
+
+public interface BookingStatisticsService {
+    
+    /**
+     * Thống kê booking của sân: số lượng theo trạng thái, doanh thu,
+     * số booking theo ngày và bản đồ nhiệt theo giờ trong tuần
+     */
+    Map<String, Object> getCourtStatistics(Long courtId);
+    
+    /**
+     * Tổng số booking của sân
+     */
+    long getTotalBookings(Long courtId);
+}
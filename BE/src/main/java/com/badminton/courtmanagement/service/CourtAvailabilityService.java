@@ -0,0 +1,19 @@
+package com.badminton.courtmanagement.service;
+
+import com.badminton.courtmanagement.dto.CourtAvailabilityDto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface CourtAvailabilityService {
+    
+    /**
+     * Lấy lịch trống/bận của sân trong khoảng ngày
+     */
+    CourtAvailabilityDto getAvailability(Long courtId, LocalDate from, LocalDate to);
+    
+    /**
+     * Kiểm tra mọi khung giờ trong khoảng thời gian đều còn sân trống
+     */
+    boolean isAvailable(Long courtId, LocalDateTime startTime, LocalDateTime endTime);
+}
@@ -0,0 +1,45 @@
+package com.badminton.courtmanagement.service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Chỉ mục không gian (lưới ô theo kinh/vĩ độ) của các sân active, giữ trong bộ nhớ
+ */
+public interface CourtGeoIndex {
+    
+    /**
+     * Tìm sân theo khoảng cách tăng dần, trả về đúng một trang kết quả
+     * @param radiusKm bán kính tối đa, null nếu không giới hạn (sân không có tọa độ xếp cuối)
+     * @param minPrice giá khởi điểm tối thiểu, maxPrice tối đa; sân chưa có bảng giá bị loại khi có điều kiện giá
+     * @param courtIds chỉ xét các sân trong tập này, null nếu không giới hạn
+     */
+    Result search(double latitude, double longitude, Double radiusKm,
+                  String sportType, BigDecimal minRating, BigDecimal minPrice, BigDecimal maxPrice,
+                  Set<Long> courtIds, int offset, int limit);
+    
+    /**
+     * Nạp lại một sân từ database (gọi sau khi sân thay đổi)
+     */
+    void refresh(Long courtId);
+    
+    /**
+     * Nạp lại toàn bộ chỉ mục từ database
+     */
+    void rebuild();
+    
+    /**
+     * Chỉ mục đã được nạp xong chưa
+     */
+    boolean isReady();
+    
+    /**
+     * Một sân trong kết quả; distanceKm là null nếu sân không có tọa độ
+     */
+    record Hit(Long courtId, Double distanceKm) {
+    }
+    
+    record Result(List<Hit> hits, long total) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.badminton.courtmanagement.service;
+
+import com.badminton.courtmanagement.dto.CourtDto;
+import com.badminton.courtmanagement.dto.PageResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+
+/**
+ * Cache các trang kết quả tìm sân, gắn tag theo id sân để xóa đúng các trang bị ảnh hưởng khi sân thay đổi
+ */
+public interface CourtSearchCache {
+    
+    /**
+     * Khóa chuẩn hóa của một trang tìm kiếm không theo vị trí; trang tìm theo vị trí không được cache
+     */
+    Key searchKey(String keyword, String sportType, BigDecimal minRating,
+                  BigDecimal minPrice, BigDecimal maxPrice, Sort.Direction priceSort, Pageable pageable);
+    
+    /**
+     * Khóa của một trang danh sách tất cả sân
+     */
+    Key listKey(Pageable pageable);
+    
+    /**
+     * Lấy trang đã cache, null nếu chưa có hoặc cache đang tắt
+     */
+    PageResponse<CourtDto> get(Key key);
+    
+    /**
+     * Thế hệ ghi hiện tại (dùng chung giữa các node qua Redis); lấy trước khi truy vấn database và truyền lại cho put
+     */
+    long generation();
+    
+    /**
+     * Lưu trang kết quả, bỏ qua nếu đã có thay đổi sân kể từ generation
+     */
+    void put(Key key, PageResponse<CourtDto> page, long generation);
+    
+    /**
+     * Xóa mọi trang thuộc các truy vấn từng trả về sân này
+     */
+    void evictCourt(Long courtId);
+    
+    /**
+     * Xóa toàn bộ kết quả tìm kiếm
+     */
+    void evictAll();
+    
+    /**
+     * family: bộ lọc đã chuẩn hóa (mọi trang của một truy vấn); page: số trang
+     */
+    record Key(String family, int page) {
+    }
+}
@@ -3,6 +3,7 @@ package com.badminton.courtmanagement.service;
 import com.badminton.courtmanagement.dto.*;
 import com.badminton.courtmanagement.entity.Court;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -31,6 +32,11 @@ public interface CourtService {
      */
     CourtDto getCourtById(Long courtId);
     
+    /**
+     * Lấy bảng giá đang áp dụng của sân
+     */
+    List<CourtPricingDto> getCourtPricings(Long courtId);
+    
     /**
      * Lấy danh sách tất cả sân (có phân trang)
      */
@@ -45,6 +51,9 @@ public interface CourtService {
                                        BigDecimal latitude,
                                        BigDecimal longitude,
                                        Double radiusKm,
+                                       BigDecimal minPrice,
+                                       BigDecimal maxPrice,
+                                       Sort.Direction priceSort,
                                        Pageable pageable);
     
     /**
@@ -59,6 +68,11 @@ public interface CourtService {
                                         BigDecimal longitude, 
                                         Double radiusKm);
     
+    /**
+     * Gợi ý tên sân, quận, thành phố theo tiền tố (ô tìm kiếm)
+     */
+    List<CourtSuggestionDto> suggestCourts(String prefix, int limit);
+    
     /**
      * Lấy sân của tôi (owner hiện tại)
      */
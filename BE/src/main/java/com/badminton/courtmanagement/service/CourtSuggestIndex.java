@@ -0,0 +1,31 @@
+package com.badminton.courtmanagement.service;
+
+import com.badminton.courtmanagement.dto.CourtSuggestionDto;
+
+import java.util.List;
+
+/**
+ * Cây tiền tố (trie) trong bộ nhớ cho gợi ý tên sân, quận và thành phố, không phân biệt dấu
+ */
+public interface CourtSuggestIndex {
+    
+    /**
+     * Gợi ý theo tiền tố: địa điểm xếp theo số sân, sân xếp theo đánh giá; không truy vấn database
+     */
+    List<CourtSuggestionDto> suggest(String prefix, int limit);
+    
+    /**
+     * Nạp lại một sân từ database (gọi sau khi sân thay đổi)
+     */
+    void refresh(Long courtId);
+    
+    /**
+     * Nạp lại toàn bộ chỉ mục từ database
+     */
+    void rebuild();
+    
+    /**
+     * Chỉ mục đã được nạp xong chưa
+     */
+    boolean isReady();
+}
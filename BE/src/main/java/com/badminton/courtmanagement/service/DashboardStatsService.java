@@ -0,0 +1,41 @@
+package com.badminton.courtmanagement.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Số liệu tổng hợp cho dashboard, cập nhật dần theo sự kiện booking/sân và đối soát định kỳ với database
+ */
+public interface DashboardStatsService {
+    
+    /**
+     * Thống kê tổng quan (sân, user, booking theo trạng thái, doanh thu hôm nay/tuần/tháng)
+     */
+    Map<String, Object> getDashboardStats();
+    
+    /**
+     * Thống kê công khai cho người dùng thường: số sân, đánh giá, môn phổ biến và tổng booking, không có doanh thu
+     */
+    Map<String, Object> getPublicDashboardStats();
+    
+    /**
+     * Doanh thu của chủ sân trong khoảng ngày (booking CONFIRMED/COMPLETED)
+     */
+    BigDecimal getOwnerRevenue(Long ownerId, LocalDate startDate, LocalDate endDate);
+    
+    /**
+     * Doanh thu của một sân từ trước tới nay
+     */
+    BigDecimal getCourtRevenue(Long courtId);
+    
+    /**
+     * Đối chiếu với database và nạp lại nếu lệch
+     */
+    void reconcile();
+    
+    /**
+     * Nạp lại toàn bộ số liệu từ database
+     */
+    void rebuild();
+}
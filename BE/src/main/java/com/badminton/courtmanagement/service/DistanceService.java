@@ -5,22 +5,28 @@ import java.math.BigDecimal;
 public interface DistanceService {
     
     /**
-     * Calculate distance between two points with Redis caching
+     * Calculate distance between two points, rounded to 2 decimal places for display
      * @param lat1 Latitude of first point
      * @param lon1 Longitude of first point  
      * @param lat2 Latitude of second point
      * @param lon2 Longitude of second point
      * @return Distance in kilometers
      */
-    Double calculateDistance(BigDecimal lat1, BigDecimal lon1, BigDecimal lat2, BigDecimal lon2);
+    double calculateDistance(BigDecimal lat1, BigDecimal lon1, BigDecimal lat2, BigDecimal lon2);
     
     /**
-     * Calculate distance using double values with caching
+     * Calculate unrounded distance in kilometers using primitive values
      */
-    Double calculateDistance(double lat1, double lon1, double lat2, double lon2);
+    double calculateDistance(double lat1, double lon1, double lat2, double lon2);
     
     /**
-     * Clear distance cache
+     * Calculate unrounded distances from one origin to {@code count} points in a single pass.
+     * Writes into {@code out} and allocates nothing.
+     * @param lats Latitudes of the target points
+     * @param lons Longitudes of the target points
+     * @param out Receives the distance in kilometers for each target point
+     * @param count Number of points to process from the start of the arrays
      */
-    void clearDistanceCache();
-} 
\ No newline at end of file
+    void calculateDistances(double originLat, double originLon,
+                            double[] lats, double[] lons, double[] out, int count);
+}
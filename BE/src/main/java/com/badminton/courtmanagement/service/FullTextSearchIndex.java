@@ -0,0 +1,55 @@
+package com.badminton.courtmanagement.service;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Chỉ mục toàn văn (Lucene, lưu trên đĩa) cho sân và bài đăng tìm đội, bỏ dấu tiếng Việt
+ */
+public interface FullTextSearchIndex {
+    
+    /**
+     * Tìm sân active theo từ khóa (tên, địa chỉ, mô tả), xếp theo độ liên quan
+     */
+    Result searchCourts(String keyword, int offset, int limit);
+    
+    /**
+     * Tất cả id sân active khớp từ khóa, không xếp hạng (dùng để lọc kết hợp với chỉ mục không gian)
+     */
+    Set<Long> findCourtIds(String keyword);
+    
+    /**
+     * Tìm bài đăng active theo từ khóa (tiêu đề, mô tả, địa điểm), xếp theo độ liên quan
+     */
+    Result searchTeamPosts(String keyword, int offset, int limit);
+    
+    /**
+     * Cập nhật một sân trong chỉ mục từ database
+     */
+    void refreshCourt(Long courtId);
+    
+    /**
+     * Cập nhật một bài đăng trong chỉ mục từ database
+     */
+    void refreshTeamPost(Long teamPostId);
+    
+    /**
+     * Nạp lại toàn bộ chỉ mục từ database
+     */
+    void rebuild();
+    
+    /**
+     * Chỉ mục đã được nạp xong chưa
+     */
+    boolean isReady();
+    
+    record Hit(Long id, float score) {
+    }
+    
+    record Result(List<Hit> hits, long total) {
+        
+        public List<Long> ids() {
+            return hits.stream().map(Hit::id).toList();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.badminton.courtmanagement.service;
+
+import com.badminton.courtmanagement.dto.GeocodingResultDto;
+
+import java.util.Optional;
+
+/**
+ * Nguồn geocoding bên ngoài (Nominatim, hoặc bản giả lập cục bộ khi test); không cache, không giới hạn tốc độ
+ */
+public interface GeocodingProvider {
+    
+    /**
+     * Tìm tọa độ cho địa chỉ; rỗng nếu không tìm thấy
+     */
+    Optional<GeocodingResultDto> geocode(String address);
+    
+    /**
+     * Tìm địa chỉ cho tọa độ; rỗng nếu không tìm thấy
+     */
+    Optional<GeocodingResultDto> reverse(double latitude, double longitude);
+    
+    /**
+     * Nhà cung cấp có áp giới hạn số request không (bản giả lập cục bộ thì không)
+     */
+    boolean isRateLimited();
+}
@@ -0,0 +1,21 @@
+package com.badminton.courtmanagement.service;
+
+import com.badminton.courtmanagement.dto.GeocodingResultDto;
+
+import java.util.Optional;
+
+/**
+ * Geocoding có cache lâu dài trong database, gộp các tra cứu trùng đang chạy và giới hạn tốc độ gọi nhà cung cấp
+ */
+public interface GeocodingService {
+    
+    /**
+     * Tìm tọa độ từ địa chỉ
+     */
+    Optional<GeocodingResultDto> geocode(String address);
+    
+    /**
+     * Tìm địa chỉ từ tọa độ; tọa độ được làm tròn theo lưới cache
+     */
+    Optional<GeocodingResultDto> reverseGeocode(double latitude, double longitude);
+}
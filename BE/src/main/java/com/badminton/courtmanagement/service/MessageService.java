@@ -1,6 +1,7 @@
 package com.badminton.courtmanagement.service;
 
 import com.badminton.courtmanagement.dto.CreateMessageRequest;
+import com.badminton.courtmanagement.dto.CursorPageResponse;
 import com.badminton.courtmanagement.dto.MessageDto;
 import com.badminton.courtmanagement.dto.PageResponse;
 import org.springframework.data.domain.Pageable;
@@ -19,6 +20,11 @@ public interface MessageService {
      */
     List<MessageDto> getConversation(Long otherUserId);
     
+    /**
+     * Lấy cuộc trò chuyện theo cursor, tin nhắn mới nhất trước
+     */
+    CursorPageResponse<MessageDto> getConversationByCursor(Long otherUserId, String cursor, int size);
+    
     /**
      * Lấy danh sách cuộc trò chuyện của user hiện tại
      */
@@ -17,6 +17,7 @@ public interface TeamPostService {
     
     // Listing and search
     PageResponse<TeamPostDto> getAllTeamPosts(Pageable pageable);
+    CursorPageResponse<TeamPostDto> getAllTeamPostsByCursor(String cursor, int size);
     PageResponse<TeamPostDto> getMyTeamPosts(Pageable pageable);
     PageResponse<TeamPostDto> getJoinedTeams(Pageable pageable);
     PageResponse<TeamPostDto> searchTeamPosts(String keyword, String sport, String skillLevel, 
@@ -0,0 +1,19 @@
+package com.badminton.courtmanagement.service;
+
+import com.badminton.courtmanagement.entity.User;
+
+/**
+ * Phiên bản token của user, dùng để thu hồi access token mà không cần tra DB mỗi request
+ */
+public interface TokenVersionService {
+    
+    /**
+     * Phiên bản token hiện tại, null nếu user không còn tồn tại
+     */
+    Integer getCurrentVersion(Long userId);
+    
+    /**
+     * Tăng phiên bản token của user; mọi access token đã cấp trước đó hết hiệu lực sau khi commit
+     */
+    void revokeTokens(User user);
+}
@@ -1,24 +1,31 @@
 package com.badminton.courtmanagement.service.impl;
 
 import com.badminton.courtmanagement.config.JwtUtil;
+import com.badminton.courtmanagement.constants.AppConstants;
 import com.badminton.courtmanagement.constants.ErrorConstants;
 import com.badminton.courtmanagement.dto.*;
 import com.badminton.courtmanagement.entity.User;
+import com.badminton.courtmanagement.event.UserProfileChangedEvent;
 import com.badminton.courtmanagement.exception.ResourceNotFoundException;
 import com.badminton.courtmanagement.exception.ValidationException;
 import com.badminton.courtmanagement.mapper.UserMapper;
 import com.badminton.courtmanagement.repository.UserRepository;
 import com.badminton.courtmanagement.service.AuthService;
-import com.badminton.courtmanagement.service.CustomUserDetailsService;
+import com.badminton.courtmanagement.service.TokenVersionService;
 import com.badminton.courtmanagement.utils.SecurityUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -31,8 +38,10 @@ public class AuthServiceImpl implements AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final AuthenticationManager authenticationManager;
-    private final CustomUserDetailsService userDetailsService;
     private final UserMapper userMapper;
+    private final TokenVersionService tokenVersionService;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -74,9 +83,8 @@ public class AuthServiceImpl implements AuthService {
         log.info("User registered successfully with id: {}", user.getId());
 
         // Tạo tokens
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
-        String accessToken = jwtUtil.generateToken(userDetails);
-        String refreshToken = jwtUtil.generateRefreshToken(userDetails);
+        String accessToken = jwtUtil.generateToken(user);
+        String refreshToken = jwtUtil.generateRefreshToken(user);
 
         return AuthResponse.builder()
                 .accessToken(accessToken)
@@ -110,9 +118,8 @@ public class AuthServiceImpl implements AuthService {
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.USER_NOT_FOUND));
 
         // Tạo tokens
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
-        String accessToken = jwtUtil.generateToken(userDetails);
-        String refreshToken = jwtUtil.generateRefreshToken(userDetails);
+        String accessToken = jwtUtil.generateToken(user);
+        String refreshToken = jwtUtil.generateRefreshToken(user);
 
         log.info("User logged in successfully: {}", user.getId());
 
@@ -135,17 +142,33 @@ public class AuthServiceImpl implements AuthService {
     public AuthResponse refreshToken(String refreshToken) {
         log.debug("Refreshing token");
         
-        if (!jwtUtil.isTokenValid(refreshToken)) {
+        Claims claims;
+        try {
+            claims = jwtUtil.parseClaims(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
             throw new ValidationException(ErrorConstants.INVALID_TOKEN);
         }
 
-        String email = jwtUtil.extractUsername(refreshToken);
-        User user = userRepository.findByEmail(email)
+        // Refresh tokens without a version predate revocation and cannot be checked against it
+        Long userId = claims.get(JwtUtil.CLAIM_USER_ID, Long.class);
+        Integer tokenVersion = claims.get(JwtUtil.CLAIM_TOKEN_VERSION, Integer.class);
+        if (userId == null || tokenVersion == null) {
+            throw new ValidationException(ErrorConstants.INVALID_TOKEN);
+        }
+
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.USER_NOT_FOUND));
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
-        String newAccessToken = jwtUtil.generateToken(userDetails);
-        String newRefreshToken = jwtUtil.generateRefreshToken(userDetails);
+        // Refresh tokens issued before a password or status change are no longer accepted
+        if (!tokenVersion.equals(user.getTokenVersion())) {
+            throw new ValidationException(ErrorConstants.INVALID_TOKEN);
+        }
+        if (user.getStatus() != User.UserStatus.ACTIVE) {
+            throw new ValidationException(ErrorConstants.USER_INACTIVE);
+        }
+
+        String newAccessToken = jwtUtil.generateToken(user);
+        String newRefreshToken = jwtUtil.generateRefreshToken(user);
 
         return AuthResponse.builder()
                 .accessToken(newAccessToken)
@@ -166,15 +189,12 @@ public class AuthServiceImpl implements AuthService {
     public UserDto getCurrentUserProfile() {
         log.debug("Getting current user profile");
         
-        String currentUserEmail = SecurityUtils.getCurrentUserEmail();
-        if (currentUserEmail == null) {
+        Long currentUserId = SecurityUtils.getCurrentUserId();
+        if (currentUserId == null) {
             throw new ValidationException(ErrorConstants.ACCESS_DENIED);
         }
         
-        User user = userRepository.findByEmail(currentUserEmail)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.USER_NOT_FOUND));
-        
-        return userMapper.toDto(user);
+        return loadProfile(currentUserId);
     }
 
     @Override
@@ -182,12 +202,12 @@ public class AuthServiceImpl implements AuthService {
     public UserDto updateProfile(UpdateProfileRequest request) {
         log.debug("Updating user profile");
         
-        String currentUserEmail = SecurityUtils.getCurrentUserEmail();
-        if (currentUserEmail == null) {
+        Long currentUserId = SecurityUtils.getCurrentUserId();
+        if (currentUserId == null) {
             throw new ValidationException(ErrorConstants.ACCESS_DENIED);
         }
         
-        User user = userRepository.findByEmail(currentUserEmail)
+        User user = userRepository.findById(currentUserId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.USER_NOT_FOUND));
 
         // Kiểm tra email mới có trùng với user khác không
@@ -212,6 +232,7 @@ public class AuthServiceImpl implements AuthService {
         user.setAvatarUrl(request.getProfileImage());
 
         user = userRepository.save(user);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(user.getId()));
         log.info("User profile updated successfully: {}", user.getId());
 
         return userMapper.toDto(user);
@@ -222,12 +243,12 @@ public class AuthServiceImpl implements AuthService {
     public void changePassword(ChangePasswordRequest request) {
         log.debug("Changing user password");
         
-        String currentUserEmail = SecurityUtils.getCurrentUserEmail();
-        if (currentUserEmail == null) {
+        Long currentUserId = SecurityUtils.getCurrentUserId();
+        if (currentUserId == null) {
             throw new ValidationException(ErrorConstants.ACCESS_DENIED);
         }
         
-        User user = userRepository.findByEmail(currentUserEmail)
+        User user = userRepository.findById(currentUserId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.USER_NOT_FOUND));
 
         // Kiểm tra mật khẩu hiện tại
@@ -242,6 +263,7 @@ public class AuthServiceImpl implements AuthService {
 
         // Cập nhật mật khẩu
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
+        tokenVersionService.revokeTokens(user);
         userRepository.save(user);
         
         log.info("Password changed successfully for user: {}", user.getId());
@@ -251,10 +273,33 @@ public class AuthServiceImpl implements AuthService {
     public UserDto getUserById(Long userId) {
         log.debug("Getting user by id: {}", userId);
         
+        return loadProfile(userId);
+    }
+    
+    /**
+     * Drop the cached profile on every node once the change has committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        profileCache().evict(event.getUserId());
+    }
+    
+    private UserDto loadProfile(Long userId) {
+        UserDto cached = profileCache().get(userId, UserDto.class);
+        if (cached != null) {
+            return cached;
+        }
+        
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.USER_NOT_FOUND, userId));
         
-        return userMapper.toDto(user);
+        UserDto profile = userMapper.toDto(user);
+        profileCache().put(userId, profile);
+        return profile;
+    }
+    
+    private Cache profileCache() {
+        return cacheManager.getCache(AppConstants.CACHE_USER_PROFILE);
     }
 
     // ================= ADMIN METHODS =================
@@ -336,8 +381,12 @@ public class AuthServiceImpl implements AuthService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.USER_NOT_FOUND, userId));
         
-        user.setStatus(status);
+        if (user.getStatus() != status) {
+            user.setStatus(status);
+            tokenVersionService.revokeTokens(user);
+        }
         user = userRepository.save(user);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
         
         log.info("User status updated successfully: {} -> {}", userId, status);
         return userMapper.toDto(user);
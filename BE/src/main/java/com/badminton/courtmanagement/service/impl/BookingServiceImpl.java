@@ -1,31 +1,56 @@
 package com.badminton.courtmanagement.service.impl;
 
+import com.badminton.courtmanagement.constants.AppConstants;
 import com.badminton.courtmanagement.constants.ErrorConstants;
 import com.badminton.courtmanagement.dto.*;
 import com.badminton.courtmanagement.entity.Booking;
 import com.badminton.courtmanagement.entity.Court;
+import com.badminton.courtmanagement.entity.CourtOwner;
+import com.badminton.courtmanagement.entity.CourtPricing;
 import com.badminton.courtmanagement.entity.User;
+import com.badminton.courtmanagement.event.BookingChangedEvent;
+import com.badminton.courtmanagement.exception.ConflictException;
 import com.badminton.courtmanagement.exception.ResourceNotFoundException;
 import com.badminton.courtmanagement.exception.ValidationException;
 import com.badminton.courtmanagement.mapper.BookingMapper;
 import com.badminton.courtmanagement.repository.BookingRepository;
+import com.badminton.courtmanagement.repository.CourtDayLockRepository;
+import com.badminton.courtmanagement.repository.CourtOwnerRepository;
 import com.badminton.courtmanagement.repository.CourtRepository;
 import com.badminton.courtmanagement.repository.UserRepository;
 import com.badminton.courtmanagement.service.BookingService;
+import com.badminton.courtmanagement.service.BookingSlotIndex;
+import com.badminton.courtmanagement.service.BookingStatisticsService;
+import com.badminton.courtmanagement.service.DashboardStatsService;
+import com.badminton.courtmanagement.utils.CursorUtils;
 import com.badminton.courtmanagement.utils.SecurityUtils;
+import com.badminton.courtmanagement.utils.StripedLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 @RequiredArgsConstructor
@@ -35,11 +60,20 @@ public class BookingServiceImpl implements BookingService {
     
     private final BookingRepository bookingRepository;
     private final CourtRepository courtRepository;
+    private final CourtOwnerRepository courtOwnerRepository;
     private final UserRepository userRepository;
     private final BookingMapper bookingMapper;
+    private final BookingSlotIndex bookingSlotIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CourtDayLockRepository courtDayLockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DashboardStatsService dashboardStatsService;
+    private final BookingStatisticsService bookingStatisticsService;
+    
+    private final StripedLock courtDayLocks = new StripedLock(AppConstants.BOOKING_LOCK_STRIPES);
     
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BookingDto createBooking(CreateBookingRequest request) {
         log.debug("Creating new booking for court: {}", request.getCourtId());
         
@@ -52,28 +86,48 @@ public class BookingServiceImpl implements BookingService {
         }
         
         // Get current user
-        User user = getCurrentUser();
+        Long userId = getCurrentUserId();
         
         // Validate booking time
         validateBookingTime(request);
         
-        // Check for conflicts
-        if (hasBookingConflict(request.getCourtId(), request.getBookingDate(), 
-                               request.getStartTime(), request.getEndTime())) {
-            throw new ValidationException(ErrorConstants.BOOKING_CONFLICT);
+        // Fast reject before taking any lock. The index may be stale (a cancellation on another
+        // node), so a hit is only rejected once the database confirms it
+        if (bookingSlotIndex.hasConflict(court.getId(), request.getBookingDate(),
+                                         request.getStartTime(), request.getEndTime())) {
+            if (hasBookingConflict(court, request.getBookingDate(), request.getStartTime(), request.getEndTime())) {
+                throw new ValidationException(ErrorConstants.BOOKING_CONFLICT);
+            }
+            log.debug("Slot index reported a stale conflict on court {} for {}", court.getId(), request.getBookingDate());
         }
         
-        // Create booking entity
-        Booking booking = bookingMapper.toEntity(request);
-        booking.setUser(user);
-        booking.setCourt(court);
-        booking.setStatus(Booking.BookingStatus.PENDING);
-        
-        // Save booking
-        Booking savedBooking = bookingRepository.save(booking);
-        log.info("Created booking with id: {}", savedBooking.getId());
-        
-        return bookingMapper.toDto(savedBooking);
+        // Serialize admissions for the same (court, date) only: striped lock in this JVM,
+        // court_day_locks row FOR UPDATE across nodes
+        ReentrantLock lock = courtDayLocks.get(new CourtDayKey(court.getId(), request.getBookingDate()));
+        acquire(lock);
+        try {
+            courtDayLockRepository.insertIfAbsent(court.getId(), request.getBookingDate());
+            Booking savedBooking = admitWithinLockTimeout(request, court, userId);
+            
+            log.info("Created booking with id: {}", savedBooking.getId());
+            return bookingMapper.toDto(savedBooking);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Lock rows are only needed for days that can still be booked
+     */
+    @Scheduled(initialDelayString = "${booking.court-day-locks.cleanup-interval-ms:86400000}",
+               fixedDelayString = "${booking.court-day-locks.cleanup-interval-ms:86400000}")
+    public void deletePastCourtDayLocks() {
+        try {
+            int deleted = courtDayLockRepository.deleteBefore(LocalDate.now());
+            log.info("Deleted {} court-day lock rows for past dates", deleted);
+        } catch (RuntimeException e) {
+            log.warn("Court-day lock cleanup failed: {}", e.getMessage());
+        }
     }
     
     @Override
@@ -99,6 +153,24 @@ public class BookingServiceImpl implements BookingService {
         return PageResponse.of(bookings.map(bookingMapper::toDto));
     }
     
+    @Override
+    public CursorPageResponse<BookingDto> getMyBookingsByCursor(String cursor, int size) {
+        log.debug("Getting my bookings after cursor: {}", cursor);
+        
+        Long userId = getCurrentUserId();
+        Pageable limit = CursorUtils.limitOf(size);
+        List<Booking> bookings;
+        if (cursor == null || cursor.isBlank()) {
+            bookings = bookingRepository.findKeysetByUserId(userId, limit);
+        } else {
+            CursorUtils.BookingCursor after = CursorUtils.decodeBooking(cursor);
+            bookings = bookingRepository.findKeysetByUserIdAfter(
+                    userId, after.bookingDate(), after.startTime(), after.id(), limit);
+        }
+        
+        return toCursorPage(bookings, size);
+    }
+    
     @Override
     public PageResponse<BookingDto> getBookingsByUser(Long userId, Pageable pageable) {
         log.debug("Getting bookings by user id: {}", userId);
@@ -134,6 +206,25 @@ public class BookingServiceImpl implements BookingService {
         return PageResponse.of(bookings.map(bookingMapper::toDto));
     }
     
+    @Override
+    public CursorPageResponse<BookingDto> getBookingsByOwnerByCursor(Long ownerId, String cursor, int size) {
+        log.debug("Getting bookings by owner id: {} after cursor: {}", ownerId, cursor);
+        
+        LocalDate startDate = LocalDate.now().minusYears(1); // Last year
+        LocalDate endDate = LocalDate.now().plusDays(30); // Next month
+        Pageable limit = CursorUtils.limitOf(size);
+        List<Booking> bookings;
+        if (cursor == null || cursor.isBlank()) {
+            bookings = bookingRepository.findKeysetByCourtOwnerAndDateRange(ownerId, startDate, endDate, limit);
+        } else {
+            CursorUtils.BookingCursor after = CursorUtils.decodeBooking(cursor);
+            bookings = bookingRepository.findKeysetByCourtOwnerAndDateRangeAfter(ownerId, startDate, endDate,
+                    after.bookingDate(), after.startTime(), after.id(), limit);
+        }
+        
+        return toCursorPage(bookings, size);
+    }
+    
     @Override
     @Transactional
     public BookingDto updateBookingStatus(Long bookingId, Booking.BookingStatus status) {
@@ -145,8 +236,10 @@ public class BookingServiceImpl implements BookingService {
         // Validate status transition
         validateStatusTransition(booking.getStatus(), status);
         
+        Booking.BookingStatus previousStatus = booking.getStatus();
         booking.setStatus(status);
         Booking savedBooking = bookingRepository.save(booking);
+        eventPublisher.publishEvent(BookingChangedEvent.of(savedBooking, previousStatus));
         
         log.info("Updated booking {} status to: {}", bookingId, status);
         return bookingMapper.toDto(savedBooking);
@@ -169,8 +262,10 @@ public class BookingServiceImpl implements BookingService {
         // Check access permission
         validateBookingAccess(booking);
         
+        Booking.BookingStatus previousStatus = booking.getStatus();
         booking.setStatus(Booking.BookingStatus.CANCELLED);
         Booking savedBooking = bookingRepository.save(booking);
+        eventPublisher.publishEvent(BookingChangedEvent.of(savedBooking, previousStatus));
         
         log.info("Cancelled booking id: {}", bookingId);
         return bookingMapper.toDto(savedBooking);
@@ -190,6 +285,7 @@ public class BookingServiceImpl implements BookingService {
         
         booking.setStatus(Booking.BookingStatus.CONFIRMED);
         Booking savedBooking = bookingRepository.save(booking);
+        eventPublisher.publishEvent(BookingChangedEvent.of(savedBooking, Booking.BookingStatus.PENDING));
         
         log.info("Confirmed booking id: {}", bookingId);
         return bookingMapper.toDto(savedBooking);
@@ -209,6 +305,7 @@ public class BookingServiceImpl implements BookingService {
         
         booking.setStatus(Booking.BookingStatus.COMPLETED);
         Booking savedBooking = bookingRepository.save(booking);
+        eventPublisher.publishEvent(BookingChangedEvent.of(savedBooking, Booking.BookingStatus.CONFIRMED));
         
         log.info("Completed booking id: {}", bookingId);
         return bookingMapper.toDto(savedBooking);
@@ -239,17 +336,9 @@ public class BookingServiceImpl implements BookingService {
         log.debug("Getting overdue bookings");
         
         LocalDateTime cutoffTime = LocalDateTime.now().minusHours(24); // 24 hours ago
-        List<Booking> bookings = bookingRepository.findOverdueBookings(cutoffTime);
+        Page<Booking> bookings = bookingRepository.findOverdueBookings(cutoffTime, pageable);
         
-        // Convert to Page manually (simplified implementation)
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), bookings.size());
-        List<Booking> pageContent = bookings.subList(start, end);
-        
-        return PageResponse.of(pageContent.stream().map(bookingMapper::toDto).toList(), 
-                              pageable.getPageNumber(), 
-                              pageable.getPageSize(), 
-                              bookings.size());
+        return PageResponse.of(bookings.map(bookingMapper::toDto));
     }
     
     @Override
@@ -259,24 +348,15 @@ public class BookingServiceImpl implements BookingService {
         Court court = courtRepository.findById(courtId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.COURT_NOT_FOUND));
         
-        // Simple statistics implementation
+        // The statistics include the court's revenue
+        if (!SecurityUtils.hasRole("ADMIN") && !court.getOwner().getUser().getId().equals(getCurrentUserId())) {
+            throw new ValidationException(ErrorConstants.ACCESS_DENIED);
+        }
+        
         Map<String, Object> stats = new HashMap<>();
         stats.put("courtId", courtId);
         stats.put("courtName", court.getName());
-        
-        Page<Booking> allBookingsPage = bookingRepository.findByCourt(court, Pageable.unpaged());
-        List<Booking> allBookings = allBookingsPage.getContent();
-        stats.put("totalBookings", allBookings.size());
-        
-        long confirmedBookings = allBookings.stream()
-                .mapToLong(booking -> booking.getStatus() == Booking.BookingStatus.CONFIRMED ? 1 : 0)
-                .sum();
-        stats.put("confirmedBookings", confirmedBookings);
-        
-        long completedBookings = allBookings.stream()
-                .mapToLong(booking -> booking.getStatus() == Booking.BookingStatus.COMPLETED ? 1 : 0)
-                .sum();
-        stats.put("completedBookings", completedBookings);
+        stats.putAll(bookingStatisticsService.getCourtStatistics(courtId));
         
         return stats;
     }
@@ -285,25 +365,160 @@ public class BookingServiceImpl implements BookingService {
     public Map<String, Object> getRevenueStatistics(Long ownerId, LocalDateTime startDate, LocalDateTime endDate) {
         log.debug("Getting revenue statistics for owner: {} from {} to {}", ownerId, startDate, endDate);
         
-        // Simple revenue statistics implementation
+        validateOwnerAccess(ownerId);
+        
+        YearMonth currentMonth = YearMonth.now();
+        
         Map<String, Object> stats = new HashMap<>();
         stats.put("ownerId", ownerId);
         stats.put("startDate", startDate);
         stats.put("endDate", endDate);
-        stats.put("totalRevenue", 0); // Placeholder
-        stats.put("monthlyRevenue", 0); // Placeholder
+        stats.put("totalRevenue", dashboardStatsService.getOwnerRevenue(
+                ownerId, startDate.toLocalDate(), endDate.toLocalDate()));
+        stats.put("monthlyRevenue", dashboardStatsService.getOwnerRevenue(
+                ownerId, currentMonth.atDay(1), currentMonth.atEndOfMonth()));
         
         return stats;
     }
     
-    private User getCurrentUser() {
-        String currentUserEmail = SecurityUtils.getCurrentUserEmail();
-        if (currentUserEmail == null) {
+    /**
+     * Owners may only see their own figures; admins see everyone's
+     */
+    private void validateOwnerAccess(Long ownerId) {
+        if (SecurityUtils.hasRole("ADMIN")) {
+            return;
+        }
+        CourtOwner owner = courtOwnerRepository.findByUserId(getCurrentUserId())
+                .orElseThrow(() -> new ValidationException(ErrorConstants.COURT_OWNER_NOT_FOUND));
+        if (!owner.getId().equals(ownerId)) {
             throw new ValidationException(ErrorConstants.ACCESS_DENIED);
         }
+    }
+    
+    private Long getCurrentUserId() {
+        Long currentUserId = SecurityUtils.getCurrentUserId();
+        if (currentUserId == null) {
+            throw new ValidationException(ErrorConstants.ACCESS_DENIED);
+        }
+        return currentUserId;
+    }
+    
+    /**
+     * Reference to the current user for associations and queries; loads nothing unless a field is read
+     */
+    private User getCurrentUser() {
+        return userRepository.getReferenceById(getCurrentUserId());
+    }
+    
+    private CursorPageResponse<BookingDto> toCursorPage(List<Booking> bookings, int size) {
+        return CursorPageResponse.of(bookings, CursorUtils.normalizeSize(size), bookingMapper::toDto,
+                booking -> CursorUtils.encodeBooking(
+                        booking.getBookingDate(), booking.getStartTime(), booking.getId()));
+    }
+    
+    /**
+     * The court-day row is locked with NOWAIT (MySQL cannot bound a single lock wait per statement,
+     * and innodb_lock_wait_timeout would hold a pooled connection for 50 s), so while another node
+     * holds it the whole admission transaction is retried until BOOKING_LOCK_TIMEOUT_SECONDS pass
+     */
+    private Booking admitWithinLockTimeout(CreateBookingRequest request, Court court, Long userId) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(AppConstants.BOOKING_LOCK_TIMEOUT_SECONDS);
+        while (true) {
+            try {
+                return transactionTemplate.execute(status -> admitBooking(request, court, userId));
+            } catch (PessimisticLockingFailureException e) {
+                if (System.nanoTime() >= deadline) {
+                    throw new ConflictException(ErrorConstants.BOOKING_SLOT_BUSY);
+                }
+                log.debug("Court-day {} {} is locked by another node, retrying", court.getId(), request.getBookingDate());
+            }
+            try {
+                Thread.sleep(AppConstants.BOOKING_LOCK_RETRY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ConflictException(ErrorConstants.BOOKING_SLOT_BUSY);
+            }
+        }
+    }
+    
+    private Booking admitBooking(CreateBookingRequest request, Court court, Long userId) {
+        // Must be the first statement of the transaction: InnoDB opens the read snapshot on the
+        // first plain SELECT, so the conflict count below sees every booking committed before us
+        courtDayLockRepository.lockCourtDay(court.getId(), request.getBookingDate());
         
-        return userRepository.findByEmail(currentUserEmail)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.USER_NOT_FOUND));
+        if (hasBookingConflict(court, request.getBookingDate(), 
+                               request.getStartTime(), request.getEndTime())) {
+            throw new ValidationException(ErrorConstants.BOOKING_CONFLICT);
+        }
+        
+        // Create booking entity
+        Booking booking = bookingMapper.toEntity(request);
+        booking.setUser(userRepository.getReferenceById(userId));
+        booking.setCourt(court);
+        booking.setStatus(Booking.BookingStatus.PENDING);
+        booking.setTotalAmount(calculateTotalAmount(courtRepository.getReferenceById(court.getId()).getPricings(),
+                request.getBookingDate(), request.getStartTime(), request.getEndTime()));
+        
+        // Save booking
+        Booking savedBooking = bookingRepository.save(booking);
+        eventPublisher.publishEvent(BookingChangedEvent.of(savedBooking, null));
+        
+        return savedBooking;
+    }
+    
+    /**
+     * Hourly base prices of the active bands for the day type, prorated per minute of overlap.
+     * Every minute of the slot must fall in a band, otherwise the slot is rejected rather than
+     * booked for free; where bands overlap, the one starting first prices the shared minutes.
+     */
+    static BigDecimal calculateTotalAmount(Collection<CourtPricing> pricings, LocalDate bookingDate,
+                                           LocalTime startTime, LocalTime endTime) {
+        DayOfWeek day = bookingDate.getDayOfWeek();
+        CourtPricing.DayType dayType = day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY
+                ? CourtPricing.DayType.WEEKEND
+                : CourtPricing.DayType.WEEKDAY;
+        List<CourtPricing> bands = pricings == null ? List.of() : pricings.stream()
+                .filter(pricing -> !Boolean.FALSE.equals(pricing.getIsActive()) && pricing.getDayType() == dayType)
+                .sorted(Comparator.comparing(CourtPricing::getStartTime))
+                .toList();
+        
+        int end = endTime.toSecondOfDay() / 60;
+        int minute = startTime.toSecondOfDay() / 60;
+        BigDecimal total = BigDecimal.ZERO;
+        while (minute < end) {
+            CourtPricing band = null;
+            for (CourtPricing candidate : bands) {
+                if (candidate.getStartTime().toSecondOfDay() / 60 <= minute
+                        && minute < endMinute(candidate.getEndTime())) {
+                    band = candidate;
+                    break;
+                }
+            }
+            if (band == null) {
+                throw new ValidationException(ErrorConstants.BOOKING_SLOT_NOT_PRICED);
+            }
+            int until = Math.min(end, endMinute(band.getEndTime()));
+            total = total.add(band.getBasePrice().multiply(BigDecimal.valueOf(until - minute)));
+            minute = until;
+        }
+        return total.divide(BigDecimal.valueOf(60), 2, RoundingMode.HALF_UP);
+    }
+    
+    // A band ending at 00:00 runs to midnight
+    private static int endMinute(LocalTime endTime) {
+        int minute = endTime.toSecondOfDay() / 60;
+        return minute == 0 ? 24 * 60 : minute;
+    }
+    
+    private void acquire(ReentrantLock lock) {
+        try {
+            if (!lock.tryLock(AppConstants.BOOKING_LOCK_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new ConflictException(ErrorConstants.BOOKING_SLOT_BUSY);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException(ErrorConstants.BOOKING_SLOT_BUSY);
+        }
     }
     
     private void validateBookingTime(CreateBookingRequest request) {
@@ -318,11 +533,8 @@ public class BookingServiceImpl implements BookingService {
         }
     }
     
-    private boolean hasBookingConflict(Long courtId, LocalDate bookingDate, 
+    private boolean hasBookingConflict(Court court, LocalDate bookingDate, 
                                      LocalTime startTime, LocalTime endTime) {
-        Court court = courtRepository.findById(courtId)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.COURT_NOT_FOUND));
-        
         long conflictCount = bookingRepository.countConflictingBookings(court, bookingDate, startTime, endTime);
         
         return conflictCount > 0;
@@ -330,16 +542,19 @@ public class BookingServiceImpl implements BookingService {
     
 
     private void validateBookingAccess(Booking booking) {
-        User currentUser = getCurrentUser();
+        Long currentUserId = getCurrentUserId();
         
         // User can access their own bookings, court owners can access bookings for their courts, admins can access all
-        if (!booking.getUser().getId().equals(currentUser.getId()) &&
-            !booking.getCourt().getOwner().getUser().getId().equals(currentUser.getId()) &&
+        if (!booking.getUser().getId().equals(currentUserId) &&
+            !booking.getCourt().getOwner().getUser().getId().equals(currentUserId) &&
             !SecurityUtils.hasRole("ADMIN")) {
             throw new ValidationException(ErrorConstants.ACCESS_DENIED);
         }
     }
     
+    private record CourtDayKey(Long courtId, LocalDate bookingDate) {
+    }
+    
     private void validateStatusTransition(Booking.BookingStatus currentStatus, Booking.BookingStatus newStatus) {
         // Simple validation - in real app, you'd have more complex business rules
         if (currentStatus == Booking.BookingStatus.CANCELLED || 
@@ -0,0 +1,252 @@
+package com.badminton.courtmanagement.service.impl;
+
+import com.badminton.courtmanagement.event.BookingChangedEvent;
+import com.badminton.courtmanagement.repository.BookingRepository;
+import com.badminton.courtmanagement.service.BookingSlotIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Keeps one minute-resolution bitmap per (court, day) for PENDING/CONFIRMED bookings.
+ * A day is 1440 bits (23 longs), so a conflict check is a handful of word masks.
+ * Bookings changed on other nodes only show up at the next rebuild, so a hit is a hint:
+ * BookingServiceImpl confirms it with the database count before rejecting, and a miss
+ * still goes through the locked database check.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookingSlotIndexImpl implements BookingSlotIndex {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int WORDS_PER_DAY = (MINUTES_PER_DAY + 63) / 64;
+
+    private final BookingRepository bookingRepository;
+
+    private volatile Map<DayKey, DaySlots> days = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+    // Changes seen while a rebuild is running; replayed onto the fresh snapshot before it is swapped in
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final Queue<BookingChangedEvent> changesDuringRebuild = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private boolean rebuilding = false;
+
+    @Override
+    public boolean hasConflict(Long courtId, LocalDate bookingDate, LocalTime startTime, LocalTime endTime) {
+        if (!ready) {
+            return false;
+        }
+        DaySlots slots = days.get(new DayKey(courtId, bookingDate));
+        return slots != null && slots.intersects(startMinute(startTime), endMinute(endTime));
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * Periodic reload drops past days and picks up changes made by other backend nodes
+     */
+    @Scheduled(initialDelayString = "${booking.slot-index.refresh-interval-ms:300000}",
+               fixedDelayString = "${booking.slot-index.refresh-interval-ms:300000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    @Override
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            log.debug("Rebuilding booking slot index");
+
+            swapLock.writeLock().lock();
+            try {
+                rebuilding = true;
+                changesDuringRebuild.clear();
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+
+            Map<DayKey, DaySlots> snapshot = new ConcurrentHashMap<>();
+            try {
+                List<Object[]> rows = bookingRepository.findActiveSlotsFrom(LocalDate.now());
+                for (Object[] row : rows) {
+                    DayKey key = new DayKey((Long) row[1], (LocalDate) row[2]);
+                    snapshot.computeIfAbsent(key, k -> new DaySlots())
+                            .add((Long) row[0], startMinute((LocalTime) row[3]), endMinute((LocalTime) row[4]));
+                }
+            } catch (RuntimeException e) {
+                swapLock.writeLock().lock();
+                try {
+                    rebuilding = false;
+                    changesDuringRebuild.clear();
+                } finally {
+                    swapLock.writeLock().unlock();
+                }
+                log.warn("Could not rebuild booking slot index, keeping previous state: {}", e.getMessage());
+                return;
+            }
+
+            swapLock.writeLock().lock();
+            try {
+                for (BookingChangedEvent change : changesDuringRebuild) {
+                    apply(snapshot, change);
+                }
+                changesDuringRebuild.clear();
+                rebuilding = false;
+                days = snapshot;
+                ready = true;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+
+            log.info("Booking slot index rebuilt with {} court-days", snapshot.size());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        swapLock.readLock().lock();
+        try {
+            apply(days, event);
+            if (rebuilding) {
+                changesDuringRebuild.add(event);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private void apply(Map<DayKey, DaySlots> target, BookingChangedEvent event) {
+        DayKey key = new DayKey(event.getCourtId(), event.getBookingDate());
+        if (event.isHoldingSlot()) {
+            target.computeIfAbsent(key, k -> new DaySlots())
+                    .add(event.getBookingId(), startMinute(event.getStartTime()), endMinute(event.getEndTime()));
+        } else {
+            DaySlots slots = target.get(key);
+            if (slots != null) {
+                slots.remove(event.getBookingId());
+            }
+        }
+    }
+
+    private static int startMinute(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static int endMinute(LocalTime time) {
+        // Round partial minutes up so the bitmap never under-reports an occupied range
+        int minute = time.getHour() * 60 + time.getMinute();
+        return (time.getSecond() > 0 || time.getNano() > 0) ? minute + 1 : minute;
+    }
+
+    private record DayKey(Long courtId, LocalDate date) {
+    }
+
+    /**
+     * Bitmap for one court-day plus the intervals it was built from, so that releasing
+     * one booking never clears minutes still held by another (overlapping legacy rows).
+     */
+    private static final class DaySlots {
+
+        private final long[] bits = new long[WORDS_PER_DAY];
+        private final Map<Long, Integer> intervals = new HashMap<>();
+        private final ReentrantLock lock = new ReentrantLock();
+
+        void add(Long bookingId, int start, int end) {
+            lock.lock();
+            try {
+                Integer previous = intervals.put(bookingId, (start << 16) | end);
+                if (previous != null) {
+                    recompute();
+                } else {
+                    setRange(start, end);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(Long bookingId) {
+            lock.lock();
+            try {
+                if (intervals.remove(bookingId) != null) {
+                    recompute();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean intersects(int start, int end) {
+            lock.lock();
+            try {
+                if (start >= end) {
+                    return false;
+                }
+                int firstWord = start >>> 6;
+                int lastWord = (end - 1) >>> 6;
+                for (int word = firstWord; word <= lastWord; word++) {
+                    if ((bits[word] & wordMask(word, start, end)) != 0) {
+                        return true;
+                    }
+                }
+                return false;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void recompute() {
+            Arrays.fill(bits, 0L);
+            for (int packed : intervals.values()) {
+                setRange(packed >>> 16, packed & 0xFFFF);
+            }
+        }
+
+        private void setRange(int start, int end) {
+            if (start >= end) {
+                return;
+            }
+            int firstWord = start >>> 6;
+            int lastWord = (end - 1) >>> 6;
+            for (int word = firstWord; word <= lastWord; word++) {
+                bits[word] |= wordMask(word, start, end);
+            }
+        }
+
+        private static long wordMask(int word, int start, int end) {
+            int from = Math.max(start - (word << 6), 0);
+            int to = Math.min(end - (word << 6), 64);
+            long upper = to == 64 ? -1L : (1L << to) - 1;
+            long lower = (1L << from) - 1;
+            return upper & ~lower;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.badminton.courtmanagement.service.impl;
+
+import com.badminton.courtmanagement.constants.AppConstants;
+import com.badminton.courtmanagement.entity.Booking;
+import com.badminton.courtmanagement.event.BookingChangedEvent;
+import com.badminton.courtmanagement.repository.BookingRepository;
+import com.badminton.courtmanagement.service.BookingStatisticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Booking statistics computed with GROUP BY queries in the database instead of loading
+ * every booking of a court. Results are cached per court for a short TTL and evicted
+ * whenever a booking of that court changes.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class BookingStatisticsServiceImpl implements BookingStatisticsService {
+
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int HOURS_PER_DAY = 24;
+
+    private final BookingRepository bookingRepository;
+    private final CacheManager cacheManager;
+
+    @Override
+    public Map<String, Object> getCourtStatistics(Long courtId) {
+        log.debug("Getting booking statistics for court: {}", courtId);
+
+        Map<String, Object> cached = getCached(courtId);
+        if (cached != null) {
+            return new LinkedHashMap<>(cached);
+        }
+
+        LocalDate today = LocalDate.now();
+        LinkedHashMap<String, Object> stats = new LinkedHashMap<>();
+        putStatusTotals(stats, courtId);
+        stats.put("dailyBookings", loadDailyStats(courtId,
+                today.minusDays(AppConstants.STATISTICS_DAILY_WINDOW_DAYS - 1L), today));
+        stats.put("hourlyHeatmap", loadHeatmap(courtId,
+                today.minusDays(AppConstants.STATISTICS_HEATMAP_WINDOW_DAYS - 1L), today));
+        stats.put("generatedAt", LocalDateTime.now());
+
+        putCached(courtId, stats);
+
+        log.info("Computed booking statistics for court: {}", courtId);
+        return new LinkedHashMap<>(stats);
+    }
+
+    @Override
+    public long getTotalBookings(Long courtId) {
+        return bookingRepository.countByCourtId(courtId);
+    }
+
+    /**
+     * Drop the cached statistics of the court once the booking change has committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        try {
+            statisticsCache().evict(event.getCourtId());
+        } catch (RuntimeException e) {
+            log.warn("Could not evict booking statistics cache for court {}: {}",
+                    event.getCourtId(), e.getMessage());
+        }
+    }
+
+    private void putStatusTotals(Map<String, Object> stats, Long courtId) {
+        Map<Booking.BookingStatus, Long> counts = new EnumMap<>(Booking.BookingStatus.class);
+        BigDecimal revenue = BigDecimal.ZERO;
+        long total = 0;
+
+        for (Object[] row : bookingRepository.countAndRevenueByStatusForCourt(courtId)) {
+            Booking.BookingStatus status = (Booking.BookingStatus) row[0];
+            long count = ((Number) row[1]).longValue();
+            counts.put(status, count);
+            total += count;
+            if (status == Booking.BookingStatus.CONFIRMED || status == Booking.BookingStatus.COMPLETED) {
+                revenue = revenue.add(toBigDecimal(row[2]));
+            }
+        }
+
+        stats.put("totalBookings", total);
+        stats.put("pendingBookings", counts.getOrDefault(Booking.BookingStatus.PENDING, 0L));
+        stats.put("confirmedBookings", counts.getOrDefault(Booking.BookingStatus.CONFIRMED, 0L));
+        stats.put("completedBookings", counts.getOrDefault(Booking.BookingStatus.COMPLETED, 0L));
+        stats.put("cancelledBookings", counts.getOrDefault(Booking.BookingStatus.CANCELLED, 0L));
+        stats.put("totalRevenue", revenue);
+    }
+
+    private List<Map<String, Object>> loadDailyStats(Long courtId, LocalDate from, LocalDate to) {
+        List<Map<String, Object>> days = new ArrayList<>();
+        for (Object[] row : bookingRepository.dailyStatsForCourt(courtId, from, to)) {
+            LinkedHashMap<String, Object> day = new LinkedHashMap<>();
+            day.put("date", row[0]);
+            day.put("bookings", ((Number) row[1]).longValue());
+            day.put("revenue", toBigDecimal(row[2]));
+            days.add(day);
+        }
+        return days;
+    }
+
+    /**
+     * Booking counts indexed as [dayOfWeek][hourOfDay], Monday first
+     */
+    private long[][] loadHeatmap(Long courtId, LocalDate from, LocalDate to) {
+        long[][] heatmap = new long[DAYS_PER_WEEK][HOURS_PER_DAY];
+        for (Object[] row : bookingRepository.hourOfWeekHeatmapForCourt(courtId, from, to)) {
+            // MySQL DAYOFWEEK: 1 = Sunday ... 7 = Saturday
+            int day = (((Number) row[0]).intValue() + 5) % DAYS_PER_WEEK;
+            int hour = ((Number) row[1]).intValue();
+            heatmap[day][hour] = ((Number) row[2]).longValue();
+        }
+        return heatmap;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> getCached(Long courtId) {
+        try {
+            return statisticsCache().get(courtId, Map.class);
+        } catch (RuntimeException e) {
+            log.warn("Booking statistics cache read failed, falling back to database: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void putCached(Long courtId, Map<String, Object> stats) {
+        try {
+            statisticsCache().put(courtId, stats);
+        } catch (RuntimeException e) {
+            log.warn("Booking statistics cache write failed: {}", e.getMessage());
+        }
+    }
+
+    private Cache statisticsCache() {
+        return cacheManager.getCache(AppConstants.CACHE_BOOKING_STATISTICS);
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        return value == null ? BigDecimal.ZERO : new BigDecimal(value.toString());
+    }
+}
@@ -0,0 +1,271 @@
+package com.badminton.courtmanagement.service.impl;
+
+import com.badminton.courtmanagement.constants.AppConstants;
+import com.badminton.courtmanagement.constants.ErrorConstants;
+import com.badminton.courtmanagement.dto.CourtAvailabilityDto;
+import com.badminton.courtmanagement.dto.DayAvailabilityDto;
+import com.badminton.courtmanagement.dto.TimeSlotDto;
+import com.badminton.courtmanagement.entity.Court;
+import com.badminton.courtmanagement.event.BookingChangedEvent;
+import com.badminton.courtmanagement.exception.ResourceNotFoundException;
+import com.badminton.courtmanagement.exception.ValidationException;
+import com.badminton.courtmanagement.repository.BookingRepository;
+import com.badminton.courtmanagement.repository.CourtRepository;
+import com.badminton.courtmanagement.service.CourtAvailabilityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class CourtAvailabilityServiceImpl implements CourtAvailabilityService {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int[] NO_BOOKINGS = new int[0];
+
+    private final CourtRepository courtRepository;
+    private final BookingRepository bookingRepository;
+    private final CacheManager cacheManager;
+
+    @Override
+    public CourtAvailabilityDto getAvailability(Long courtId, LocalDate from, LocalDate to) {
+        log.debug("Getting availability for court {} from {} to {}", courtId, from, to);
+
+        validateRange(from, to);
+
+        Court court = courtRepository.findById(courtId)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.COURT_NOT_FOUND, courtId));
+
+        Map<LocalDate, int[]> bookedByDay = loadBookedIntervals(courtId, from, to);
+
+        List<DayAvailabilityDto> days = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            days.add(DayAvailabilityDto.builder()
+                    .date(date)
+                    .slots(buildSlots(court, bookedByDay.get(date)))
+                    .build());
+        }
+
+        return CourtAvailabilityDto.builder()
+                .courtId(courtId)
+                .from(from)
+                .to(to)
+                .slotDurationMinutes(AppConstants.BOOKING_SLOT_DURATION_MINUTES)
+                .totalCourts(capacityOf(court))
+                .days(days)
+                .build();
+    }
+
+    @Override
+    public boolean isAvailable(Long courtId, LocalDateTime startTime, LocalDateTime endTime) {
+        log.debug("Checking court {} availability from {} to {}", courtId, startTime, endTime);
+
+        if (startTime.isAfter(endTime)) {
+            throw new ValidationException(ErrorConstants.VALIDATION_ERROR);
+        }
+
+        LocalDate from = startTime.toLocalDate();
+        LocalDate to = endTime.toLocalDate();
+        validateRange(from, to);
+
+        Court court = courtRepository.findById(courtId)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.COURT_NOT_FOUND, courtId));
+        if (court.getStatus() != Court.CourtStatus.ACTIVE) {
+            return false;
+        }
+
+        Map<LocalDate, int[]> bookedByDay = loadBookedIntervals(courtId, from, to);
+        int opening = openingMinuteOf(court);
+        int closing = closingMinuteOf(court);
+
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            int start = date.equals(from) ? minuteOf(startTime.toLocalTime()) : 0;
+            int end = date.equals(to) ? minuteOf(endTime.toLocalTime()) : MINUTES_PER_DAY;
+            if (start >= end) {
+                continue;
+            }
+            if (start < opening || end > closing) {
+                return false;
+            }
+            if (countOverlapping(bookedByDay.get(date), start, end) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Evict the cached court-day once the booking change has committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        try {
+            availabilityCache().evict(cacheKey(event.getCourtId(), event.getBookingDate()));
+        } catch (RuntimeException e) {
+            log.warn("Could not evict availability cache for court {} on {}: {}",
+                    event.getCourtId(), event.getBookingDate(), e.getMessage());
+        }
+    }
+
+    /**
+     * Booked intervals per day, packed as (startMinute << 16 | endMinute). Days found in the
+     * cache are reused; the rest are fetched with a single range query and cached individually.
+     */
+    private Map<LocalDate, int[]> loadBookedIntervals(Long courtId, LocalDate from, LocalDate to) {
+        Map<LocalDate, int[]> result = new HashMap<>();
+        LocalDate firstMissing = null;
+        LocalDate lastMissing = null;
+
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            int[] cached = getCached(courtId, date);
+            if (cached != null) {
+                result.put(date, cached);
+            } else {
+                if (firstMissing == null) {
+                    firstMissing = date;
+                }
+                lastMissing = date;
+            }
+        }
+
+        if (firstMissing == null) {
+            return result;
+        }
+
+        Map<LocalDate, List<Integer>> fetched = new HashMap<>();
+        for (Object[] row : bookingRepository.findActiveSlotsByCourtAndDateRange(courtId, firstMissing, lastMissing)) {
+            LocalDate date = (LocalDate) row[0];
+            int start = minuteOf((LocalTime) row[1]);
+            int end = minuteOf((LocalTime) row[2]);
+            fetched.computeIfAbsent(date, d -> new ArrayList<>()).add((start << 16) | end);
+        }
+
+        for (LocalDate date = firstMissing; !date.isAfter(lastMissing); date = date.plusDays(1)) {
+            if (result.containsKey(date)) {
+                continue;
+            }
+            List<Integer> intervals = fetched.get(date);
+            int[] packed = intervals == null ? NO_BOOKINGS
+                    : intervals.stream().mapToInt(Integer::intValue).toArray();
+            result.put(date, packed);
+            putCached(courtId, date, packed);
+        }
+        return result;
+    }
+
+    /**
+     * A booking holds the whole court (admission rejects any overlap on it), so a slot is free only
+     * while nothing overlaps it, and then all of the court's sub-courts come with it
+     */
+    private List<TimeSlotDto> buildSlots(Court court, int[] booked) {
+        int opening = openingMinuteOf(court);
+        int closing = closingMinuteOf(court);
+        int capacity = capacityOf(court);
+        boolean active = court.getStatus() == Court.CourtStatus.ACTIVE;
+
+        List<TimeSlotDto> slots = new ArrayList<>();
+        for (int start = opening; start < closing; start += AppConstants.BOOKING_SLOT_DURATION_MINUTES) {
+            int end = Math.min(start + AppConstants.BOOKING_SLOT_DURATION_MINUTES, closing);
+            int bookedCount = countOverlapping(booked, start, end);
+            int availableCourts = active && bookedCount == 0 ? capacity : 0;
+
+            slots.add(TimeSlotDto.builder()
+                    .startTime(timeOf(start))
+                    .endTime(timeOf(end))
+                    .bookedCount(bookedCount)
+                    .availableCourts(availableCourts)
+                    .available(availableCourts > 0)
+                    .build());
+        }
+        return slots;
+    }
+
+    private static int countOverlapping(int[] booked, int start, int end) {
+        if (booked == null) {
+            return 0;
+        }
+        int count = 0;
+        for (int packed : booked) {
+            if ((packed >>> 16) < end && (packed & 0xFFFF) > start) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new ValidationException(ErrorConstants.VALIDATION_ERROR);
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= AppConstants.AVAILABILITY_MAX_RANGE_DAYS) {
+            throw new ValidationException(ErrorConstants.AVAILABILITY_RANGE_TOO_LONG);
+        }
+    }
+
+    private int[] getCached(Long courtId, LocalDate date) {
+        try {
+            return availabilityCache().get(cacheKey(courtId, date), int[].class);
+        } catch (RuntimeException e) {
+            log.warn("Availability cache read failed, falling back to database: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void putCached(Long courtId, LocalDate date, int[] packed) {
+        try {
+            availabilityCache().put(cacheKey(courtId, date), packed);
+        } catch (RuntimeException e) {
+            log.warn("Availability cache write failed: {}", e.getMessage());
+        }
+    }
+
+    private Cache availabilityCache() {
+        return cacheManager.getCache(AppConstants.CACHE_COURT_AVAILABILITY);
+    }
+
+    private static String cacheKey(Long courtId, LocalDate date) {
+        return courtId + ":" + date;
+    }
+
+    private static int capacityOf(Court court) {
+        return court.getTotalCourts() != null && court.getTotalCourts() > 0 ? court.getTotalCourts() : 1;
+    }
+
+    private static int openingMinuteOf(Court court) {
+        return court.getOpeningTime() != null
+                ? minuteOf(court.getOpeningTime())
+                : AppConstants.COURT_OPERATING_START_HOUR * 60;
+    }
+
+    private static int closingMinuteOf(Court court) {
+        int opening = openingMinuteOf(court);
+        int closing = court.getClosingTime() != null
+                ? minuteOf(court.getClosingTime())
+                : AppConstants.COURT_OPERATING_END_HOUR * 60;
+        // A closing time at or before opening (e.g. 00:00) means the court stays open until midnight
+        return closing <= opening ? MINUTES_PER_DAY : closing;
+    }
+
+    private static int minuteOf(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static LocalTime timeOf(int minute) {
+        return minute >= MINUTES_PER_DAY ? LocalTime.MAX.withNano(0) : LocalTime.of(minute / 60, minute % 60);
+    }
+}
@@ -0,0 +1,387 @@
+package com.badminton.courtmanagement.service.impl;
+
+import com.badminton.courtmanagement.entity.Court;
+import com.badminton.courtmanagement.event.CourtChangedEvent;
+import com.badminton.courtmanagement.repository.CourtRepository;
+import com.badminton.courtmanagement.service.CourtGeoIndex;
+import com.badminton.courtmanagement.service.DistanceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Uniform grid over (lat, lng) with 0.05 degree cells (about 5.5 km north-south).
+ * Radius queries only visit the cells overlapping the bounding box; unbounded queries
+ * grow rings of cells around the origin until the requested page is provably complete.
+ * The index is an immutable snapshot swapped on every change, so readers never lock.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CourtGeoIndexImpl implements CourtGeoIndex {
+
+    private static final double CELL_DEGREES = 0.05;
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private final CourtRepository courtRepository;
+    private final DistanceService distanceService;
+
+    // Serializes snapshot swaps (rebuild, refresh); searches read the volatile snapshot without locking
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile boolean ready = false;
+
+    @Override
+    public Result search(double latitude, double longitude, Double radiusKm,
+                         String sportType, BigDecimal minRating, BigDecimal minPrice, BigDecimal maxPrice,
+                         Set<Long> courtIds, int offset, int limit) {
+        Snapshot current = snapshot;
+        Filter filter = new Filter(sportType, minRating, minPrice, maxPrice, courtIds);
+
+        List<Hit> ordered = radiusKm != null
+                ? searchWithinRadius(current, latitude, longitude, radiusKm, filter)
+                : searchNearest(current, latitude, longitude, filter, offset + limit);
+
+        long total = radiusKm != null ? ordered.size() : countMatching(current, filter);
+        List<Hit> page = offset < ordered.size()
+                ? ordered.subList(offset, Math.min(offset + limit, ordered.size()))
+                : new ArrayList<>();
+
+        // Courts without coordinates come after every located court when there is no radius
+        if (radiusKm == null && page.size() < limit && !current.unlocated.isEmpty()) {
+            page = new ArrayList<>(page);
+            int skip = Math.max(offset - countMatchingLocated(current, filter), 0);
+            for (Entry entry : current.unlocated) {
+                if (page.size() >= limit) {
+                    break;
+                }
+                if (filter.accepts(entry)) {
+                    if (skip > 0) {
+                        skip--;
+                    } else {
+                        page.add(new Hit(entry.id, null));
+                    }
+                }
+            }
+        }
+        return new Result(page, total);
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * Periodic reload picks up rating and price changes written by database triggers and other nodes
+     */
+    @Scheduled(initialDelayString = "${court.geo-index.refresh-interval-ms:600000}",
+               fixedDelayString = "${court.geo-index.refresh-interval-ms:600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    @Override
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            log.debug("Rebuilding court geo index");
+            try {
+                List<Entry> entries = new ArrayList<>();
+                for (Object[] row : courtRepository.findActiveGeoEntries()) {
+                    entries.add(Entry.of((Long) row[0], (BigDecimal) row[1], (BigDecimal) row[2],
+                            (String) row[3], (BigDecimal) row[4], (BigDecimal) row[5]));
+                }
+                snapshot = Snapshot.of(entries);
+                ready = true;
+                log.info("Court geo index rebuilt with {} courts", entries.size());
+            } catch (RuntimeException e) {
+                log.warn("Could not rebuild court geo index, keeping previous state: {}", e.getMessage());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void refresh(Long courtId) {
+        writeLock.lock();
+        try {
+            Court court = courtRepository.findById(courtId).orElse(null);
+
+            Map<Long, Entry> entries = new HashMap<>(snapshot.byId);
+            if (court == null || court.getStatus() != Court.CourtStatus.ACTIVE) {
+                entries.remove(courtId);
+            } else {
+                entries.put(courtId, Entry.of(court.getId(), court.getLatitude(), court.getLongitude(),
+                        court.getSportTypes(), court.getAverageRating(), court.getMinPrice()));
+            }
+            snapshot = Snapshot.of(entries.values());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourtChanged(CourtChangedEvent event) {
+        try {
+            refresh(event.getCourtId());
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh court {} in geo index: {}", event.getCourtId(), e.getMessage());
+        }
+    }
+
+    private List<Hit> searchWithinRadius(Snapshot current, double latitude, double longitude,
+                                         double radiusKm, Filter filter) {
+        double dLat = radiusKm / KM_PER_DEGREE;
+        double cosLat = Math.cos(Math.toRadians(latitude));
+        double dLng = cosLat > 1e-6 ? radiusKm / (KM_PER_DEGREE * cosLat) : 360;
+
+        double minLat = latitude - dLat;
+        double maxLat = latitude + dLat;
+        double minLng = longitude - dLng;
+        double maxLng = longitude + dLng;
+
+        List<Hit> hits = new ArrayList<>();
+        int fromRow = cellIndex(minLat);
+        int toRow = cellIndex(maxLat);
+        int fromCol = cellIndex(minLng);
+        int toCol = cellIndex(maxLng);
+        long cellsInBox = (long) (toRow - fromRow + 1) * (toCol - fromCol + 1);
+
+        if (cellsInBox > current.cells.size() || dLng >= 180) {
+            // Box covers more cells than exist: a batched linear pass over located courts is cheaper
+            double[] distances = distancesToAll(current, latitude, longitude);
+            for (int i = 0; i < current.located.length; i++) {
+                Entry entry = current.located[i];
+                if (distances[i] <= radiusKm && filter.accepts(entry)) {
+                    hits.add(new Hit(entry.id, distances[i]));
+                }
+            }
+        } else {
+            for (int row = fromRow; row <= toRow; row++) {
+                for (int col = fromCol; col <= toCol; col++) {
+                    Entry[] cell = current.cells.get(cellKey(row, col));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (Entry entry : cell) {
+                        if (entry.lat >= minLat && entry.lat <= maxLat
+                                && entry.lng >= minLng && entry.lng <= maxLng) {
+                            collectIfWithin(entry, latitude, longitude, radiusKm, filter, hits);
+                        }
+                    }
+                }
+            }
+        }
+
+        hits.sort(HIT_ORDER);
+        return hits;
+    }
+
+    private void collectIfWithin(Entry entry, double latitude, double longitude, double radiusKm,
+                                 Filter filter, List<Hit> hits) {
+        if (!filter.accepts(entry)) {
+            return;
+        }
+        double distance = distanceService.calculateDistance(latitude, longitude, entry.lat, entry.lng);
+        if (distance <= radiusKm) {
+            hits.add(new Hit(entry.id, distance));
+        }
+    }
+
+    /**
+     * Nearest located courts, at least {@code needed} of them when available, in distance order
+     */
+    private List<Hit> searchNearest(Snapshot current, double latitude, double longitude,
+                                    Filter filter, int needed) {
+        int originRow = cellIndex(latitude);
+        int originCol = cellIndex(longitude);
+        List<Hit> hits = new ArrayList<>();
+        int scanned = 0;
+
+        for (int ring = 0; ; ring++) {
+            long cellsSoFar = (long) (2 * ring + 1) * (2 * ring + 1);
+            if (cellsSoFar > current.cells.size()) {
+                // Rings have become larger than the populated grid: finish with a linear pass
+                hits.clear();
+                double[] distances = distancesToAll(current, latitude, longitude);
+                for (int i = 0; i < current.located.length; i++) {
+                    if (filter.accepts(current.located[i])) {
+                        hits.add(new Hit(current.located[i].id, distances[i]));
+                    }
+                }
+                hits.sort(HIT_ORDER);
+                return hits;
+            }
+
+            for (int row = originRow - ring; row <= originRow + ring; row++) {
+                boolean edgeRow = row == originRow - ring || row == originRow + ring;
+                int step = edgeRow ? 1 : 2 * ring;
+                for (int col = originCol - ring; col <= originCol + ring; col += Math.max(step, 1)) {
+                    Entry[] cell = current.cells.get(cellKey(row, col));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (Entry entry : cell) {
+                        scanned++;
+                        if (filter.accepts(entry)) {
+                            hits.add(new Hit(entry.id,
+                                    distanceService.calculateDistance(latitude, longitude, entry.lat, entry.lng)));
+                        }
+                    }
+                }
+            }
+
+            // Anything outside the rings scanned so far is at least `ring` cells away
+            double farthestLat = Math.min(Math.abs(latitude) + (ring + 1) * CELL_DEGREES, 90);
+            double cellKm = CELL_DEGREES * KM_PER_DEGREE * Math.cos(Math.toRadians(farthestLat));
+            double guaranteedKm = ring * cellKm;
+            long settled = hits.stream().filter(hit -> hit.distanceKm() <= guaranteedKm).count();
+
+            if (settled >= needed || scanned >= current.located.length) {
+                hits.sort(HIT_ORDER);
+                return hits.size() > needed && settled >= needed ? hits.subList(0, needed) : hits;
+            }
+        }
+    }
+
+    private static long countMatching(Snapshot current, Filter filter) {
+        if (filter.isEmpty()) {
+            return current.byId.size();
+        }
+        return current.byId.values().stream().filter(filter::accepts).count();
+    }
+
+    private static int countMatchingLocated(Snapshot current, Filter filter) {
+        if (filter.isEmpty()) {
+            return current.located.length;
+        }
+        return (int) Arrays.stream(current.located).filter(filter::accepts).count();
+    }
+
+    private double[] distancesToAll(Snapshot current, double latitude, double longitude) {
+        double[] distances = new double[current.located.length];
+        distanceService.calculateDistances(latitude, longitude,
+                current.locatedLats, current.locatedLngs, distances, distances.length);
+        return distances;
+    }
+
+    private static int cellIndex(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xFFFFFFFFL);
+    }
+
+    private static final Comparator<Hit> HIT_ORDER = Comparator
+            .comparingDouble(Hit::distanceKm)
+            .thenComparing(Hit::courtId);
+
+    // minPrice is NaN for a court without an active price list
+    private record Entry(Long id, double lat, double lng, String sportTypes, double rating, double minPrice) {
+
+        static Entry of(Long id, BigDecimal latitude, BigDecimal longitude, String sportTypes, BigDecimal rating,
+                        BigDecimal minPrice) {
+            return new Entry(id,
+                    latitude != null ? latitude.doubleValue() : Double.NaN,
+                    longitude != null ? longitude.doubleValue() : Double.NaN,
+                    sportTypes != null ? sportTypes.toLowerCase() : "",
+                    rating != null ? rating.doubleValue() : 0.0,
+                    minPrice != null ? minPrice.doubleValue() : Double.NaN);
+        }
+
+        boolean located() {
+            return !Double.isNaN(lat) && !Double.isNaN(lng);
+        }
+    }
+
+    private record Filter(String sportType, BigDecimal minRating, BigDecimal minPrice, BigDecimal maxPrice,
+                          Set<Long> courtIds) {
+
+        Filter {
+            sportType = sportType != null && !sportType.isBlank() ? sportType.trim().toLowerCase() : null;
+        }
+
+        boolean isEmpty() {
+            return sportType == null && minRating == null && minPrice == null && maxPrice == null && courtIds == null;
+        }
+
+        boolean accepts(Entry entry) {
+            return (sportType == null || entry.sportTypes.contains(sportType))
+                    && (minRating == null || entry.rating >= minRating.doubleValue())
+                    && acceptsPrice(entry)
+                    && (courtIds == null || courtIds.contains(entry.id));
+        }
+
+        // Same rule as CourtSpecification.hasPriceBetween: no price list, no match under a price condition
+        private boolean acceptsPrice(Entry entry) {
+            if (minPrice == null && maxPrice == null) {
+                return true;
+            }
+            return !Double.isNaN(entry.minPrice)
+                    && (minPrice == null || entry.minPrice >= minPrice.doubleValue())
+                    && (maxPrice == null || entry.minPrice <= maxPrice.doubleValue());
+        }
+    }
+
+    private record Snapshot(Map<Long, Entry> byId, Map<Long, Entry[]> cells,
+                            Entry[] located, double[] locatedLats, double[] locatedLngs,
+                            List<Entry> unlocated) {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), new Entry[0],
+                new double[0], new double[0], List.of());
+
+        static Snapshot of(Iterable<Entry> entries) {
+            Map<Long, Entry> byId = new HashMap<>();
+            Map<Long, List<Entry>> grouped = new HashMap<>();
+            List<Entry> located = new ArrayList<>();
+            List<Entry> unlocated = new ArrayList<>();
+
+            for (Entry entry : entries) {
+                byId.put(entry.id, entry);
+                if (entry.located()) {
+                    located.add(entry);
+                    grouped.computeIfAbsent(cellKey(cellIndex(entry.lat), cellIndex(entry.lng)),
+                            key -> new ArrayList<>()).add(entry);
+                } else {
+                    unlocated.add(entry);
+                }
+            }
+            unlocated.sort(Comparator.comparing(Entry::id));
+
+            Map<Long, Entry[]> cells = new HashMap<>();
+            grouped.forEach((key, list) -> cells.put(key, list.toArray(new Entry[0])));
+
+            // Coordinates laid out as primitive arrays for batched distance computation
+            double[] lats = new double[located.size()];
+            double[] lngs = new double[located.size()];
+            for (int i = 0; i < located.size(); i++) {
+                lats[i] = located.get(i).lat;
+                lngs[i] = located.get(i).lng;
+            }
+            return new Snapshot(byId, cells, located.toArray(new Entry[0]), lats, lngs, unlocated);
+        }
+    }
+}
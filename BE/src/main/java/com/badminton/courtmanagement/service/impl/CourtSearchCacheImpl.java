@@ -0,0 +1,215 @@
+package com.badminton.courtmanagement.service.impl;
+
+import com.badminton.courtmanagement.constants.AppConstants;
+import com.badminton.courtmanagement.dto.CourtDto;
+import com.badminton.courtmanagement.dto.PageResponse;
+import com.badminton.courtmanagement.entity.Court;
+import com.badminton.courtmanagement.event.CourtChangedEvent;
+import com.badminton.courtmanagement.repository.CourtRepository;
+import com.badminton.courtmanagement.service.CourtSearchCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Search result pages live in the two-level {@code court_search} cache under
+ * {@code family#page}, where the family is the normalized filter tuple. Two Redis sets tag them
+ * for invalidation: {@code court_search:tag:court:<id>} lists the families that returned a court
+ * and {@code court_search:family:<family>} lists the cached pages of a family. Changing a court
+ * evicts every page of every family that showed it. A court that may newly match queries it was
+ * never part of (created, edited, reactivated) cannot be found through tags, so those changes
+ * clear the whole cache instead.
+ * <p>
+ * Every invalidation also bumps a generation counter in Redis, shared by all nodes. A search reads
+ * it before querying the database and its page is only stored while the counter is unchanged, so a
+ * result read before a write on any node cannot be cached after it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CourtSearchCacheImpl implements CourtSearchCache {
+
+    private static final String TAG_PREFIX = AppConstants.CACHE_COURT_SEARCH + ":tag:court:";
+    private static final String FAMILY_PREFIX = AppConstants.CACHE_COURT_SEARCH + ":family:";
+    private static final String GENERATION_KEY = AppConstants.CACHE_COURT_SEARCH + ":generation";
+    private static final String PAGE_SEPARATOR = "#";
+    // Returned while the counter cannot be read; never matches, so nothing is cached
+    private static final long UNKNOWN_GENERATION = -1;
+
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final CourtRepository courtRepository;
+
+    @Value("${search.cache.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public Key searchKey(String keyword, String sportType, BigDecimal minRating,
+                         BigDecimal minPrice, BigDecimal maxPrice, Sort.Direction priceSort, Pageable pageable) {
+        StringBuilder family = new StringBuilder("search");
+        family.append("|sport=").append(sportType != null ? sportType.trim().toUpperCase(Locale.ROOT) : "");
+        family.append("|rating=").append(number(minRating));
+        family.append("|price=").append(number(minPrice)).append('-').append(number(maxPrice));
+        family.append("|priceSort=").append(priceSort != null ? priceSort : "");
+        family.append("|size=").append(pageable.getPageSize());
+        family.append("|sort=").append(pageable.getSort());
+        // Keyword last so whatever it contains cannot collide with the fields above
+        family.append("|q=").append(keyword(keyword));
+        return new Key(family.toString(), pageable.getPageNumber());
+    }
+
+    @Override
+    public Key listKey(Pageable pageable) {
+        return new Key("all|size=" + pageable.getPageSize() + "|sort=" + pageable.getSort(), pageable.getPageNumber());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public PageResponse<CourtDto> get(Key key) {
+        if (!enabled) {
+            return null;
+        }
+        return cache().get(cacheKey(key.family(), key.page()), PageResponse.class);
+    }
+
+    @Override
+    public long generation() {
+        try {
+            String value = redisTemplate.opsForValue().get(GENERATION_KEY);
+            return value != null ? Long.parseLong(value) : 0;
+        } catch (RuntimeException e) {
+            log.debug("Could not read search cache generation, not caching: {}", e.getMessage());
+            return UNKNOWN_GENERATION;
+        }
+    }
+
+    @Override
+    public void put(Key key, PageResponse<CourtDto> page, long startedAt) {
+        if (!enabled || startedAt == UNKNOWN_GENERATION || generation() != startedAt) {
+            return;
+        }
+        long ttlSeconds = AppConstants.CACHE_TTL_SHORT;
+        String familyKey = FAMILY_PREFIX + key.family();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                redis.sAdd(familyKey, String.valueOf(key.page()));
+                redis.expire(familyKey, ttlSeconds);
+                for (CourtDto court : page.getContent()) {
+                    String tagKey = TAG_PREFIX + court.getId();
+                    redis.sAdd(tagKey, key.family());
+                    redis.expire(tagKey, ttlSeconds);
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // An untagged page could not be invalidated, so it is not cached at all
+            log.warn("Could not tag court search page, skipping cache: {}", e.getMessage());
+            return;
+        }
+        cache().put(cacheKey(key.family(), key.page()), page);
+        // An invalidation that landed between the check and the put may have missed this page
+        if (generation() != startedAt) {
+            cache().evict(cacheKey(key.family(), key.page()));
+        }
+    }
+
+    @Override
+    public void evictCourt(Long courtId) {
+        bumpGeneration();
+        String tagKey = TAG_PREFIX + courtId;
+        try {
+            Set<String> families = redisTemplate.opsForSet().members(tagKey);
+            if (families != null) {
+                for (String family : families) {
+                    evictFamily(family);
+                }
+            }
+            redisTemplate.delete(tagKey);
+            log.debug("Evicted {} cached search families for court: {}", families != null ? families.size() : 0, courtId);
+        } catch (RuntimeException e) {
+            log.warn("Could not read search tags of court {}, clearing search cache: {}", courtId, e.getMessage());
+            cache().clear();
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        bumpGeneration();
+        // Tag sets are left to expire; a tag pointing at a family with no pages left is harmless
+        cache().clear();
+        log.debug("Cleared court search cache");
+    }
+
+    /**
+     * Invalidate once the court change has committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourtChanged(CourtChangedEvent event) {
+        try {
+            if (event.getType() == CourtChangedEvent.ChangeType.STATUS_CHANGED && !isActive(event.getCourtId())) {
+                // Deactivated or deleted: it can only drop out of results it was already in
+                evictCourt(event.getCourtId());
+            } else {
+                evictAll();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Court search cache invalidation failed for court {}: {}", event.getCourtId(), e.getMessage());
+        }
+    }
+
+    private void bumpGeneration() {
+        try {
+            redisTemplate.opsForValue().increment(GENERATION_KEY);
+        } catch (RuntimeException e) {
+            // Searches in flight cannot read the counter either while Redis is unreachable
+            log.warn("Could not bump search cache generation: {}", e.getMessage());
+        }
+    }
+
+    private void evictFamily(String family) {
+        String familyKey = FAMILY_PREFIX + family;
+        Set<String> pages = redisTemplate.opsForSet().members(familyKey);
+        if (pages != null) {
+            for (String page : pages) {
+                cache().evict(cacheKey(family, Integer.parseInt(page)));
+            }
+        }
+        redisTemplate.delete(familyKey);
+    }
+
+    private boolean isActive(Long courtId) {
+        return courtRepository.findById(courtId)
+                .map(court -> court.getStatus() == Court.CourtStatus.ACTIVE)
+                .orElse(false);
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(AppConstants.CACHE_COURT_SEARCH);
+    }
+
+    private static String cacheKey(String family, int page) {
+        return family + PAGE_SEPARATOR + page;
+    }
+
+    private static String number(BigDecimal value) {
+        return value != null ? value.stripTrailingZeros().toPlainString() : "";
+    }
+
+    private static String keyword(String keyword) {
+        return keyword != null ? keyword.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT) : "";
+    }
+}
@@ -1,34 +1,56 @@
 package com.badminton.courtmanagement.service.impl;
 
+import com.badminton.courtmanagement.constants.AppConstants;
 import com.badminton.courtmanagement.constants.ErrorConstants;
 import com.badminton.courtmanagement.dto.*;
 import com.badminton.courtmanagement.entity.Court;
 import com.badminton.courtmanagement.entity.CourtOwner;
 import com.badminton.courtmanagement.entity.User;
+import com.badminton.courtmanagement.event.CourtChangedEvent;
 import com.badminton.courtmanagement.exception.ResourceNotFoundException;
 import com.badminton.courtmanagement.exception.ValidationException;
+import com.badminton.courtmanagement.entity.CourtPricing;
 import com.badminton.courtmanagement.mapper.CourtMapper;
+import com.badminton.courtmanagement.mapper.CourtPricingMapper;
 import com.badminton.courtmanagement.repository.CourtOwnerRepository;
 import com.badminton.courtmanagement.repository.CourtRepository;
 import com.badminton.courtmanagement.repository.UserRepository;
+import com.badminton.courtmanagement.service.BookingStatisticsService;
+import com.badminton.courtmanagement.service.CourtAvailabilityService;
+import com.badminton.courtmanagement.service.CourtGeoIndex;
+import com.badminton.courtmanagement.service.CourtSearchCache;
 import com.badminton.courtmanagement.service.CourtService;
+import com.badminton.courtmanagement.service.CourtSuggestIndex;
 import com.badminton.courtmanagement.service.DistanceService;
+import com.badminton.courtmanagement.service.FullTextSearchIndex;
 import com.badminton.courtmanagement.specification.CourtSpecification;
 import com.badminton.courtmanagement.utils.SecurityUtils;
 import com.badminton.courtmanagement.utils.ValidationUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -36,30 +58,95 @@ import java.util.HashMap;
 @Transactional(readOnly = true)
 public class CourtServiceImpl implements CourtService {
     
+    private static final double KM_PER_DEGREE = 111.32;
+    private static final double MAX_SEARCH_RADIUS_KM = 20038.0; // Half of the earth's circumference
+    private static final Comparator<CourtPricing> PRICING_ORDER = Comparator
+            .comparing(CourtPricing::getDayType, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(CourtPricing::getStartTime, Comparator.nullsLast(Comparator.naturalOrder()));
+    
     private final CourtRepository courtRepository;
     private final CourtOwnerRepository courtOwnerRepository;
     private final UserRepository userRepository;
     private final CourtMapper courtMapper;
+    private final CourtAvailabilityService courtAvailabilityService;
+    private final BookingStatisticsService bookingStatisticsService;
+    private final CourtGeoIndex courtGeoIndex;
+    private final FullTextSearchIndex fullTextSearchIndex;
+    private final CourtSuggestIndex courtSuggestIndex;
+    private final CourtSearchCache courtSearchCache;
     private final DistanceService distanceService;
+    private final CourtPricingMapper courtPricingMapper;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Override
     public PageResponse<CourtDto> getAllCourts(Pageable pageable) {
         log.debug("Getting all courts with pagination: {}", pageable);
         
-        Page<Court> courts = courtRepository.findAll(pageable);
-        List<CourtDto> courtDtos = courtMapper.toDtoList(courts.getContent());
+        CourtSearchCache.Key key = courtSearchCache.listKey(pageable);
+        PageResponse<CourtDto> cached = courtSearchCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
         
-        return PageResponse.of(courts.map(courtMapper::toDto));
+        long generation = courtSearchCache.generation();
+        Page<Court> courts = courtRepository.findAll(pageable);
+        PageResponse<CourtDto> result = PageResponse.of(courts.map(courtMapper::toDto));
+        courtSearchCache.put(key, result, generation);
+        return result;
     }
     
     @Override
     public CourtDto getCourtById(Long id) {
         log.debug("Getting court by id: {}", id);
         
+        CourtDto cached = cache(AppConstants.CACHE_COURTS).get(id, CourtDto.class);
+        if (cached != null) {
+            return cached;
+        }
+        
         Court court = courtRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.COURT_NOT_FOUND, id));
         
-        return courtMapper.toDto(court);
+        CourtDto courtDto = courtMapper.toDto(court);
+        cache(AppConstants.CACHE_COURTS).put(id, courtDto);
+        return courtDto;
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<CourtPricingDto> getCourtPricings(Long courtId) {
+        log.debug("Getting pricings for court: {}", courtId);
+        
+        List<CourtPricingDto> cached = cache(AppConstants.CACHE_COURT_PRICING).get(courtId, List.class);
+        if (cached != null) {
+            return cached;
+        }
+        
+        Court court = courtRepository.findById(courtId)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.COURT_NOT_FOUND, courtId));
+        
+        List<CourtPricingDto> pricings = new ArrayList<>();
+        if (court.getPricings() != null) {
+            court.getPricings().stream()
+                    .filter(pricing -> !Boolean.FALSE.equals(pricing.getIsActive()))
+                    .sorted(PRICING_ORDER)
+                    .map(courtPricingMapper::toDto)
+                    .forEach(pricings::add);
+        }
+        cache(AppConstants.CACHE_COURT_PRICING).put(courtId, pricings);
+        
+        log.info("Loaded {} pricings for court: {}", pricings.size(), courtId);
+        return pricings;
+    }
+    
+    /**
+     * Drop the cached court and its pricing on every node once the change has committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourtChanged(CourtChangedEvent event) {
+        cache(AppConstants.CACHE_COURTS).evict(event.getCourtId());
+        cache(AppConstants.CACHE_COURT_PRICING).evict(event.getCourtId());
     }
     
     @Override
@@ -82,6 +169,7 @@ public class CourtServiceImpl implements CourtService {
         
         // Save court
         Court savedCourt = courtRepository.save(court);
+        eventPublisher.publishEvent(new CourtChangedEvent(savedCourt.getId(), CourtChangedEvent.ChangeType.CREATED));
         log.info("Created court with id: {}", savedCourt.getId());
         
         return courtMapper.toDto(savedCourt);
@@ -106,6 +194,7 @@ public class CourtServiceImpl implements CourtService {
         
         // Save court
         Court savedCourt = courtRepository.save(court);
+        eventPublisher.publishEvent(new CourtChangedEvent(savedCourt.getId(), CourtChangedEvent.ChangeType.CREATED));
         log.info("Admin created court with id: {}", savedCourt.getId());
         
         return courtMapper.toDto(savedCourt);
@@ -161,6 +250,7 @@ public class CourtServiceImpl implements CourtService {
         courtMapper.updateEntityFromRequest(request, court);
         
         Court savedCourt = courtRepository.save(court);
+        eventPublisher.publishEvent(new CourtChangedEvent(id, CourtChangedEvent.ChangeType.UPDATED));
         log.info("Updated court id: {}", id);
         
         return courtMapper.toDto(savedCourt);
@@ -180,6 +270,7 @@ public class CourtServiceImpl implements CourtService {
         // Soft delete by setting status
         court.setStatus(Court.CourtStatus.INACTIVE);
         courtRepository.save(court);
+        eventPublisher.publishEvent(new CourtChangedEvent(id, CourtChangedEvent.ChangeType.STATUS_CHANGED));
         
         log.info("Deleted court id: {}", id);
     }
@@ -188,10 +279,170 @@ public class CourtServiceImpl implements CourtService {
     public PageResponse<CourtDto> searchCourts(String keyword, String sportType, 
                                                BigDecimal minRating, BigDecimal latitude, 
                                                BigDecimal longitude, Double radiusKm, 
-                                               Pageable pageable) {
-        log.debug("Searching courts with keyword: {}, sportType: {}, minRating: {}, location: ({}, {})", 
-                 keyword, sportType, minRating, latitude, longitude);
+                                               BigDecimal minPrice, BigDecimal maxPrice,
+                                               Sort.Direction priceSort, Pageable pageable) {
+        log.debug("Searching courts with keyword: {}, sportType: {}, minRating: {}, location: ({}, {}), price: {}-{}", 
+                 keyword, sportType, minRating, latitude, longitude, minPrice, maxPrice);
         
+        if (latitude != null && longitude != null) {
+            // Distances, the radius cut-off and the nearest-first order all depend on the caller's
+            // exact position, so geo pages are not shared between callers
+            return doSearchCourts(keyword, sportType, minRating, latitude, longitude,
+                radiusKm, minPrice, maxPrice, priceSort, pageable);
+        }
+        
+        CourtSearchCache.Key key = courtSearchCache.searchKey(keyword, sportType, minRating,
+            minPrice, maxPrice, priceSort, pageable);
+        PageResponse<CourtDto> cached = courtSearchCache.get(key);
+        if (cached != null) {
+            log.debug("Court search served from cache: {}", key);
+            return cached;
+        }
+        
+        long generation = courtSearchCache.generation();
+        PageResponse<CourtDto> result = doSearchCourts(keyword, sportType, minRating, latitude, longitude,
+            radiusKm, minPrice, maxPrice, priceSort, pageable);
+        courtSearchCache.put(key, result, generation);
+        return result;
+    }
+    
+    private PageResponse<CourtDto> doSearchCourts(String keyword, String sportType,
+                                                  BigDecimal minRating, BigDecimal latitude,
+                                                  BigDecimal longitude, Double radiusKm,
+                                                  BigDecimal minPrice, BigDecimal maxPrice,
+                                                  Sort.Direction priceSort, Pageable pageable) {
+        boolean hasKeyword = keyword != null && !keyword.trim().isEmpty();
+        if (latitude == null || longitude == null) {
+            if (hasKeyword && priceSort == null && pageable.getSort().isUnsorted() && fullTextSearchIndex.isReady()) {
+                return searchCourtsByRelevance(keyword.trim(), sportType, minRating, minPrice, maxPrice, pageable);
+            }
+            
+            // No location provided, use normal pagination; price order comes from the (status, min_price) index
+            Specification<Court> spec = buildSearchSpecification(keyword, sportType, minRating, minPrice, maxPrice);
+            Pageable page = priceSort != null
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), CourtSpecification.sortByPrice(priceSort))
+                : pageable;
+            Page<Court> courts = courtRepository.findAll(spec, page);
+            return PageResponse.of(courts.map(courtMapper::toDto));
+        }
+        
+        // Location, sport type, rating and price go through the geo index; a keyword narrows it to matching ids.
+        // Only the courts on the returned page are loaded.
+        Set<Long> keywordMatches = hasKeyword ? findCourtIdsByKeyword(keyword.trim()) : null;
+        CourtGeoIndex.Result result = findNearby(latitude, longitude, radiusKm, sportType, minRating,
+            minPrice, maxPrice, keywordMatches, (int) pageable.getOffset(), pageable.getPageSize());
+        
+        return PageResponse.of(
+            toDtosWithDistance(result.hits()),
+            pageable.getPageNumber(),
+            pageable.getPageSize(),
+            result.total()
+        );
+    }
+    
+    @Override
+    public List<CourtSuggestionDto> suggestCourts(String prefix, int limit) {
+        if (!courtSuggestIndex.isReady()) {
+            // Suggestions are best effort; the full search still works while the index warms up
+            log.debug("Court suggest index not ready, returning no suggestions");
+            return List.of();
+        }
+        return courtSuggestIndex.suggest(prefix, limit);
+    }
+    
+    @Override
+    public List<CourtDto> getNearbyCourtsByRadius(BigDecimal latitude, BigDecimal longitude, Double radiusKm) {
+        log.info("Finding courts within {}km of coordinates ({}, {})", radiusKm, latitude, longitude);
+        
+        CourtGeoIndex.Result result = findNearby(latitude, longitude, radiusKm, null, null, null, null, null,
+            0, Integer.MAX_VALUE);
+        return toDtosWithDistance(result.hits());
+    }
+    
+    /**
+     * Ids of active courts matching the keyword, without loading the courts. The full-text index
+     * returns every match; while it is cold the LIKE query is capped at SEARCH_MAX_RANKED_HITS ids.
+     */
+    private Set<Long> findCourtIdsByKeyword(String keyword) {
+        if (fullTextSearchIndex.isReady()) {
+            return fullTextSearchIndex.findCourtIds(keyword);
+        }
+        return new HashSet<>(courtRepository.findActiveIdsByKeyword("%" + keyword.toLowerCase() + "%",
+            PageRequest.of(0, AppConstants.SEARCH_MAX_RANKED_HITS)));
+    }
+    
+    /**
+     * Keyword search ranked by the full-text index. Without other filters the index pages on its own;
+     * otherwise ranked ids are filtered in the database batch by batch, in rank order. Every batch is
+     * counted so the total is exact, but only the batches overlapping the page are loaded.
+     */
+    private PageResponse<CourtDto> searchCourtsByRelevance(String keyword, String sportType, BigDecimal minRating,
+                                                           BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable) {
+        boolean filtered = (sportType != null && !sportType.trim().isEmpty())
+            || minRating != null || minPrice != null || maxPrice != null;
+        
+        if (!filtered) {
+            FullTextSearchIndex.Result result = fullTextSearchIndex.searchCourts(
+                keyword, (int) pageable.getOffset(), pageable.getPageSize());
+            List<CourtDto> content = inRankOrder(result.ids(), courtRepository.findAllById(result.ids())).stream()
+                .map(courtMapper::toDto)
+                .toList();
+            return PageResponse.of(content, pageable.getPageNumber(), pageable.getPageSize(), result.total());
+        }
+        
+        Specification<Court> filters = buildSearchSpecification(null, sportType, minRating, minPrice, maxPrice);
+        long skip = pageable.getOffset();
+        List<Court> page = new ArrayList<>(pageable.getPageSize());
+        long total = 0;
+        int batchStart = 0;
+        long hits;
+        do {
+            FullTextSearchIndex.Result batch = fullTextSearchIndex.searchCourts(
+                keyword, batchStart, AppConstants.SEARCH_RANKED_BATCH_SIZE);
+            hits = batch.total();
+            List<Long> rankedIds = batch.ids();
+            if (rankedIds.isEmpty()) {
+                break;
+            }
+            Specification<Court> inBatch = filters.and(CourtSpecification.hasIdIn(rankedIds));
+            long matched = courtRepository.count(inBatch);
+            total += matched;
+            if (page.size() < pageable.getPageSize()) {
+                if (matched > skip) {
+                    for (Court court : inRankOrder(rankedIds, courtRepository.findAll(inBatch))) {
+                        if (skip > 0) {
+                            skip--;
+                        } else if (page.size() < pageable.getPageSize()) {
+                            page.add(court);
+                        }
+                    }
+                } else {
+                    skip -= matched;
+                }
+            }
+            batchStart += rankedIds.size();
+        } while (batchStart < hits);
+        
+        List<CourtDto> content = page.stream()
+            .map(courtMapper::toDto)
+            .toList();
+        return PageResponse.of(content, pageable.getPageNumber(), pageable.getPageSize(), total);
+    }
+    
+    private static List<Court> inRankOrder(List<Long> rankedIds, List<Court> courts) {
+        Map<Long, Court> byId = courts.stream().collect(Collectors.toMap(Court::getId, Function.identity()));
+        List<Court> ordered = new ArrayList<>(courts.size());
+        for (Long id : rankedIds) {
+            Court court = byId.get(id);
+            if (court != null) {
+                ordered.add(court);
+            }
+        }
+        return ordered;
+    }
+    
+    private Specification<Court> buildSearchSpecification(String keyword, String sportType, BigDecimal minRating,
+                                                          BigDecimal minPrice, BigDecimal maxPrice) {
         Specification<Court> spec = Specification.where(null);
         
         if (keyword != null && !keyword.trim().isEmpty()) {
@@ -206,147 +457,66 @@ public class CourtServiceImpl implements CourtService {
             spec = spec.and(CourtSpecification.hasRatingBetween(minRating, null));
         }
         
-        // Only active courts
-        spec = spec.and(CourtSpecification.hasStatus(Court.CourtStatus.ACTIVE));
-        
-        // Get all courts that match criteria (without pagination first if we need to sort by distance)
-        List<Court> allCourts;
-        if (latitude != null && longitude != null) {
-            // Get all courts to calculate distance and sort
-            allCourts = courtRepository.findAll(spec);
-            
-            // Calculate distances and filter by radius if specified
-            List<CourtDto> courtsWithDistance = allCourts.stream()
-                .map(court -> {
-                    CourtDto dto = courtMapper.toDto(court);
-                    
-                    // Set distance
-                    if (court.getLatitude() != null && court.getLongitude() != null) {
-                        Double distance = distanceService.calculateDistance(
-                            latitude, longitude,
-                            court.getLatitude(), court.getLongitude()
-                        );
-                        dto.setDistance(distance);
-                    } else {
-                        dto.setDistance(null);
-                    }
-                    
-                    // Set price from court pricings (get minimum price)
-                    if (court.getPricings() != null && !court.getPricings().isEmpty()) {
-                        BigDecimal minPrice = court.getPricings().stream()
-                            .map(pricing -> pricing.getBasePrice())
-                            .min(BigDecimal::compareTo)
-                            .orElse(null);
-                        dto.setPrice(minPrice);
-                    }
-                    
-                    return dto;
-                })
-                .filter(dto -> {
-                    // Filter by radius if specified
-                    if (radiusKm != null && dto.getDistance() != null) {
-                        return dto.getDistance() <= radiusKm;
-                    }
-                    return true;
-                })
-                .sorted((c1, c2) -> {
-                    // Sort by distance (closest first)
-                    if (c1.getDistance() == null && c2.getDistance() == null) return 0;
-                    if (c1.getDistance() == null) return 1;
-                    if (c2.getDistance() == null) return -1;
-                    return Double.compare(c1.getDistance(), c2.getDistance());
-                })
-                .toList();
-            
-            // Manual pagination after sorting by distance
-            int start = pageable.getPageNumber() * pageable.getPageSize();
-            int end = Math.min(start + pageable.getPageSize(), courtsWithDistance.size());
-            
-            List<CourtDto> pageContent = start < courtsWithDistance.size() 
-                ? courtsWithDistance.subList(start, end) 
-                : List.of();
-            
-            return PageResponse.of(
-                pageContent,
-                pageable.getPageNumber(),
-                pageable.getPageSize(),
-                courtsWithDistance.size()
-            );
-        } else {
-            // No location provided, use normal pagination
-            Page<Court> courts = courtRepository.findAll(spec, pageable);
-            return PageResponse.of(courts.map(courtMapper::toDto));
+        if (minPrice != null || maxPrice != null) {
+            spec = spec.and(CourtSpecification.hasPriceBetween(minPrice, maxPrice));
         }
+        
+        // Only active courts
+        return spec.and(CourtSpecification.hasStatus(Court.CourtStatus.ACTIVE));
     }
     
-    @Override
-    public List<CourtDto> getNearbyCourtsByRadius(BigDecimal latitude, BigDecimal longitude, Double radiusKm) {
-        log.info("Finding courts within {}km of coordinates ({}, {})", radiusKm, latitude, longitude);
+    /**
+     * One distance-ordered page of court ids: from the in-memory geo index when it is loaded,
+     * otherwise from the bounding-box prefiltered Haversine query in MySQL
+     */
+    private CourtGeoIndex.Result findNearby(BigDecimal latitude, BigDecimal longitude, Double radiusKm,
+                                            String sportType, BigDecimal minRating, BigDecimal minPrice,
+                                            BigDecimal maxPrice, Set<Long> courtIds, int offset, int limit) {
+        if (courtGeoIndex.isReady()) {
+            return courtGeoIndex.search(latitude.doubleValue(), longitude.doubleValue(), radiusKm,
+                sportType, minRating, minPrice, maxPrice, courtIds, offset, limit);
+        }
         
-        // Get all active courts and filter by distance
-        List<Court> courts = courtRepository.findAllActiveCourts().stream()
-            .filter(court -> {
-                if (court.getLatitude() == null || court.getLongitude() == null) {
-                    return false;
-                }
-                // Calculate distance using cached service
-                double distance = distanceService.calculateDistance(
-                    latitude.doubleValue(), longitude.doubleValue(),
-                    court.getLatitude().doubleValue(), court.getLongitude().doubleValue()
-                );
-                return distance <= radiusKm;
-            })
+        log.debug("Geo index not ready, falling back to database radius query");
+        double lat = latitude.doubleValue();
+        double lng = longitude.doubleValue();
+        double radius = radiusKm != null ? radiusKm : MAX_SEARCH_RADIUS_KM;
+        double dLat = radius / KM_PER_DEGREE;
+        double cosLat = Math.cos(Math.toRadians(lat));
+        double dLng = cosLat > 1e-6 ? radius / (KM_PER_DEGREE * cosLat) : 360;
+        
+        String sport = sportType != null && !sportType.trim().isEmpty() ? sportType.trim() : null;
+        List<CourtGeoIndex.Hit> hits = courtRepository.findCourtsWithinRadius(latitude, longitude, radius,
+                lat - dLat, lat + dLat, lng - dLng, lng + dLng, sport, minRating, minPrice, maxPrice,
+                Court.CourtStatus.ACTIVE)
+            .stream()
+            .map(row -> new CourtGeoIndex.Hit(((Number) row[0]).longValue(), ((Number) row[1]).doubleValue()))
+            .filter(hit -> courtIds == null || courtIds.contains(hit.courtId()))
             .toList();
         
-        return courts.stream()
-            .map(court -> {
-                CourtDto dto = courtMapper.toDto(court);
-                
-                // Calculate and set distance using cached service
-                if (court.getLatitude() != null && court.getLongitude() != null) {
-                    double distance = distanceService.calculateDistance(
-                        latitude.doubleValue(), longitude.doubleValue(),
-                        court.getLatitude().doubleValue(), court.getLongitude().doubleValue()
-                    );
-                    dto.setDistance(distance);
-                } else {
-                    dto.setDistance(null);
-                }
-                
-                // Set price from court pricings (get minimum price)
-                if (court.getPricings() != null && !court.getPricings().isEmpty()) {
-                    BigDecimal minPrice = court.getPricings().stream()
-                        .map(pricing -> pricing.getBasePrice())
-                        .min(BigDecimal::compareTo)
-                        .orElse(null);
-                    dto.setPrice(minPrice);
-                }
-                
-                return dto;
-            })
-            .toList();
+        int from = Math.min(offset, hits.size());
+        int to = (int) Math.min((long) offset + limit, hits.size());
+        return new CourtGeoIndex.Result(hits.subList(from, to), hits.size());
     }
     
-    /**
-     * Calculate distance between two points using Haversine formula
-     * @param lat1 Latitude of first point
-     * @param lon1 Longitude of first point  
-     * @param lat2 Latitude of second point
-     * @param lon2 Longitude of second point
-     * @return Distance in kilometers
-     */
-    private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        final int R = 6371; // Radius of the earth in km
-        
-        double latDistance = Math.toRadians(lat2 - lat1);
-        double lonDistance = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        double distance = R * c; // Distance in km
-        
-        return Math.round(distance * 100.0) / 100.0; // Round to 2 decimal places
+    private List<CourtDto> toDtosWithDistance(List<CourtGeoIndex.Hit> hits) {
+        Map<Long, Court> courts = new HashMap<>();
+        List<Long> ids = hits.stream().map(CourtGeoIndex.Hit::courtId).toList();
+        if (!ids.isEmpty()) {
+            courtRepository.findAllById(ids).forEach(court -> courts.put(court.getId(), court));
+        }
+        
+        List<CourtDto> result = new ArrayList<>(hits.size());
+        for (CourtGeoIndex.Hit hit : hits) {
+            Court court = courts.get(hit.courtId());
+            if (court == null) {
+                continue;
+            }
+            CourtDto dto = courtMapper.toDto(court);
+            dto.setDistance(hit.distanceKm() != null ? Math.round(hit.distanceKm() * 100.0) / 100.0 : null);
+            result.add(dto);
+        }
+        return result;
     }
     
     @Override
@@ -387,6 +557,7 @@ public class CourtServiceImpl implements CourtService {
         
         court.setStatus(status);
         Court savedCourt = courtRepository.save(court);
+        eventPublisher.publishEvent(new CourtChangedEvent(id, CourtChangedEvent.ChangeType.STATUS_CHANGED));
         
         log.info("Updated court {} status to: {}", id, status);
         return courtMapper.toDto(savedCourt);
@@ -406,7 +577,7 @@ public class CourtServiceImpl implements CourtService {
         Map<String, Object> stats = new HashMap<>();
         stats.put("courtId", courtId);
         stats.put("courtName", court.getName());
-        stats.put("totalBookings", court.getBookings() != null ? court.getBookings().size() : 0);
+        stats.put("totalBookings", bookingStatisticsService.getTotalBookings(courtId));
         stats.put("averageRating", court.getAverageRating());
         stats.put("totalReviews", court.getTotalReviews());
         
@@ -434,10 +605,8 @@ public class CourtServiceImpl implements CourtService {
         // Simple statistics implementation
         Map<String, Object> stats = new HashMap<>();
         stats.put("ownerId", ownerId);
-        stats.put("totalCourts", owner.getCourts() != null ? owner.getCourts().size() : 0);
-        stats.put("activeCourts", owner.getCourts() != null ? 
-            owner.getCourts().stream().mapToInt(court -> 
-                court.getStatus() == Court.CourtStatus.ACTIVE ? 1 : 0).sum() : 0);
+        stats.put("totalCourts", courtRepository.countByOwner(owner));
+        stats.put("activeCourts", courtRepository.countByOwnerAndStatus(owner, Court.CourtStatus.ACTIVE));
         
         return stats;
     }
@@ -446,15 +615,7 @@ public class CourtServiceImpl implements CourtService {
     public boolean isCourtAvailable(Long courtId, LocalDateTime startTime, LocalDateTime endTime) {
         log.debug("Checking court {} availability from {} to {}", courtId, startTime, endTime);
         
-        if (startTime.isAfter(endTime)) {
-            throw new ValidationException(ErrorConstants.VALIDATION_ERROR);
-        }
-        
-        // Simple availability check - in real implementation, you would check against bookings
-        Court court = courtRepository.findById(courtId)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.COURT_NOT_FOUND, courtId));
-        
-        return court.getStatus() == Court.CourtStatus.ACTIVE;
+        return courtAvailabilityService.isAvailable(courtId, startTime, endTime);
     }
     
     private void validateCourtRequest(CreateCourtRequest request) {
@@ -482,14 +643,14 @@ public class CourtServiceImpl implements CourtService {
     }
     
     private Long getCurrentUserId() {
-        String currentUserEmail = SecurityUtils.getCurrentUserEmail();
-        if (currentUserEmail == null) {
+        Long currentUserId = SecurityUtils.getCurrentUserId();
+        if (currentUserId == null) {
             throw new ValidationException(ErrorConstants.ACCESS_DENIED);
         }
-        
-        User user = userRepository.findByEmail(currentUserEmail)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.USER_NOT_FOUND));
-        
-        return user.getId();
+        return currentUserId;
+    }
+    
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
     }
 } 
\ No newline at end of file
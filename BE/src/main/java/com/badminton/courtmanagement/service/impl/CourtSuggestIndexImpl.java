@@ -0,0 +1,308 @@
+package com.badminton.courtmanagement.service.impl;
+
+import com.badminton.courtmanagement.dto.CourtSuggestionDto;
+import com.badminton.courtmanagement.entity.Court;
+import com.badminton.courtmanagement.event.CourtChangedEvent;
+import com.badminton.courtmanagement.repository.CourtRepository;
+import com.badminton.courtmanagement.service.CourtSuggestIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * Prefix trie over diacritic-folded court names, districts and cities. Every word start of a
+ * name is a key, so "dong" completes "Sân cầu lông Đống Đa". Each node keeps its best
+ * suggestions precomputed, making a lookup one walk down the prefix with no sorting or
+ * database access. Like the geo index, the trie is an immutable snapshot swapped on change.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CourtSuggestIndexImpl implements CourtSuggestIndex {
+
+    private static final int MAX_SUGGESTIONS = 10;
+    private static final int MAX_KEY_LENGTH = 32;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]+");
+
+    private final CourtRepository courtRepository;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile boolean ready = false;
+
+    @Override
+    public List<CourtSuggestionDto> suggest(String prefix, int limit) {
+        String key = fold(prefix);
+        int max = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        Node node = snapshot.root.find(key);
+        if (node == null) {
+            return List.of();
+        }
+
+        // Places fill at most half the list unless there are not enough courts
+        int courts = Math.min(node.courts.length, max - Math.min(node.places.length, (max + 1) / 2));
+        int places = Math.min(node.places.length, max - courts);
+
+        List<CourtSuggestionDto> suggestions = new ArrayList<>(places + courts);
+        for (int i = 0; i < places; i++) {
+            suggestions.add(node.places[i].toDto());
+        }
+        for (int i = 0; i < courts; i++) {
+            suggestions.add(node.courts[i].toDto());
+        }
+        return suggestions;
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * Periodic reload picks up rating changes written by database triggers and other nodes
+     */
+    @Scheduled(initialDelayString = "${court.suggest-index.refresh-interval-ms:600000}",
+               fixedDelayString = "${court.suggest-index.refresh-interval-ms:600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    @Override
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            log.debug("Rebuilding court suggest index");
+            try {
+                Map<Long, Entry> entries = new HashMap<>();
+                for (Object[] row : courtRepository.findActiveSuggestEntries()) {
+                    Entry entry = Entry.of((Long) row[0], (String) row[1], (String) row[2], (String) row[3],
+                            (BigDecimal) row[4], (Integer) row[5]);
+                    entries.put(entry.id, entry);
+                }
+                snapshot = Snapshot.of(entries);
+                ready = true;
+                log.info("Court suggest index rebuilt with {} courts", entries.size());
+            } catch (RuntimeException e) {
+                log.warn("Could not rebuild court suggest index, keeping previous state: {}", e.getMessage());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void refresh(Long courtId) {
+        writeLock.lock();
+        try {
+            Court court = courtRepository.findById(courtId).orElse(null);
+
+            Map<Long, Entry> entries = new HashMap<>(snapshot.entries);
+            if (court == null || court.getStatus() != Court.CourtStatus.ACTIVE) {
+                entries.remove(courtId);
+            } else {
+                entries.put(courtId, Entry.of(court.getId(), court.getName(), court.getCity(), court.getDistrict(),
+                        court.getAverageRating(), court.getTotalReviews()));
+            }
+            snapshot = Snapshot.of(entries);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourtChanged(CourtChangedEvent event) {
+        try {
+            refresh(event.getCourtId());
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh court {} in suggest index: {}", event.getCourtId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Lower-case, strip Vietnamese tone marks (đ -> d) and collapse punctuation into single spaces
+     */
+    static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("")
+                .replace('đ', 'd')
+                .replace('Đ', 'd')
+                .toLowerCase();
+        return NON_ALPHANUMERIC.matcher(stripped).replaceAll(" ").trim();
+    }
+
+    private static final Comparator<Suggestion> PLACE_ORDER = Comparator
+            .comparingInt(Suggestion::courtCount).reversed()
+            .thenComparing(Suggestion::type, Comparator.reverseOrder())
+            .thenComparing(Suggestion::text);
+
+    private static final Comparator<Suggestion> COURT_ORDER = Comparator
+            .comparingDouble(Suggestion::rating).reversed()
+            .thenComparing(Comparator.comparingInt(Suggestion::reviews).reversed())
+            .thenComparing(Suggestion::courtId);
+
+    private record Entry(Long id, String name, String city, String district, double rating, int reviews) {
+
+        static Entry of(Long id, String name, String city, String district, BigDecimal rating, Integer reviews) {
+            return new Entry(id, name, city, district,
+                    rating != null ? rating.doubleValue() : 0.0,
+                    reviews != null ? reviews : 0);
+        }
+    }
+
+    private record Suggestion(CourtSuggestionDto.Type type, String text, Long courtId, int courtCount,
+                              double rating, int reviews) {
+
+        CourtSuggestionDto toDto() {
+            return CourtSuggestionDto.builder()
+                    .text(text)
+                    .type(type)
+                    .courtId(courtId)
+                    .courtCount(type == CourtSuggestionDto.Type.COURT ? null : courtCount)
+                    .build();
+        }
+    }
+
+    /**
+     * Frozen trie node: children sorted by label for binary search, best suggestions precomputed
+     */
+    private record Node(char[] labels, Node[] children, Suggestion[] places, Suggestion[] courts) {
+
+        static final Node EMPTY = new Node(new char[0], new Node[0], new Suggestion[0], new Suggestion[0]);
+
+        Node find(String key) {
+            Node node = this;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                int index = Arrays.binarySearch(node.labels, key.charAt(i));
+                node = index >= 0 ? node.children[index] : null;
+            }
+            return node;
+        }
+    }
+
+    private static final class NodeBuilder {
+
+        private final TreeMap<Character, NodeBuilder> children = new TreeMap<>();
+        private final List<Suggestion> places = new ArrayList<>();
+        private final List<Suggestion> courts = new ArrayList<>();
+
+        void insert(String key, Suggestion suggestion) {
+            NodeBuilder node = this;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new NodeBuilder());
+                if (suggestion.type == CourtSuggestionDto.Type.COURT) {
+                    offer(node.courts, suggestion, COURT_ORDER);
+                } else {
+                    offer(node.places, suggestion, PLACE_ORDER);
+                }
+            }
+        }
+
+        /**
+         * Keep the list sorted and bounded; a suggestion reached through two of its words is kept once
+         */
+        private static void offer(List<Suggestion> top, Suggestion suggestion, Comparator<Suggestion> order) {
+            if (top.contains(suggestion)) {
+                return;
+            }
+            int position = 0;
+            while (position < top.size() && order.compare(top.get(position), suggestion) <= 0) {
+                position++;
+            }
+            if (position < MAX_SUGGESTIONS) {
+                top.add(position, suggestion);
+                if (top.size() > MAX_SUGGESTIONS) {
+                    top.remove(top.size() - 1);
+                }
+            }
+        }
+
+        Node freeze() {
+            char[] labels = new char[children.size()];
+            Node[] frozen = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, NodeBuilder> child : children.entrySet()) {
+                labels[i] = child.getKey();
+                frozen[i++] = child.getValue().freeze();
+            }
+            return new Node(labels, frozen, places.toArray(new Suggestion[0]), courts.toArray(new Suggestion[0]));
+        }
+    }
+
+    private record Snapshot(Map<Long, Entry> entries, Node root) {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Node.EMPTY);
+
+        static Snapshot of(Map<Long, Entry> entries) {
+            // Places are ranked by how many active courts they hold; the first spelling seen is displayed
+            Map<String, Suggestion> places = new LinkedHashMap<>();
+            for (Entry entry : entries.values()) {
+                countPlace(places, CourtSuggestionDto.Type.CITY, entry.city);
+                countPlace(places, CourtSuggestionDto.Type.DISTRICT, entry.district);
+            }
+
+            NodeBuilder root = new NodeBuilder();
+            for (Suggestion place : places.values()) {
+                insertWordStarts(root, place);
+            }
+            for (Entry entry : entries.values()) {
+                if (entry.name != null && !entry.name.isBlank()) {
+                    insertWordStarts(root, new Suggestion(CourtSuggestionDto.Type.COURT, entry.name.trim(),
+                            entry.id, 0, entry.rating, entry.reviews));
+                }
+            }
+            return new Snapshot(Map.copyOf(entries), root.freeze());
+        }
+
+        private static void countPlace(Map<String, Suggestion> places, CourtSuggestionDto.Type type, String text) {
+            String folded = fold(text);
+            if (folded.isEmpty()) {
+                return;
+            }
+            places.merge(type + ":" + folded,
+                    new Suggestion(type, text.trim(), null, 1, 0.0, 0),
+                    (existing, added) -> new Suggestion(type, existing.text, null,
+                            existing.courtCount + 1, 0.0, 0));
+        }
+
+        private static void insertWordStarts(NodeBuilder root, Suggestion suggestion) {
+            String folded = fold(suggestion.text);
+            for (int start = 0; start < folded.length(); start++) {
+                if (start == 0 || folded.charAt(start - 1) == ' ') {
+                    root.insert(folded.substring(start, Math.min(start + MAX_KEY_LENGTH, folded.length())),
+                            suggestion);
+                }
+            }
+        }
+    }
+}
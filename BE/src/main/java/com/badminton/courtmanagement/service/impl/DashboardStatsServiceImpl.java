@@ -0,0 +1,444 @@
+package com.badminton.courtmanagement.service.impl;
+
+import com.badminton.courtmanagement.entity.Booking;
+import com.badminton.courtmanagement.entity.Court;
+import com.badminton.courtmanagement.entity.User;
+import com.badminton.courtmanagement.event.BookingChangedEvent;
+import com.badminton.courtmanagement.event.CourtChangedEvent;
+import com.badminton.courtmanagement.event.UserTokensRevokedEvent;
+import com.badminton.courtmanagement.repository.BookingRepository;
+import com.badminton.courtmanagement.repository.CourtRepository;
+import com.badminton.courtmanagement.repository.UserRepository;
+import com.badminton.courtmanagement.service.DashboardStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Dashboard totals kept in memory and adjusted by a delta on every booking change, so a dashboard
+ * read never scans the bookings table. Booking totals are rebuilt with GROUP BY queries at startup
+ * and reconciled periodically against getRevenueStatsByCourt and per-status counts; any drift
+ * (e.g. writes from another node) triggers a rebuild. Court and user totals are small and are
+ * simply re-counted when they change and on every reconcile.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardStatsServiceImpl implements DashboardStatsService {
+
+    private static final LocalDate MIN_DATE = LocalDate.of(1970, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+    private static final int MAX_REBUILD_ATTEMPTS = 3;
+    private static final Map<String, String> SPORT_NAMES = Map.of(
+            "BADMINTON", "Cầu lông",
+            "PICKLEBALL", "Pickleball");
+
+    private final BookingRepository bookingRepository;
+    private final CourtRepository courtRepository;
+    private final UserRepository userRepository;
+
+    // Serializes rebuilds; a lock rather than synchronized so a virtual thread waiting on the database does not pin its carrier
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // Guards bookingTotals and changeSequence
+    private final ReentrantLock lock = new ReentrantLock();
+    private BookingTotals bookingTotals = new BookingTotals();
+    private long changeSequence = 0;
+
+    private final Map<Long, Long> ownerByCourt = new ConcurrentHashMap<>();
+    private volatile CourtTotals courtTotals = CourtTotals.EMPTY;
+    private volatile UserTotals userTotals = new UserTotals(0, 0);
+
+    @Override
+    public Map<String, Object> getDashboardStats() {
+        LocalDate today = LocalDate.now();
+        YearMonth month = YearMonth.from(today);
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        lock.lock();
+        try {
+            BookingTotals totals = bookingTotals;
+            Map<String, Long> byStatus = new LinkedHashMap<>();
+            long totalBookings = 0;
+            for (Booking.BookingStatus status : Booking.BookingStatus.values()) {
+                long count = totals.statusCounts[status.ordinal()];
+                byStatus.put(status.name(), count);
+                totalBookings += count;
+            }
+            DayTotals todayTotals = totals.days.getOrDefault(today, DayTotals.EMPTY);
+            DayTotals weekTotals = totals.sumDays(today.minusDays(6), today);
+            DayTotals monthTotals = totals.sumDays(month.atDay(1), month.atEndOfMonth());
+
+            stats.put("totalBookings", totalBookings);
+            stats.put("bookingsByStatus", byStatus);
+            stats.put("todayBookings", todayTotals.bookings);
+            stats.put("monthlyBookings", monthTotals.bookings);
+            stats.put("totalRevenue", totals.totalRevenue);
+            stats.put("todayRevenue", todayTotals.revenue);
+            stats.put("weeklyRevenue", weekTotals.revenue);
+            stats.put("monthlyRevenue", monthTotals.revenue);
+        } finally {
+            lock.unlock();
+        }
+
+        CourtTotals courts = courtTotals;
+        stats.put("totalCourts", courts.total());
+        stats.put("activeCourts", courts.active());
+        stats.put("averageRating", courts.averageRating());
+        stats.put("popularSports", courts.popularSports());
+
+        UserTotals users = userTotals;
+        stats.put("totalUsers", users.total());
+        stats.put("activeUsers", users.active());
+        return stats;
+    }
+
+    @Override
+    public Map<String, Object> getPublicDashboardStats() {
+        long totalBookings = 0;
+        lock.lock();
+        try {
+            for (long count : bookingTotals.statusCounts) {
+                totalBookings += count;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        CourtTotals courts = courtTotals;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("totalBookings", totalBookings);
+        stats.put("totalCourts", courts.total());
+        stats.put("activeCourts", courts.active());
+        stats.put("averageRating", courts.averageRating());
+        stats.put("popularSports", courts.popularSports());
+        return stats;
+    }
+
+    @Override
+    public BigDecimal getOwnerRevenue(Long ownerId, LocalDate startDate, LocalDate endDate) {
+        lock.lock();
+        try {
+            NavigableMap<LocalDate, BigDecimal> days = bookingTotals.revenueByOwnerDay.get(ownerId);
+            if (days == null || startDate.isAfter(endDate)) {
+                return BigDecimal.ZERO;
+            }
+            BigDecimal revenue = BigDecimal.ZERO;
+            for (BigDecimal amount : days.subMap(startDate, true, endDate, true).values()) {
+                revenue = revenue.add(amount);
+            }
+            return revenue;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public BigDecimal getCourtRevenue(Long courtId) {
+        lock.lock();
+        try {
+            return bookingTotals.revenueByCourt.getOrDefault(courtId, BigDecimal.ZERO);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refreshCourtTotals();
+        refreshUserTotals();
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${dashboard.stats.reconcile-interval-ms:300000}",
+               fixedDelayString = "${dashboard.stats.reconcile-interval-ms:300000}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    @Override
+    public void reconcile() {
+        log.debug("Reconciling dashboard stats");
+        try {
+            refreshCourtTotals();
+            refreshUserTotals();
+
+            Map<Long, BigDecimal> expectedRevenue = new HashMap<>();
+            for (Object[] row : bookingRepository.getRevenueStatsByCourt(MIN_DATE, MAX_DATE)) {
+                expectedRevenue.put((Long) row[0], row[2] != null ? (BigDecimal) row[2] : BigDecimal.ZERO);
+            }
+            long[] expectedCounts = new long[Booking.BookingStatus.values().length];
+            for (Booking.BookingStatus status : Booking.BookingStatus.values()) {
+                expectedCounts[status.ordinal()] = bookingRepository.countByStatus(status);
+            }
+
+            int drift;
+            lock.lock();
+            try {
+                drift = bookingTotals.countDrift(expectedRevenue, expectedCounts);
+            } finally {
+                lock.unlock();
+            }
+
+            if (drift > 0) {
+                log.warn("Dashboard stats drifted from database ({} mismatches), rebuilding", drift);
+                rebuild();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not reconcile dashboard stats: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            log.debug("Rebuilding dashboard stats");
+            try {
+                for (int attempt = 1; attempt <= MAX_REBUILD_ATTEMPTS; attempt++) {
+                    long sequenceBefore = currentSequence();
+
+                    Map<Long, Long> owners = new HashMap<>();
+                    for (Object[] row : courtRepository.findAllOwnerIds()) {
+                        owners.put((Long) row[0], (Long) row[1]);
+                    }
+                    BookingTotals snapshot = new BookingTotals();
+                    for (Object[] row : bookingRepository.aggregateByCourtDateAndStatus()) {
+                        Long courtId = (Long) row[0];
+                        snapshot.add(courtId, owners.get(courtId), (LocalDate) row[1],
+                                (Booking.BookingStatus) row[2], (Long) row[3], (BigDecimal) row[4], 1);
+                    }
+
+                    lock.lock();
+                    try {
+                        // Deltas are not idempotent, so a snapshot that raced with a change is retried
+                        // instead of having the change replayed on top of it
+                        if (changeSequence == sequenceBefore || attempt == MAX_REBUILD_ATTEMPTS) {
+                            bookingTotals = snapshot;
+                            ownerByCourt.putAll(owners);
+                            log.info("Dashboard stats rebuilt from {} courts after {} attempt(s)", owners.size(), attempt);
+                            return;
+                        }
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not rebuild dashboard stats, keeping previous totals: {}", e.getMessage());
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        try {
+            Long ownerId = ownerOf(event.getCourtId());
+            lock.lock();
+            try {
+                if (event.getPreviousStatus() != null) {
+                    bookingTotals.add(event.getCourtId(), ownerId, event.getBookingDate(),
+                            event.getPreviousStatus(), 1, event.getTotalAmount(), -1);
+                }
+                bookingTotals.add(event.getCourtId(), ownerId, event.getBookingDate(),
+                        event.getStatus(), 1, event.getTotalAmount(), 1);
+                changeSequence++;
+            } finally {
+                lock.unlock();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not apply booking {} to dashboard stats: {}", event.getBookingId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourtChanged(CourtChangedEvent event) {
+        try {
+            if (event.getType() == CourtChangedEvent.ChangeType.CREATED) {
+                courtRepository.findOwnerIdById(event.getCourtId())
+                        .ifPresent(ownerId -> ownerByCourt.put(event.getCourtId(), ownerId));
+            }
+            refreshCourtTotals();
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh court totals after court {} changed: {}", event.getCourtId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserTokensRevoked(UserTokensRevokedEvent event) {
+        // Raised on status changes among others; a recount is cheap and keeps activeUsers exact
+        try {
+            refreshUserTotals();
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh user totals: {}", e.getMessage());
+        }
+    }
+
+    private long currentSequence() {
+        lock.lock();
+        try {
+            return changeSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Long ownerOf(Long courtId) {
+        Long ownerId = ownerByCourt.get(courtId);
+        if (ownerId == null) {
+            ownerId = courtRepository.findOwnerIdById(courtId).orElse(null);
+            if (ownerId != null) {
+                ownerByCourt.put(courtId, ownerId);
+            }
+        }
+        return ownerId;
+    }
+
+    private void refreshCourtTotals() {
+        long total = 0;
+        long active = 0;
+        BigDecimal ratingSum = BigDecimal.ZERO;
+        long ratedCourts = 0;
+        Map<String, Long> activeBySport = new HashMap<>();
+
+        for (Object[] row : courtRepository.aggregateByStatusAndSportTypes()) {
+            Court.CourtStatus status = (Court.CourtStatus) row[0];
+            String sportTypes = (String) row[1];
+            long count = (Long) row[2];
+            total += count;
+            if (status != Court.CourtStatus.ACTIVE) {
+                continue;
+            }
+            active += count;
+            if (row[3] != null) {
+                ratingSum = ratingSum.add(BigDecimal.valueOf(((Number) row[3]).doubleValue() * count));
+                ratedCourts += count;
+            }
+            if (sportTypes != null) {
+                for (String sport : sportTypes.split(",")) {
+                    if (!sport.isBlank()) {
+                        activeBySport.merge(sport.trim().toUpperCase(), count, Long::sum);
+                    }
+                }
+            }
+        }
+
+        List<Map<String, Object>> popularSports = new ArrayList<>();
+        activeBySport.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .forEach(entry -> popularSports.add(Map.of(
+                        "name", SPORT_NAMES.getOrDefault(entry.getKey(), entry.getKey()),
+                        "count", entry.getValue())));
+
+        BigDecimal averageRating = ratedCourts > 0
+                ? ratingSum.divide(BigDecimal.valueOf(ratedCourts), 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+        courtTotals = new CourtTotals(total, active, averageRating, List.copyOf(popularSports));
+    }
+
+    private void refreshUserTotals() {
+        userTotals = new UserTotals(userRepository.count(), userRepository.countByStatus(User.UserStatus.ACTIVE));
+    }
+
+    private static boolean isRevenue(Booking.BookingStatus status) {
+        return status == Booking.BookingStatus.CONFIRMED || status == Booking.BookingStatus.COMPLETED;
+    }
+
+    /**
+     * Booking counts and revenue; only touched while holding the service lock
+     */
+    private static final class BookingTotals {
+
+        private final long[] statusCounts = new long[Booking.BookingStatus.values().length];
+        private BigDecimal totalRevenue = BigDecimal.ZERO;
+        private final Map<Long, BigDecimal> revenueByCourt = new HashMap<>();
+        private final Map<Long, NavigableMap<LocalDate, BigDecimal>> revenueByOwnerDay = new HashMap<>();
+        private final NavigableMap<LocalDate, DayTotals> days = new TreeMap<>();
+
+        void add(Long courtId, Long ownerId, LocalDate date, Booking.BookingStatus status,
+                 long count, BigDecimal amount, int sign) {
+            statusCounts[status.ordinal()] += sign * count;
+
+            DayTotals day = days.computeIfAbsent(date, d -> new DayTotals());
+            if (status != Booking.BookingStatus.CANCELLED) {
+                day.bookings += sign * count;
+            }
+
+            if (isRevenue(status) && amount != null) {
+                BigDecimal delta = sign < 0 ? amount.negate() : amount;
+                totalRevenue = totalRevenue.add(delta);
+                day.revenue = day.revenue.add(delta);
+                revenueByCourt.merge(courtId, delta, BigDecimal::add);
+                if (ownerId != null) {
+                    revenueByOwnerDay.computeIfAbsent(ownerId, id -> new TreeMap<>())
+                            .merge(date, delta, BigDecimal::add);
+                }
+            }
+        }
+
+        DayTotals sumDays(LocalDate from, LocalDate to) {
+            DayTotals sum = new DayTotals();
+            for (DayTotals day : days.subMap(from, true, to, true).values()) {
+                sum.bookings += day.bookings;
+                sum.revenue = sum.revenue.add(day.revenue);
+            }
+            return sum;
+        }
+
+        int countDrift(Map<Long, BigDecimal> expectedRevenue, long[] expectedCounts) {
+            int drift = 0;
+            for (int i = 0; i < expectedCounts.length; i++) {
+                if (statusCounts[i] != expectedCounts[i]) {
+                    drift++;
+                }
+            }
+            for (Map.Entry<Long, BigDecimal> entry : expectedRevenue.entrySet()) {
+                if (revenueByCourt.getOrDefault(entry.getKey(), BigDecimal.ZERO).compareTo(entry.getValue()) != 0) {
+                    drift++;
+                }
+            }
+            for (Map.Entry<Long, BigDecimal> entry : revenueByCourt.entrySet()) {
+                if (!expectedRevenue.containsKey(entry.getKey()) && entry.getValue().signum() != 0) {
+                    drift++;
+                }
+            }
+            return drift;
+        }
+    }
+
+    private static final class DayTotals {
+
+        static final DayTotals EMPTY = new DayTotals();
+
+        long bookings;
+        BigDecimal revenue = BigDecimal.ZERO;
+    }
+
+    private record CourtTotals(long total, long active, BigDecimal averageRating,
+                               List<Map<String, Object>> popularSports) {
+
+        static final CourtTotals EMPTY = new CourtTotals(0, 0, BigDecimal.ZERO, List.of());
+    }
+
+    private record UserTotals(long total, long active) {
+    }
+}
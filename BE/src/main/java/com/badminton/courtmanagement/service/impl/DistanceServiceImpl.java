@@ -1,49 +1,50 @@
 package com.badminton.courtmanagement.service.impl;
 
 import com.badminton.courtmanagement.service.DistanceService;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 
+/**
+ * Haversine on primitive doubles. A handful of floating point operations is far cheaper
+ * than any cache lookup, so nothing is cached and nothing is logged per call.
+ */
 @Service
-@RequiredArgsConstructor
-@Slf4j
 public class DistanceServiceImpl implements DistanceService {
 
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double DEGREES_TO_RADIANS = Math.PI / 180.0;
+
     @Override
-    @Cacheable(value = "distance", key = "#lat1 + '_' + #lon1 + '_' + #lat2 + '_' + #lon2")
-    public Double calculateDistance(BigDecimal lat1, BigDecimal lon1, BigDecimal lat2, BigDecimal lon2) {
-        return calculateDistance(lat1.doubleValue(), lon1.doubleValue(), lat2.doubleValue(), lon2.doubleValue());
+    public double calculateDistance(BigDecimal lat1, BigDecimal lon1, BigDecimal lat2, BigDecimal lon2) {
+        double distance = calculateDistance(lat1.doubleValue(), lon1.doubleValue(), lat2.doubleValue(), lon2.doubleValue());
+        return Math.round(distance * 100.0) / 100.0; // Round to 2 decimal places
     }
 
     @Override
-    @Cacheable(value = "distance", key = "#lat1 + '_' + #lon1 + '_' + #lat2 + '_' + #lon2")
-    public Double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        log.debug("Calculating distance between ({}, {}) and ({}, {})", lat1, lon1, lat2, lon2);
-        
-        final int R = 6371; // Radius of the earth in km
-        
-        double latDistance = Math.toRadians(lat2 - lat1);
-        double lonDistance = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        double distance = R * c; // Distance in km
-        
-        double result = Math.round(distance * 100.0) / 100.0; // Round to 2 decimal places
-        log.debug("Calculated distance: {} km", result);
-        
-        return result;
+    public double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
+        double phi1 = lat1 * DEGREES_TO_RADIANS;
+        double phi2 = lat2 * DEGREES_TO_RADIANS;
+        return haversine(phi1, lon1 * DEGREES_TO_RADIANS, Math.cos(phi1), phi2, lon2 * DEGREES_TO_RADIANS);
     }
 
     @Override
-    @CacheEvict(value = "distance", allEntries = true)
-    public void clearDistanceCache() {
-        log.info("Clearing distance cache");
+    public void calculateDistances(double originLat, double originLon,
+                                   double[] lats, double[] lons, double[] out, int count) {
+        // Origin terms are computed once for the whole batch
+        double phi1 = originLat * DEGREES_TO_RADIANS;
+        double lambda1 = originLon * DEGREES_TO_RADIANS;
+        double cosPhi1 = Math.cos(phi1);
+
+        for (int i = 0; i < count; i++) {
+            out[i] = haversine(phi1, lambda1, cosPhi1, lats[i] * DEGREES_TO_RADIANS, lons[i] * DEGREES_TO_RADIANS);
+        }
+    }
+
+    private static double haversine(double phi1, double lambda1, double cosPhi1, double phi2, double lambda2) {
+        double sinHalfDPhi = Math.sin((phi2 - phi1) * 0.5);
+        double sinHalfDLambda = Math.sin((lambda2 - lambda1) * 0.5);
+        double a = sinHalfDPhi * sinHalfDPhi + cosPhi1 * Math.cos(phi2) * sinHalfDLambda * sinHalfDLambda;
+        return 2.0 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
     }
-} 
\ No newline at end of file
+}
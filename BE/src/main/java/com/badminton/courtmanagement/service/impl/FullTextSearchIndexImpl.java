@@ -0,0 +1,479 @@
+package com.badminton.courtmanagement.service.impl;
+
+import com.badminton.courtmanagement.entity.Court;
+import com.badminton.courtmanagement.entity.TeamPost;
+import com.badminton.courtmanagement.event.CourtChangedEvent;
+import com.badminton.courtmanagement.event.TeamPostChangedEvent;
+import com.badminton.courtmanagement.repository.CourtRepository;
+import com.badminton.courtmanagement.repository.TeamPostRepository;
+import com.badminton.courtmanagement.service.FullTextSearchIndex;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Lucene index on local disk holding one document per court and team post. Text is NFC-normalised,
+ * lower-cased and ASCII-folded, so "Sân cầu lông Đống Đa" matches "san cau long dong da".
+ * Writes go through a single IndexWriter and become searchable through near-real-time reopen;
+ * full rebuilds tag documents with a generation and drop older generations at the end, so
+ * searches never see an empty index mid-rebuild.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FullTextSearchIndexImpl implements FullTextSearchIndex {
+
+    private static final String FIELD_UID = "uid";
+    private static final String FIELD_TYPE = "type";
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_GENERATION = "generation";
+
+    private static final String TYPE_COURT = "court";
+    private static final String TYPE_TEAM_POST = "team_post";
+    private static final String STATUS_ACTIVE = "ACTIVE";
+
+    private static final Map<String, Float> COURT_FIELDS = Map.of(
+            "name", 3.0f, "address", 1.5f, "description", 1.0f, "sportTypes", 1.0f);
+    private static final Map<String, Float> TEAM_POST_FIELDS = Map.of(
+            "title", 3.0f, "location", 2.0f, "description", 1.0f);
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final int MIN_PREFIX_LENGTH = 2;
+
+    private final CourtRepository courtRepository;
+    private final TeamPostRepository teamPostRepository;
+
+    @Value("${search.index.directory:${java.io.tmpdir}/badminton-search-index}")
+    private String indexDirectory;
+
+    private final Analyzer analyzer = new FoldingAnalyzer();
+    private FSDirectory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    // Serializes index writes (rebuild, refresh); readers go through the searcher manager without locking
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile long generation = 0;
+    private volatile boolean ready = false;
+
+    @PostConstruct
+    void open() throws IOException {
+        Path path = Path.of(indexDirectory);
+        Files.createDirectories(path);
+        directory = FSDirectory.open(path);
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(writer, null);
+        log.info("Full-text search index opened at {}", path.toAbsolutePath());
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    @Override
+    public Result searchCourts(String keyword, int offset, int limit) {
+        return search(TYPE_COURT, COURT_FIELDS, keyword, offset, limit);
+    }
+
+    @Override
+    public Set<Long> findCourtIds(String keyword) {
+        Query query = buildQuery(TYPE_COURT, COURT_FIELDS, keyword);
+        if (query == null) {
+            return Set.of();
+        }
+        return withSearcher(searcher -> {
+            // Every match, unscored: the caller orders by something other than relevance
+            Set<Long> ids = new HashSet<>();
+            searcher.search(query, new SimpleCollector() {
+                private StoredFields storedFields;
+
+                @Override
+                protected void doSetNextReader(LeafReaderContext context) throws IOException {
+                    storedFields = context.reader().storedFields();
+                }
+
+                @Override
+                public void collect(int doc) throws IOException {
+                    ids.add(storedFields.document(doc).getField(FIELD_ID).numericValue().longValue());
+                }
+
+                @Override
+                public ScoreMode scoreMode() {
+                    return ScoreMode.COMPLETE_NO_SCORES;
+                }
+            });
+            return ids;
+        });
+    }
+
+    @Override
+    public Result searchTeamPosts(String keyword, int offset, int limit) {
+        return search(TYPE_TEAM_POST, TEAM_POST_FIELDS, keyword, offset, limit);
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * Periodic reload picks up rows written outside the services and changes made on other nodes
+     */
+    @Scheduled(initialDelayString = "${search.index.rebuild-interval-ms:3600000}",
+               fixedDelayString = "${search.index.rebuild-interval-ms:3600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * Incremental updates are visible immediately; this only makes them durable on disk
+     */
+    @Scheduled(fixedDelayString = "${search.index.commit-interval-ms:30000}")
+    public void commit() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException e) {
+            log.warn("Could not commit full-text search index: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            log.debug("Rebuilding full-text search index");
+            long nextGeneration = generation + 1;
+            try {
+                int courts = 0;
+                Page<Court> courtPage;
+                int page = 0;
+                do {
+                    courtPage = courtRepository.findAll(PageRequest.of(page++, REBUILD_BATCH_SIZE, Sort.by("id")));
+                    for (Court court : courtPage) {
+                        writer.updateDocument(new Term(FIELD_UID, uid(TYPE_COURT, court.getId())),
+                                courtDocument(court, nextGeneration));
+                        courts++;
+                    }
+                } while (courtPage.hasNext());
+
+                int teamPosts = 0;
+                Page<TeamPost> teamPostPage;
+                page = 0;
+                do {
+                    teamPostPage = teamPostRepository.findAll(PageRequest.of(page++, REBUILD_BATCH_SIZE, Sort.by("id")));
+                    for (TeamPost teamPost : teamPostPage) {
+                        writer.updateDocument(new Term(FIELD_UID, uid(TYPE_TEAM_POST, teamPost.getId())),
+                                teamPostDocument(teamPost, nextGeneration));
+                        teamPosts++;
+                    }
+                } while (teamPostPage.hasNext());
+
+                // Anything not rewritten above no longer exists in the database
+                writer.deleteDocuments(LongPoint.newRangeQuery(FIELD_GENERATION, Long.MIN_VALUE, nextGeneration - 1));
+                writer.commit();
+                searcherManager.maybeRefresh();
+
+                generation = nextGeneration;
+                ready = true;
+                log.info("Full-text search index rebuilt with {} courts and {} team posts", courts, teamPosts);
+            } catch (IOException | RuntimeException e) {
+                log.warn("Could not rebuild full-text search index, keeping previous state: {}", e.getMessage());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void refreshCourt(Long courtId) {
+        writeLock.lock();
+        try {
+            Term uid = new Term(FIELD_UID, uid(TYPE_COURT, courtId));
+            try {
+                Court court = courtRepository.findById(courtId).orElse(null);
+                if (court == null) {
+                    writer.deleteDocuments(uid);
+                } else {
+                    writer.updateDocument(uid, courtDocument(court, generation));
+                }
+                searcherManager.maybeRefresh();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void refreshTeamPost(Long teamPostId) {
+        writeLock.lock();
+        try {
+            Term uid = new Term(FIELD_UID, uid(TYPE_TEAM_POST, teamPostId));
+            try {
+                TeamPost teamPost = teamPostRepository.findById(teamPostId).orElse(null);
+                if (teamPost == null) {
+                    writer.deleteDocuments(uid);
+                } else {
+                    writer.updateDocument(uid, teamPostDocument(teamPost, generation));
+                }
+                searcherManager.maybeRefresh();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourtChanged(CourtChangedEvent event) {
+        try {
+            refreshCourt(event.getCourtId());
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh court {} in full-text index: {}", event.getCourtId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamPostChanged(TeamPostChangedEvent event) {
+        try {
+            refreshTeamPost(event.getTeamPostId());
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh team post {} in full-text index: {}", event.getTeamPostId(), e.getMessage());
+        }
+    }
+
+    private Result search(String type, Map<String, Float> fields, String keyword, int offset, int limit) {
+        Query query = buildQuery(type, fields, keyword);
+        if (query == null || limit <= 0) {
+            return new Result(List.of(), 0);
+        }
+
+        return withSearcher(searcher -> {
+            TopDocs top = searcher.search(query, offset + limit);
+            List<Hit> hits = new ArrayList<>(Math.max(Math.min(limit, top.scoreDocs.length - offset), 0));
+            for (int i = offset; i < top.scoreDocs.length; i++) {
+                ScoreDoc scoreDoc = top.scoreDocs[i];
+                Document document = searcher.storedFields().document(scoreDoc.doc);
+                hits.add(new Hit(document.getField(FIELD_ID).numericValue().longValue(), scoreDoc.score));
+            }
+            return new Result(hits, searcher.count(query));
+        });
+    }
+
+    private <T> T withSearcher(SearcherAction<T> action) {
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            return action.apply(searcher);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (searcher != null) {
+                try {
+                    searcherManager.release(searcher);
+                } catch (IOException e) {
+                    log.warn("Could not release index searcher: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Every keyword term must match at least one field; the last term also matches as a prefix
+     * so half-typed words still find results. Field boosts rank name/title hits first.
+     */
+    private Query buildQuery(String type, Map<String, Float> fields, String keyword) {
+        List<String> terms = analyze(keyword);
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(FIELD_TYPE, type)), BooleanClause.Occur.FILTER)
+                .add(new TermQuery(new Term(FIELD_STATUS, STATUS_ACTIVE)), BooleanClause.Occur.FILTER);
+
+        for (int i = 0; i < terms.size(); i++) {
+            String term = terms.get(i);
+            boolean prefix = i == terms.size() - 1 && term.length() >= MIN_PREFIX_LENGTH;
+            BooleanQuery.Builder anyField = new BooleanQuery.Builder();
+            fields.forEach((field, boost) -> {
+                anyField.add(new BoostQuery(new TermQuery(new Term(field, term)), boost), BooleanClause.Occur.SHOULD);
+                if (prefix) {
+                    anyField.add(new BoostQuery(new PrefixQuery(new Term(field, term)), boost * 0.5f),
+                            BooleanClause.Occur.SHOULD);
+                }
+            });
+            query.add(anyField.build(), BooleanClause.Occur.MUST);
+        }
+        return query.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        try (TokenStream stream = analyzer.tokenStream("", new StringReader(normalize(text)))) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private static Document courtDocument(Court court, long generation) {
+        Document document = baseDocument(TYPE_COURT, court.getId(),
+                court.getStatus() != null ? court.getStatus().name() : null, generation);
+        addText(document, "name", court.getName());
+        addText(document, "address", join(court.getAddress(), court.getDistrict(), court.getCity()));
+        addText(document, "description", court.getDescription());
+        addText(document, "sportTypes", court.getSportTypes());
+        return document;
+    }
+
+    private static Document teamPostDocument(TeamPost teamPost, long generation) {
+        Document document = baseDocument(TYPE_TEAM_POST, teamPost.getId(),
+                teamPost.getStatus() != null ? teamPost.getStatus().name() : null, generation);
+        addText(document, "title", teamPost.getTitle());
+        addText(document, "location", teamPost.getLocation());
+        addText(document, "description", teamPost.getDescription());
+        return document;
+    }
+
+    private static Document baseDocument(String type, Long id, String status, long generation) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_UID, uid(type, id), Field.Store.NO));
+        document.add(new StringField(FIELD_TYPE, type, Field.Store.NO));
+        document.add(new StoredField(FIELD_ID, id));
+        document.add(new LongPoint(FIELD_GENERATION, generation));
+        if (status != null) {
+            document.add(new StringField(FIELD_STATUS, status, Field.Store.NO));
+        }
+        return document;
+    }
+
+    private static void addText(Document document, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            document.add(new TextField(field, normalize(value), Field.Store.NO));
+        }
+    }
+
+    private static String join(String... parts) {
+        StringBuilder joined = new StringBuilder();
+        for (String part : parts) {
+            if (part != null && !part.isBlank()) {
+                joined.append(joined.length() > 0 ? " " : "").append(part);
+            }
+        }
+        return joined.toString();
+    }
+
+    private static String uid(String type, Long id) {
+        return type + ":" + id;
+    }
+
+    /**
+     * Precomposed (NFC) input lets the folding filter strip Vietnamese tone marks; decomposed
+     * combining marks would otherwise stay attached to the tokens
+     */
+    private static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFC);
+    }
+
+    /**
+     * StandardTokenizer -> lower case -> ASCII folding (đ -> d, ắ -> a, ...)
+     */
+    @FunctionalInterface
+    private interface SearcherAction<T> {
+        T apply(IndexSearcher searcher) throws IOException;
+    }
+
+    private static final class FoldingAnalyzer extends Analyzer {
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer source = new StandardTokenizer();
+            TokenStream stream = new ASCIIFoldingFilter(new LowerCaseFilter(source));
+            return new TokenStreamComponents(source, stream);
+        }
+
+        @Override
+        protected TokenStream normalize(String fieldName, TokenStream in) {
+            return new ASCIIFoldingFilter(new LowerCaseFilter(in));
+        }
+    }
+}
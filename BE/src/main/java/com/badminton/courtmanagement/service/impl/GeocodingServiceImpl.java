@@ -0,0 +1,272 @@
+package com.badminton.courtmanagement.service.impl;
+
+import com.badminton.courtmanagement.constants.ErrorConstants;
+import com.badminton.courtmanagement.dto.GeocodingResultDto;
+import com.badminton.courtmanagement.entity.GeocodingCacheEntry;
+import com.badminton.courtmanagement.exception.BusinessException;
+import com.badminton.courtmanagement.exception.ValidationException;
+import com.badminton.courtmanagement.repository.GeocodingCacheRepository;
+import com.badminton.courtmanagement.service.GeocodingProvider;
+import com.badminton.courtmanagement.service.GeocodingService;
+import com.badminton.courtmanagement.utils.TokenBucket;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Lookups go to the geocoding_cache table first, then to the provider. Identical lookups in flight
+ * on this node share one provider call, and provider calls pass through a token bucket so the
+ * Nominatim one-request-per-second policy holds under load; callers that would wait longer than
+ * {@code geocoding.rate-limit.max-wait-ms} are turned away instead of queueing. Misses are cached
+ * for a shorter time than hits. Deliberately not transactional: no database connection is held
+ * while waiting for a permit or for the provider.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GeocodingServiceImpl implements GeocodingService {
+    
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final TypeReference<Map<String, Object>> ADDRESS_TYPE = new TypeReference<>() {};
+    
+    private final GeocodingCacheRepository geocodingCacheRepository;
+    private final GeocodingProvider geocodingProvider;
+    private final ObjectMapper objectMapper;
+    
+    private final ConcurrentMap<String, CompletableFuture<Optional<GeocodingResultDto>>> inFlight = new ConcurrentHashMap<>();
+    private TokenBucket rateLimiter;
+    
+    @Value("${geocoding.rate-limit.permits-per-second:1}")
+    private double permitsPerSecond;
+    
+    @Value("${geocoding.rate-limit.burst:1}")
+    private int burst;
+    
+    @Value("${geocoding.rate-limit.max-wait-ms:3000}")
+    private long maxWaitMs;
+    
+    @Value("${geocoding.cache.ttl-days:30}")
+    private long ttlDays;
+    
+    @Value("${geocoding.cache.negative-ttl-hours:24}")
+    private long negativeTtlHours;
+    
+    @Value("${geocoding.cache.reverse-decimals:4}")
+    private int reverseDecimals;
+    
+    @PostConstruct
+    void init() {
+        rateLimiter = new TokenBucket(permitsPerSecond, burst);
+    }
+    
+    @Override
+    public Optional<GeocodingResultDto> geocode(String address) {
+        log.debug("Geocoding address: {}", address);
+        
+        String normalized = normalizeAddress(address);
+        if (normalized.isEmpty()) {
+            throw new ValidationException(ErrorConstants.REQUIRED_FIELD_MISSING);
+        }
+        return lookup(GeocodingCacheEntry.LookupType.FORWARD, lookupKey(normalized),
+                () -> geocodingProvider.geocode(normalized));
+    }
+    
+    @Override
+    public Optional<GeocodingResultDto> reverseGeocode(double latitude, double longitude) {
+        log.debug("Reverse geocoding: ({}, {})", latitude, longitude);
+        
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new ValidationException(ErrorConstants.INVALID_INPUT);
+        }
+        // The provider is asked about the rounded point, so the cached answer is exactly what the key says
+        BigDecimal lat = BigDecimal.valueOf(latitude).setScale(reverseDecimals, RoundingMode.HALF_UP);
+        BigDecimal lng = BigDecimal.valueOf(longitude).setScale(reverseDecimals, RoundingMode.HALF_UP);
+        return lookup(GeocodingCacheEntry.LookupType.REVERSE, lat.toPlainString() + "," + lng.toPlainString(),
+                () -> geocodingProvider.reverse(lat.doubleValue(), lng.doubleValue()));
+    }
+    
+    /**
+     * Drop expired rows so the table only holds answers that can still be served
+     */
+    @Scheduled(initialDelayString = "${geocoding.cache.cleanup-interval-ms:86400000}",
+               fixedDelayString = "${geocoding.cache.cleanup-interval-ms:86400000}")
+    public void deleteExpired() {
+        try {
+            int deleted = geocodingCacheRepository.deleteExpired(LocalDateTime.now());
+            log.info("Deleted {} expired geocoding cache entries", deleted);
+        } catch (RuntimeException e) {
+            log.warn("Geocoding cache cleanup failed: {}", e.getMessage());
+        }
+    }
+    
+    private Optional<GeocodingResultDto> lookup(GeocodingCacheEntry.LookupType type, String key,
+                                                Supplier<Optional<GeocodingResultDto>> provider) {
+        Optional<GeocodingCacheEntry> cached = findCached(type, key);
+        if (cached.isPresent()) {
+            return toResult(cached.get());
+        }
+        
+        String flightKey = type + ":" + key;
+        CompletableFuture<Optional<GeocodingResultDto>> mine = new CompletableFuture<>();
+        CompletableFuture<Optional<GeocodingResultDto>> leader = inFlight.putIfAbsent(flightKey, mine);
+        if (leader != null) {
+            log.debug("Joining in-flight geocoding lookup: {}", flightKey);
+            return await(leader);
+        }
+        
+        try {
+            Optional<GeocodingResultDto> result = fetch(type, key, provider);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, mine);
+        }
+    }
+    
+    private Optional<GeocodingResultDto> fetch(GeocodingCacheEntry.LookupType type, String key,
+                                               Supplier<Optional<GeocodingResultDto>> provider) {
+        // Another node, or a flight that finished just before ours started, may have stored it meanwhile
+        Optional<GeocodingCacheEntry> cached = findCached(type, key);
+        if (cached.isPresent()) {
+            return toResult(cached.get());
+        }
+        
+        if (geocodingProvider.isRateLimited()) {
+            acquirePermit();
+        }
+        Optional<GeocodingResultDto> result = provider.get();
+        store(type, key, result);
+        
+        log.info("Geocoding {} lookup {} -> {}", type, key, result.isPresent() ? "found" : "not found");
+        return result;
+    }
+    
+    private void acquirePermit() {
+        try {
+            if (!rateLimiter.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS)) {
+                log.warn("Geocoding rate limit reached, rejecting lookup");
+                throw new BusinessException(ErrorConstants.GEOCODING_RATE_LIMITED, ErrorConstants.SERVICE_UNAVAILABLE);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorConstants.GEOCODING_RATE_LIMITED, ErrorConstants.SERVICE_UNAVAILABLE);
+        }
+    }
+    
+    private static Optional<GeocodingResultDto> await(CompletableFuture<Optional<GeocodingResultDto>> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+    
+    private Optional<GeocodingCacheEntry> findCached(GeocodingCacheEntry.LookupType type, String key) {
+        try {
+            return geocodingCacheRepository.findByLookupTypeAndLookupKey(type, key)
+                    .filter(entry -> entry.getExpiresAt().isAfter(LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            log.warn("Geocoding cache read failed, asking provider: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+    
+    private void store(GeocodingCacheEntry.LookupType type, String key, Optional<GeocodingResultDto> result) {
+        Duration ttl = result.isPresent() ? Duration.ofDays(ttlDays) : Duration.ofHours(negativeTtlHours);
+        try {
+            GeocodingResultDto value = result.orElse(null);
+            geocodingCacheRepository.upsert(type.name(), key, value != null,
+                    value != null ? value.getLatitude() : null,
+                    value != null ? value.getLongitude() : null,
+                    value != null ? truncate(value.getDisplayName(), 500) : null,
+                    value != null && value.getAddress() != null ? objectMapper.writeValueAsString(value.getAddress()) : null,
+                    LocalDateTime.now().plus(ttl));
+        } catch (JsonProcessingException | RuntimeException e) {
+            // The caller still gets its answer; the next lookup just asks the provider again
+            log.warn("Could not store geocoding result for {}: {}", key, e.getMessage());
+        }
+    }
+    
+    private Optional<GeocodingResultDto> toResult(GeocodingCacheEntry entry) {
+        if (!Boolean.TRUE.equals(entry.getFound())) {
+            return Optional.empty();
+        }
+        Map<String, Object> address = null;
+        if (entry.getAddressJson() != null) {
+            try {
+                address = objectMapper.readValue(entry.getAddressJson(), ADDRESS_TYPE);
+            } catch (JsonProcessingException e) {
+                log.warn("Unreadable cached address for {}: {}", entry.getLookupKey(), e.getMessage());
+            }
+        }
+        return Optional.of(GeocodingResultDto.builder()
+                .latitude(entry.getLatitude())
+                .longitude(entry.getLongitude())
+                .displayName(entry.getDisplayName())
+                .address(address)
+                .build());
+    }
+    
+    /**
+     * NFC, trimmed, single spaces, lowercase: the spellings users type for one address share a key
+     */
+    private static String normalizeAddress(String address) {
+        if (address == null) {
+            return "";
+        }
+        return Normalizer.normalize(address, Normalizer.Form.NFC)
+                .trim()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * Long addresses are keyed by their SHA-256 so the key fits the unique index
+     */
+    private static String lookupKey(String normalized) {
+        if (normalized.length() <= MAX_KEY_LENGTH) {
+            return normalized;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(normalized.getBytes(StandardCharsets.UTF_8));
+            return "sha256:" + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
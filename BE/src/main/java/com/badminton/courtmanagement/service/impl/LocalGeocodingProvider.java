@@ -0,0 +1,63 @@
+package com.badminton.courtmanagement.service.impl;
+
+import com.badminton.courtmanagement.dto.GeocodingResultDto;
+import com.badminton.courtmanagement.service.GeocodingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Offline stand-in for tests and local development ({@code geocoding.provider=local}). Answers
+ * instantly and deterministically: an address maps to a fixed point inside Vietnam derived from
+ * its hash, and any point reverse-geocodes to a synthetic address naming its coordinates.
+ * Addresses containing "not found" return no result so the miss path can be exercised.
+ */
+@Service
+@ConditionalOnProperty(name = "geocoding.provider", havingValue = "local")
+@Slf4j
+public class LocalGeocodingProvider implements GeocodingProvider {
+    
+    // Bounding box of mainland Vietnam
+    private static final double MIN_LAT = 8.5;
+    private static final double MAX_LAT = 23.4;
+    private static final double MIN_LNG = 102.1;
+    private static final double MAX_LNG = 109.5;
+    
+    @Override
+    public Optional<GeocodingResultDto> geocode(String address) {
+        if (address.toLowerCase(Locale.ROOT).contains("not found")) {
+            return Optional.empty();
+        }
+        int hash = address.hashCode();
+        double latitude = MIN_LAT + (MAX_LAT - MIN_LAT) * ((hash >>> 16) / 65536.0);
+        double longitude = MIN_LNG + (MAX_LNG - MIN_LNG) * ((hash & 0xFFFF) / 65536.0);
+        log.debug("Local geocode: {} -> ({}, {})", address, latitude, longitude);
+        return Optional.of(result(latitude, longitude, address));
+    }
+    
+    @Override
+    public Optional<GeocodingResultDto> reverse(double latitude, double longitude) {
+        String displayName = String.format(Locale.ROOT, "%.6f, %.6f, Việt Nam", latitude, longitude);
+        return Optional.of(result(latitude, longitude, displayName));
+    }
+    
+    @Override
+    public boolean isRateLimited() {
+        return false;
+    }
+    
+    private static GeocodingResultDto result(double latitude, double longitude, String displayName) {
+        return GeocodingResultDto.builder()
+                .latitude(BigDecimal.valueOf(latitude).setScale(8, RoundingMode.HALF_UP))
+                .longitude(BigDecimal.valueOf(longitude).setScale(8, RoundingMode.HALF_UP))
+                .displayName(displayName)
+                .address(Map.of("country", "Việt Nam", "country_code", "vn"))
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.badminton.courtmanagement.service.impl;
 
 import com.badminton.courtmanagement.constants.ErrorConstants;
 import com.badminton.courtmanagement.dto.CreateMessageRequest;
+import com.badminton.courtmanagement.dto.CursorPageResponse;
 import com.badminton.courtmanagement.dto.MessageDto;
 import com.badminton.courtmanagement.entity.Message;
 import com.badminton.courtmanagement.entity.TeamPost;
@@ -13,9 +14,11 @@ import com.badminton.courtmanagement.repository.MessageRepository;
 import com.badminton.courtmanagement.repository.TeamPostRepository;
 import com.badminton.courtmanagement.repository.UserRepository;
 import com.badminton.courtmanagement.service.MessageService;
+import com.badminton.courtmanagement.utils.CursorUtils;
 import com.badminton.courtmanagement.utils.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -77,6 +80,29 @@ public class MessageServiceImpl implements MessageService {
         return messageMapper.toDtoList(messages);
     }
     
+    @Override
+    public CursorPageResponse<MessageDto> getConversationByCursor(Long otherUserId, String cursor, int size) {
+        log.debug("Getting conversation with user: {} after cursor: {}", otherUserId, cursor);
+        
+        Long currentUserId = getCurrentUser().getId();
+        if (!userRepository.existsById(otherUserId)) {
+            throw new ResourceNotFoundException(ErrorConstants.USER_NOT_FOUND);
+        }
+        
+        Pageable limit = CursorUtils.limitOf(size);
+        List<Message> messages;
+        if (cursor == null || cursor.isBlank()) {
+            messages = messageRepository.findKeysetConversation(currentUserId, otherUserId, limit);
+        } else {
+            CursorUtils.CreatedAtCursor after = CursorUtils.decodeCreatedAt(cursor);
+            messages = messageRepository.findKeysetConversationAfter(
+                    currentUserId, otherUserId, after.createdAt(), after.id(), limit);
+        }
+        
+        return CursorPageResponse.of(messages, CursorUtils.normalizeSize(size), messageMapper::toDto,
+                message -> CursorUtils.encodeCreatedAt(message.getCreatedAt(), message.getId()));
+    }
+    
     @Override
     public List<MessageDto> getConversations() {
         log.debug("Getting conversations for current user");
@@ -123,13 +149,15 @@ public class MessageServiceImpl implements MessageService {
         return messageMapper.toDtoList(messages);
     }
     
+    /**
+     * Reference to the current user; the id comes from the token, so nothing is loaded unless a field is read
+     */
     private User getCurrentUser() {
-        String currentUserEmail = SecurityUtils.getCurrentUserEmail();
-        if (currentUserEmail == null) {
+        Long currentUserId = SecurityUtils.getCurrentUserId();
+        if (currentUserId == null) {
             throw new ValidationException(ErrorConstants.ACCESS_DENIED);
         }
         
-        return userRepository.findByEmail(currentUserEmail)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.USER_NOT_FOUND));
+        return userRepository.getReferenceById(currentUserId);
     }
 } 
\ No newline at end of file
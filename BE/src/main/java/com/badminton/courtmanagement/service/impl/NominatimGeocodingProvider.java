@@ -0,0 +1,116 @@
+package com.badminton.courtmanagement.service.impl;
+
+import com.badminton.courtmanagement.config.DownstreamClient;
+import com.badminton.courtmanagement.config.DownstreamClients;
+import com.badminton.courtmanagement.constants.AppConstants;
+import com.badminton.courtmanagement.dto.GeocodingResultDto;
+import com.badminton.courtmanagement.service.GeocodingProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * OpenStreetMap Nominatim through the {@code nominatim} downstream client (timeouts, bulkhead,
+ * circuit breaker). The public instance allows one request per second per application, which
+ * {@link GeocodingServiceImpl} enforces.
+ */
+@Service
+@ConditionalOnProperty(name = "geocoding.provider", havingValue = "nominatim", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class NominatimGeocodingProvider implements GeocodingProvider {
+    
+    private static final ParameterizedTypeReference<List<Map<String, Object>>> SEARCH_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<Map<String, Object>> REVERSE_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    
+    private final DownstreamClients downstreamClients;
+    
+    @Value("${geocoding.nominatim.url:https://nominatim.openstreetmap.org}")
+    private String baseUrl;
+    
+    // Nominatim usage policy requires an identifying User-Agent
+    @Value("${geocoding.nominatim.user-agent:BadmintonCourtApp/1.0 (contact@badminton.com)}")
+    private String userAgent;
+    
+    @Override
+    public Optional<GeocodingResultDto> geocode(String address) {
+        String url = UriComponentsBuilder.fromHttpUrl(baseUrl)
+                .path("/search")
+                .queryParam("format", "json")
+                .queryParam("q", address)
+                .queryParam("limit", "1")
+                .queryParam("countrycodes", "vn")
+                .queryParam("addressdetails", "1")
+                .encode()
+                .toUriString();
+        log.debug("Nominatim search: {}", url);
+        
+        List<Map<String, Object>> results = client().call(rest -> rest
+                .exchange(url, HttpMethod.GET, request(), SEARCH_RESPONSE)
+                .getBody());
+        if (results == null || results.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(toResult(results.get(0)));
+    }
+    
+    @Override
+    public Optional<GeocodingResultDto> reverse(double latitude, double longitude) {
+        String url = UriComponentsBuilder.fromHttpUrl(baseUrl)
+                .path("/reverse")
+                .queryParam("format", "json")
+                .queryParam("lat", latitude)
+                .queryParam("lon", longitude)
+                .queryParam("addressdetails", "1")
+                .encode()
+                .toUriString();
+        log.debug("Nominatim reverse: {}", url);
+        
+        Map<String, Object> result = client().call(rest -> rest
+                .exchange(url, HttpMethod.GET, request(), REVERSE_RESPONSE)
+                .getBody());
+        if (result == null || !result.containsKey("display_name")) {
+            return Optional.empty();
+        }
+        return Optional.of(toResult(result));
+    }
+    
+    @Override
+    public boolean isRateLimited() {
+        return true;
+    }
+    
+    private DownstreamClient client() {
+        return downstreamClients.get(AppConstants.DOWNSTREAM_NOMINATIM);
+    }
+    
+    private HttpEntity<Void> request() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.USER_AGENT, userAgent);
+        return new HttpEntity<>(headers);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static GeocodingResultDto toResult(Map<String, Object> place) {
+        return GeocodingResultDto.builder()
+                .latitude(place.get("lat") != null ? new BigDecimal(place.get("lat").toString()) : null)
+                .longitude(place.get("lon") != null ? new BigDecimal(place.get("lon").toString()) : null)
+                .displayName((String) place.get("display_name"))
+                .address((Map<String, Object>) place.get("address"))
+                .build();
+    }
+}
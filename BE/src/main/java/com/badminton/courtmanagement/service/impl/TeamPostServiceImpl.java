@@ -1,10 +1,12 @@
 package com.badminton.courtmanagement.service.impl;
 
+import com.badminton.courtmanagement.constants.AppConstants;
 import com.badminton.courtmanagement.constants.ErrorConstants;
 import com.badminton.courtmanagement.dto.*;
 import com.badminton.courtmanagement.entity.TeamMember;
 import com.badminton.courtmanagement.entity.TeamPost;
 import com.badminton.courtmanagement.entity.User;
+import com.badminton.courtmanagement.event.TeamPostChangedEvent;
 import com.badminton.courtmanagement.exception.ResourceNotFoundException;
 import com.badminton.courtmanagement.exception.ValidationException;
 import com.badminton.courtmanagement.mapper.TeamMemberMapper;
@@ -15,10 +17,13 @@ import com.badminton.courtmanagement.repository.UserRepository;
 import com.badminton.courtmanagement.repository.MessageRepository;
 import com.badminton.courtmanagement.entity.Message;
 import com.badminton.courtmanagement.mapper.MessageMapper;
+import com.badminton.courtmanagement.service.FullTextSearchIndex;
 import com.badminton.courtmanagement.service.TeamPostService;
+import com.badminton.courtmanagement.utils.CursorUtils;
 import com.badminton.courtmanagement.utils.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -26,6 +31,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -43,6 +49,8 @@ public class TeamPostServiceImpl implements TeamPostService {
     private final TeamPostMapper teamPostMapper;
     private final TeamMemberMapper teamMemberMapper;
     private final MessageMapper messageMapper;
+    private final FullTextSearchIndex fullTextSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Override
     @Transactional
@@ -74,6 +82,7 @@ public class TeamPostServiceImpl implements TeamPostService {
                 .status(TeamMember.MemberStatus.ACCEPTED)
                 .build();
         teamMemberRepository.save(creatorMember);
+        eventPublisher.publishEvent(new TeamPostChangedEvent(savedTeamPost.getId()));
         
         log.info("Created team post with id: {}", savedTeamPost.getId());
         return teamPostMapper.toDto(savedTeamPost);
@@ -109,6 +118,7 @@ public class TeamPostServiceImpl implements TeamPostService {
         // Update team post
         teamPostMapper.updateEntityFromRequest(request, teamPost);
         TeamPost savedTeamPost = teamPostRepository.save(teamPost);
+        eventPublisher.publishEvent(new TeamPostChangedEvent(id));
         
         log.info("Updated team post id: {}", id);
         return teamPostMapper.toDto(savedTeamPost);
@@ -129,6 +139,7 @@ public class TeamPostServiceImpl implements TeamPostService {
         }
         
         teamPostRepository.delete(teamPost);
+        eventPublisher.publishEvent(new TeamPostChangedEvent(id));
         log.info("Deleted team post id: {}", id);
     }
     
@@ -142,6 +153,24 @@ public class TeamPostServiceImpl implements TeamPostService {
         return PageResponse.of(teamPosts.map(teamPostMapper::toDto));
     }
     
+    @Override
+    public CursorPageResponse<TeamPostDto> getAllTeamPostsByCursor(String cursor, int size) {
+        log.debug("Getting all team posts after cursor: {}", cursor);
+        
+        Pageable limit = CursorUtils.limitOf(size);
+        List<TeamPost> teamPosts;
+        if (cursor == null || cursor.isBlank()) {
+            teamPosts = teamPostRepository.findKeysetByStatus(TeamPost.PostStatus.ACTIVE, limit);
+        } else {
+            CursorUtils.CreatedAtCursor after = CursorUtils.decodeCreatedAt(cursor);
+            teamPosts = teamPostRepository.findKeysetByStatusAfter(
+                    TeamPost.PostStatus.ACTIVE, after.createdAt(), after.id(), limit);
+        }
+        
+        return CursorPageResponse.of(teamPosts, CursorUtils.normalizeSize(size), teamPostMapper::toDto,
+                teamPost -> CursorUtils.encodeCreatedAt(teamPost.getCreatedAt(), teamPost.getId()));
+    }
+    
     @Override
     public PageResponse<TeamPostDto> getMyTeamPosts(Pageable pageable) {
         log.debug("Getting my team posts");
@@ -158,26 +187,11 @@ public class TeamPostServiceImpl implements TeamPostService {
         
         User currentUser = getCurrentUser();
         
-        // Tìm các team mà user đã tham gia với status ACCEPTED
-        List<TeamMember> acceptedMemberships = teamMemberRepository.findByUserAndStatus(
-                currentUser, TeamMember.MemberStatus.ACCEPTED);
-        
-        // Lấy danh sách team posts từ các membership
-        List<TeamPost> joinedTeamPosts = acceptedMemberships.stream()
-                .map(TeamMember::getTeamPost)
-                .distinct()
-                .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
-                .toList();
-        
-        // Convert to page manually since we already have the filtered list
-        int start = Math.min((int) pageable.getOffset(), joinedTeamPosts.size());
-        int end = Math.min(start + pageable.getPageSize(), joinedTeamPosts.size());
-        List<TeamPost> paginatedList = joinedTeamPosts.subList(start, end);
-        
-        Page<TeamPost> teamPostPage = new org.springframework.data.domain.PageImpl<>(
-                paginatedList, pageable, joinedTeamPosts.size());
+        // Các team mà user đã tham gia với status ACCEPTED, phân trang và sắp xếp trong SQL
+        Page<TeamPost> teamPosts = teamPostRepository.findJoinedByUserId(
+                currentUser.getId(), TeamMember.MemberStatus.ACCEPTED, pageable);
         
-        return PageResponse.of(teamPostPage.map(teamPostMapper::toDto));
+        return PageResponse.of(teamPosts.map(teamPostMapper::toDto));
     }
     
     @Override
@@ -185,6 +199,11 @@ public class TeamPostServiceImpl implements TeamPostService {
                                                     String location, String date, Pageable pageable) {
         log.debug("Searching team posts with filters");
         
+        if (keyword != null && !keyword.trim().isEmpty() && pageable.getSort().isUnsorted()
+                && fullTextSearchIndex.isReady()) {
+            return searchTeamPostsByRelevance(keyword.trim(), skillLevel, location, date, pageable);
+        }
+        
         Specification<TeamPost> spec = createTeamPostSpecification(keyword, sport, skillLevel, location, date);
         Page<TeamPost> teamPosts = teamPostRepository.findAll(spec, pageable);
         
@@ -340,6 +359,7 @@ public class TeamPostServiceImpl implements TeamPostService {
         
         teamPost.setStatus(status);
         TeamPost savedTeamPost = teamPostRepository.save(teamPost);
+        eventPublisher.publishEvent(new TeamPostChangedEvent(id));
         
         log.info("Updated team post {} status to: {}", id, status);
         return teamPostMapper.toDto(savedTeamPost);
@@ -465,14 +485,16 @@ public class TeamPostServiceImpl implements TeamPostService {
     
     // Private helper methods
     
+    /**
+     * Reference to the current user; the id comes from the token, so nothing is loaded unless a field is read
+     */
     private User getCurrentUser() {
-        String currentUserEmail = SecurityUtils.getCurrentUserEmail();
-        if (currentUserEmail == null) {
+        Long currentUserId = SecurityUtils.getCurrentUserId();
+        if (currentUserId == null) {
             throw new ValidationException(ErrorConstants.ACCESS_DENIED);
         }
         
-        return userRepository.findByEmail(currentUserEmail)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.USER_NOT_FOUND));
+        return userRepository.getReferenceById(currentUserId);
     }
     
     private void validateTeamPostRequest(CreateTeamPostRequest request) {
@@ -509,6 +531,85 @@ public class TeamPostServiceImpl implements TeamPostService {
         }
     }
     
+    /**
+     * Keyword search ranked by the full-text index. Without other filters the index pages on its own;
+     * otherwise ranked ids are filtered in the database batch by batch, in rank order. Every batch is
+     * counted so the total is exact, but only the batches overlapping the page are loaded.
+     */
+    private PageResponse<TeamPostDto> searchTeamPostsByRelevance(String keyword, String skillLevel,
+                                                                String location, String date, Pageable pageable) {
+        boolean filtered = (skillLevel != null && !skillLevel.trim().isEmpty())
+                || (location != null && !location.trim().isEmpty())
+                || (date != null && !date.trim().isEmpty());
+        
+        if (!filtered) {
+            FullTextSearchIndex.Result result = fullTextSearchIndex.searchTeamPosts(
+                    keyword, (int) pageable.getOffset(), pageable.getPageSize());
+            List<TeamPostDto> content = inRankOrder(result.ids(), teamPostRepository.findAll(
+                    createTeamPostSpecification(null, null, null, null, null).and(hasIdIn(result.ids())))).stream()
+                    .map(teamPostMapper::toDto)
+                    .toList();
+            return PageResponse.of(content, pageable.getPageNumber(), pageable.getPageSize(), result.total());
+        }
+        
+        Specification<TeamPost> filters = createTeamPostSpecification(null, null, skillLevel, location, date);
+        long skip = pageable.getOffset();
+        List<TeamPost> page = new ArrayList<>(pageable.getPageSize());
+        long total = 0;
+        int batchStart = 0;
+        long hits;
+        do {
+            FullTextSearchIndex.Result batch = fullTextSearchIndex.searchTeamPosts(
+                    keyword, batchStart, AppConstants.SEARCH_RANKED_BATCH_SIZE);
+            hits = batch.total();
+            List<Long> rankedIds = batch.ids();
+            if (rankedIds.isEmpty()) {
+                break;
+            }
+            Specification<TeamPost> inBatch = filters.and(hasIdIn(rankedIds));
+            long matched = teamPostRepository.count(inBatch);
+            total += matched;
+            if (page.size() < pageable.getPageSize()) {
+                if (matched > skip) {
+                    for (TeamPost teamPost : inRankOrder(rankedIds, teamPostRepository.findAll(inBatch))) {
+                        if (skip > 0) {
+                            skip--;
+                        } else if (page.size() < pageable.getPageSize()) {
+                            page.add(teamPost);
+                        }
+                    }
+                } else {
+                    skip -= matched;
+                }
+            }
+            batchStart += rankedIds.size();
+        } while (batchStart < hits);
+        
+        List<TeamPostDto> content = page.stream()
+                .map(teamPostMapper::toDto)
+                .toList();
+        return PageResponse.of(content, pageable.getPageNumber(), pageable.getPageSize(), total);
+    }
+    
+    private static List<TeamPost> inRankOrder(List<Long> rankedIds, List<TeamPost> teamPosts) {
+        Map<Long, TeamPost> byId = new HashMap<>();
+        teamPosts.forEach(teamPost -> byId.put(teamPost.getId(), teamPost));
+        List<TeamPost> ordered = new ArrayList<>(teamPosts.size());
+        for (Long id : rankedIds) {
+            TeamPost teamPost = byId.get(id);
+            if (teamPost != null) {
+                ordered.add(teamPost);
+            }
+        }
+        return ordered;
+    }
+    
+    private static Specification<TeamPost> hasIdIn(List<Long> ids) {
+        return (root, query, criteriaBuilder) -> ids.isEmpty()
+                ? criteriaBuilder.disjunction()
+                : root.get("id").in(ids);
+    }
+    
     private Specification<TeamPost> createTeamPostSpecification(String keyword, String sport, 
                                                                String skillLevel, String location, String date) {
         return (root, query, criteriaBuilder) -> {
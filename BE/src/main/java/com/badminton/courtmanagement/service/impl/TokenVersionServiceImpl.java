@@ -0,0 +1,69 @@
+package com.badminton.courtmanagement.service.impl;
+
+import com.badminton.courtmanagement.entity.User;
+import com.badminton.courtmanagement.event.UserTokensRevokedEvent;
+import com.badminton.courtmanagement.repository.UserRepository;
+import com.badminton.courtmanagement.service.TokenVersionService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Keeps token versions in a short-lived local cache. A revoke on this node takes effect as soon
+ * as it commits; other nodes pick it up within jwt.token-version.ttl-seconds.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenVersionServiceImpl implements TokenVersionService {
+
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${jwt.token-version.max-size:100000}")
+    private long maxSize;
+
+    @Value("${jwt.token-version.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    // userId -> token version; an empty Optional records a user that no longer exists
+    private Cache<Long, Optional<Integer>> versions;
+
+    @PostConstruct
+    void initCache() {
+        versions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    @Override
+    public Integer getCurrentVersion(Long userId) {
+        return versions.get(userId, userRepository::findTokenVersionById).orElse(null);
+    }
+
+    @Override
+    public void revokeTokens(User user) {
+        int current = user.getTokenVersion() != null ? user.getTokenVersion() : 0;
+        user.setTokenVersion(current + 1);
+        eventPublisher.publishEvent(new UserTokensRevokedEvent(user.getId()));
+        log.info("Revoked access tokens for user {}", user.getId());
+    }
+
+    /**
+     * Evict once the new version has committed, so a concurrent read cannot re-cache the old one
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTokensRevoked(UserTokensRevokedEvent event) {
+        versions.invalidate(event.getUserId());
+    }
+}
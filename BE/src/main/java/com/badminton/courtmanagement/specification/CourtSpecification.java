@@ -4,14 +4,18 @@ import com.badminton.courtmanagement.entity.Court;
 import com.badminton.courtmanagement.entity.CourtOwner;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 public class CourtSpecification {
     
+    private static final String PRICE_PROPERTY = "minPrice";
+    
     /**
      * Tìm theo tên sân (gần đúng, không phân biệt hoa thường)
      */
@@ -69,6 +73,21 @@ public class CourtSpecification {
         };
     }
     
+    /**
+     * Giới hạn trong danh sách id (kết quả từ chỉ mục toàn văn)
+     */
+    public static Specification<Court> hasIdIn(Collection<Long> ids) {
+        return (root, query, criteriaBuilder) -> {
+            if (ids == null) {
+                return criteriaBuilder.conjunction();
+            }
+            if (ids.isEmpty()) {
+                return criteriaBuilder.disjunction();
+            }
+            return root.get("id").in(ids);
+        };
+    }
+    
     /**
      * Tìm theo chủ sân
      */
@@ -101,6 +120,32 @@ public class CourtSpecification {
         };
     }
     
+    /**
+     * Tìm theo khoảng giá khởi điểm (min_price), sân chưa có bảng giá bị loại khi có điều kiện giá
+     */
+    public static Specification<Court> hasPriceBetween(BigDecimal minPrice, BigDecimal maxPrice) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            
+            if (minPrice != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get(PRICE_PROPERTY), minPrice));
+            }
+            
+            if (maxPrice != null) {
+                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get(PRICE_PROPERTY), maxPrice));
+            }
+            
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+    
+    /**
+     * Sắp xếp theo giá khởi điểm, id để thứ tự ổn định giữa các trang
+     */
+    public static Sort sortByPrice(Sort.Direction direction) {
+        return Sort.by(direction, PRICE_PROPERTY).and(Sort.by(direction, "id"));
+    }
+    
     /**
      * Tìm theo số đánh giá tối thiểu
      */
@@ -0,0 +1,103 @@
+package com.badminton.courtmanagement.utils;
+
+import com.badminton.courtmanagement.constants.AppConstants;
+import com.badminton.courtmanagement.constants.ErrorConstants;
+import com.badminton.courtmanagement.exception.ValidationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Encodes the sort key of the last row of a page as an opaque, URL-safe cursor.
+ * Booking cursors carry (bookingDate, startTime, id); post and message cursors carry (createdAt, id).
+ */
+public final class CursorUtils {
+    
+    private static final String SEPARATOR = "|";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    
+    private CursorUtils() {
+        // Prevent instantiation
+    }
+    
+    public record BookingCursor(LocalDate bookingDate, LocalTime startTime, Long id) {
+    }
+    
+    public record CreatedAtCursor(LocalDateTime createdAt, Long id) {
+    }
+    
+    /**
+     * Tạo cursor cho booking
+     */
+    public static String encodeBooking(LocalDate bookingDate, LocalTime startTime, Long id) {
+        return encode(bookingDate + SEPARATOR + startTime + SEPARATOR + id);
+    }
+    
+    /**
+     * Giải mã cursor booking
+     */
+    public static BookingCursor decodeBooking(String cursor) {
+        String[] parts = decode(cursor, 3);
+        try {
+            return new BookingCursor(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), Long.valueOf(parts[2]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new ValidationException(ErrorConstants.INVALID_CURSOR);
+        }
+    }
+    
+    /**
+     * Tạo cursor theo thời điểm tạo
+     */
+    public static String encodeCreatedAt(LocalDateTime createdAt, Long id) {
+        return encode(createdAt + SEPARATOR + id);
+    }
+    
+    /**
+     * Giải mã cursor theo thời điểm tạo
+     */
+    public static CreatedAtCursor decodeCreatedAt(String cursor) {
+        String[] parts = decode(cursor, 2);
+        try {
+            return new CreatedAtCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new ValidationException(ErrorConstants.INVALID_CURSOR);
+        }
+    }
+    
+    /**
+     * Pageable lấy dư một phần tử để xác định còn trang sau, không kèm truy vấn COUNT
+     */
+    public static Pageable limitOf(int size) {
+        return PageRequest.of(0, normalizeSize(size) + 1);
+    }
+    
+    /**
+     * Giới hạn kích thước trang trong khoảng [1, MAX_PAGE_SIZE]
+     */
+    public static int normalizeSize(int size) {
+        return Math.max(1, Math.min(size, AppConstants.MAX_PAGE_SIZE));
+    }
+    
+    private static String encode(String raw) {
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private static String[] decode(String cursor, int expectedParts) {
+        try {
+            String[] parts = new String(DECODER.decode(cursor), StandardCharsets.UTF_8).split("\\|", -1);
+            if (parts.length != expectedParts) {
+                throw new ValidationException(ErrorConstants.INVALID_CURSOR);
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(ErrorConstants.INVALID_CURSOR);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.badminton.courtmanagement.utils;
 
+import com.badminton.courtmanagement.config.AuthenticatedUser;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -36,6 +37,27 @@ public final class SecurityUtils {
         return null;
     }
     
+    /**
+     * Lấy principal của request hiện tại (id, email, role lấy từ token), null nếu chưa đăng nhập
+     */
+    public static AuthenticatedUser getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        
+        return authentication.getPrincipal() instanceof AuthenticatedUser user ? user : null;
+    }
+    
+    /**
+     * Lấy id của user hiện tại mà không truy vấn database, null nếu chưa đăng nhập
+     */
+    public static Long getCurrentUserId() {
+        AuthenticatedUser user = getCurrentUser();
+        return user != null ? user.getId() : null;
+    }
+    
     /**
      * Kiểm tra user hiện tại có authenticated không
      */
@@ -0,0 +1,35 @@
+package com.badminton.courtmanagement.utils;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cố định một số lượng lock và ánh xạ key vào lock theo hash,
+ * để các key khác nhau phần lớn không chặn nhau mà không phải tạo lock cho từng key
+ */
+public final class StripedLock {
+    
+    private final ReentrantLock[] stripes;
+    private final int mask;
+    
+    public StripedLock(int minimumStripes) {
+        int size = Integer.highestOneBit(Math.max(minimumStripes - 1, 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+    
+    /**
+     * Lấy lock tương ứng với key
+     */
+    public ReentrantLock get(Object key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return stripes[h & mask];
+    }
+    
+    public int size() {
+        return stripes.length;
+    }
+}
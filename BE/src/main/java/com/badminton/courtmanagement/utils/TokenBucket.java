@@ -0,0 +1,50 @@
+package com.badminton.courtmanagement.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Giới hạn tốc độ kiểu token bucket: nạp lại đều theo thời gian, cho phép dồn tối đa burst lượt.
+ * Người gọi giữ chỗ lượt kế tiếp rồi chờ ngoài lock, nên các lượt được cấp theo thứ tự đến
+ */
+public final class TokenBucket {
+    
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long nanosPerPermit;
+    private final long maxBurstNanos;
+    
+    // Time at which the next permit becomes free; lags "now" by up to maxBurstNanos when idle
+    private long nextFreeNanos;
+    
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond and burst must be positive");
+        }
+        this.nanosPerPermit = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.maxBurstNanos = nanosPerPermit * (burst - 1);
+        this.nextFreeNanos = System.nanoTime() - maxBurstNanos;
+    }
+    
+    /**
+     * Lấy một lượt, chờ tối đa timeout; trả về false (không giữ chỗ) nếu phải chờ lâu hơn
+     */
+    public boolean tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
+        long waitNanos;
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            long start = Math.max(nextFreeNanos, now - maxBurstNanos);
+            waitNanos = start - now;
+            if (waitNanos > unit.toNanos(timeout)) {
+                return false;
+            }
+            nextFreeNanos = start + nanosPerPermit;
+        } finally {
+            lock.unlock();
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        return true;
+    }
+}
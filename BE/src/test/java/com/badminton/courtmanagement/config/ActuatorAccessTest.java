@@ -0,0 +1,59 @@
+package com.badminton.courtmanagement.config;
+
+import com.badminton.courtmanagement.entity.User;
+import com.badminton.courtmanagement.repository.UserRepository;
+import com.badminton.courtmanagement.support.IntegrationTest;
+import com.badminton.courtmanagement.support.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The Docker HEALTHCHECK calls /actuator/health without credentials; the other actuator
+ * endpoints stay admin-only
+ */
+@IntegrationTest
+class ActuatorAccessTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    @Test
+    void healthAnswersAnonymousCallersWithTheStatusOnly() throws Exception {
+        // Redis is not running in tests, so the aggregate may be DOWN (503); it must not be refused
+        String body = mockMvc.perform(get("/actuator/health"))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body).contains("\"status\"").doesNotContain("\"components\"");
+    }
+
+    @Test
+    void metricsAreAdminOnly() throws Exception {
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().is4xxClientError());
+        mockMvc.perform(get("/actuator/metrics")
+                        .with(user(AuthenticatedUser.of(TestData.user(userRepository, User.UserRole.USER)))))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics")
+                        .with(user(AuthenticatedUser.of(TestData.user(userRepository, User.UserRole.ADMIN)))))
+                .andExpect(status().isOk());
+    }
+}
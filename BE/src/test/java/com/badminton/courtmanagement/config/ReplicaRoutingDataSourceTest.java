@@ -0,0 +1,265 @@
+package com.badminton.courtmanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ReplicaRoutingDataSource over mocked pools whose replicas answer SHOW REPLICA STATUS as told
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(2);
+
+    private final Node primary = new Node("primary-pool");
+    private final Node r0 = new Node("r0");
+    private final Node r1 = new Node("r1");
+    private final List<ReplicaRoutingDataSource> opened = new ArrayList<>();
+
+    private boolean readYourWrites;
+
+    @AfterEach
+    void tearDown() {
+        r0.release();
+        r1.release();
+        opened.forEach(ReplicaRoutingDataSource::close);
+    }
+
+    @Test
+    void readOnlyGoesToReplicasWithinMaxLagAndWritesToPrimary() throws Exception {
+        ReplicaRoutingDataSource routing = routing(Duration.ofMinutes(1));
+        r0.reportLag(1);
+        r1.reportLag(5);
+        routing.probeReplicas();
+
+        assertThat(routing.getReplicaLag()).containsEntry("r0", 1L).containsEntry("r1", 5L);
+        assertThat(target(routing, false)).isSameAs(primary);
+        assertThat(target(routing, true)).isSameAs(r0);
+        assertThat(target(routing, true)).isSameAs(r0);
+    }
+
+    @Test
+    void readOnlyRoundRobinsOverUsableReplicas() throws Exception {
+        ReplicaRoutingDataSource routing = routing(Duration.ofMinutes(1));
+        r0.reportLag(0);
+        r1.reportLag(2);
+        routing.probeReplicas();
+
+        assertThat(List.of(target(routing, true), target(routing, true), target(routing, true),
+                target(routing, true))).containsOnly(r0, r1).contains(r0, r1);
+    }
+
+    @Test
+    void replicasStayUnusedUntilTheirFirstProbe() throws Exception {
+        ReplicaRoutingDataSource routing = routing(Duration.ofMinutes(1));
+
+        assertThat(target(routing, true)).isSameAs(primary);
+        assertThat(routing.getReplicaLag()).containsEntry("r0", -1L).containsEntry("r1", -1L);
+    }
+
+    @Test
+    void stoppedReplicationAndNoReplicationStatusAreUnusable() throws Exception {
+        ReplicaRoutingDataSource routing = routing(Duration.ofMinutes(1));
+        r0.reportStopped();
+        r1.reportNoStatus();
+        routing.probeReplicas();
+
+        assertThat(routing.getReplicaLag()).containsEntry("r0", -1L).containsEntry("r1", -1L);
+        assertThat(target(routing, true)).isSameAs(primary);
+    }
+
+    @Test
+    void noReplicationStatusCountsAsCurrentOnlyWhenStandaloneReplicasAreAllowed() throws Exception {
+        ReplicaRoutingDataSource routing = routing(Duration.ofMinutes(1),
+                new ReplicaRoutingDataSource.LagQuery("SHOW REPLICA STATUS", "Seconds_Behind_Source", true));
+        r0.reportStopped();
+        r1.reportNoStatus();
+        routing.probeReplicas();
+
+        assertThat(routing.getReplicaLag()).containsEntry("r0", -1L).containsEntry("r1", 0L);
+        assertThat(target(routing, true)).isSameAs(r1);
+        assertThat(target(routing, true)).isSameAs(r1);
+    }
+
+    @Test
+    void unreachableReplicasSendReadsToPrimary() throws Exception {
+        ReplicaRoutingDataSource routing = routing(Duration.ofMinutes(1));
+        r0.reportLag(0);
+        r1.reportLag(0);
+        routing.probeReplicas();
+        r0.goDown();
+        r1.goDown();
+        routing.probeReplicas();
+
+        assertThat(target(routing, true)).isSameAs(primary);
+        assertThat(routing.getReplicaLag()).containsEntry("r0", -1L).containsEntry("r1", -1L);
+    }
+
+    @Test
+    void readYourWritesWindowSendsReadsToPrimary() throws Exception {
+        ReplicaRoutingDataSource routing = routing(Duration.ofMinutes(1));
+        r0.reportLag(0);
+        r1.reportLag(0);
+        routing.probeReplicas();
+
+        readYourWrites = true;
+        assertThat(target(routing, true)).isSameAs(primary);
+        readYourWrites = false;
+        assertThat(target(routing, true)).isIn(r0, r1);
+    }
+
+    @Test
+    void measurementOlderThanTwoIntervalsIsNotTrusted() throws Exception {
+        ReplicaRoutingDataSource routing = routing(Duration.ofMillis(50));
+        r0.reportLag(0);
+        r1.goDown();
+        routing.probeReplicas();
+        assertThat(target(routing, true)).isSameAs(r0);
+
+        Thread.sleep(150);
+        assertThat(target(routing, true)).isSameAs(primary);
+
+        routing.probeReplicas();
+        assertThat(target(routing, true)).isSameAs(r0);
+    }
+
+    @Test
+    void hangingProbeOnItsOwnThreadAgesTheReplicaOut() throws Exception {
+        ReplicaRoutingDataSource routing = routing(Duration.ofMillis(50));
+        r0.reportLag(0);
+        r1.goDown();
+        routing.start();
+
+        assertThat(awaitTarget(routing, r0)).isTrue();
+        assertThat(r0.probedOn).isEqualTo("replica-lag-probe");
+
+        r0.hang();
+        assertThat(awaitTarget(routing, primary)).isTrue();
+    }
+
+    private ReplicaRoutingDataSource routing(Duration probeInterval) {
+        return routing(probeInterval, ReplicaRoutingDataSource.LagQuery.MYSQL);
+    }
+
+    private ReplicaRoutingDataSource routing(Duration probeInterval, ReplicaRoutingDataSource.LagQuery lagQuery) {
+        BooleanSupplier sticky = () -> readYourWrites;
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary.dataSource,
+                List.of(r0.dataSource, r1.dataSource), MAX_LAG, probeInterval, sticky, lagQuery);
+        routing.afterPropertiesSet();
+        opened.add(routing);
+        return routing;
+    }
+
+    private Node target(ReplicaRoutingDataSource routing, boolean readOnly) throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+        try {
+            Connection connection = routing.getConnection();
+            return List.of(primary, r0, r1).stream()
+                    .filter(node -> node.connection == connection)
+                    .findFirst()
+                    .orElseThrow();
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    private boolean awaitTarget(ReplicaRoutingDataSource routing, Node expected) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (System.nanoTime() < deadline) {
+            if (target(routing, true) == expected) {
+                return true;
+            }
+            Thread.sleep(10);
+        }
+        return false;
+    }
+
+    /**
+     * One pool; as a replica it reports the lag it was last given
+     */
+    private static final class Node {
+
+        private final HikariDataSource dataSource = mock(HikariDataSource.class);
+        private final Connection connection = mock(Connection.class);
+        private final CountDownLatch hung = new CountDownLatch(1);
+
+        private volatile Long lag;
+        private volatile boolean stopped;
+        private volatile boolean down;
+        private volatile boolean hanging;
+        private volatile String probedOn;
+
+        private Node(String name) {
+            try {
+                Statement statement = mock(Statement.class);
+                when(dataSource.getPoolName()).thenReturn(name);
+                when(dataSource.getConnection()).thenAnswer(invocation -> {
+                    if (down) {
+                        throw new SQLException(name + " is down");
+                    }
+                    return connection;
+                });
+                when(connection.createStatement()).thenReturn(statement);
+                when(statement.executeQuery(anyString())).thenAnswer(invocation -> status());
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private ResultSet status() throws Exception {
+            probedOn = Thread.currentThread().getName();
+            if (hanging) {
+                hung.await();
+            }
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.next()).thenReturn(lag != null || stopped);
+            when(rs.getLong(anyString())).thenReturn(lag != null ? lag : 0L);
+            when(rs.wasNull()).thenReturn(stopped);
+            return rs;
+        }
+
+        private void reportLag(long seconds) {
+            lag = seconds;
+            stopped = false;
+            down = false;
+        }
+
+        private void reportStopped() {
+            lag = null;
+            stopped = true;
+        }
+
+        private void reportNoStatus() {
+            lag = null;
+            stopped = false;
+        }
+
+        private void goDown() {
+            down = true;
+        }
+
+        private void hang() {
+            hanging = true;
+        }
+
+        private void release() {
+            hung.countDown();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.badminton.courtmanagement.config;
+
+import com.badminton.courtmanagement.entity.User;
+import com.badminton.courtmanagement.repository.UserRepository;
+import com.badminton.courtmanagement.support.IntegrationTest;
+import com.badminton.courtmanagement.support.TestData;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Replica routing through the real JPA stack, with a second in-memory H2 database as the replica:
+ * the read-only flag must be known when the lazy proxy picks a connection, and a user's commit
+ * must reach the read-your-writes tracker. The replica only reports a lag (and joins the rotation)
+ * once the test creates its status table, so startup reads never meet its empty schema. Redis
+ * answers "no recent write" instead of failing, which would send every signed-in read to the primary.
+ */
+@IntegrationTest
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,YEAR,MONTH,DAY,USER;DB_CLOSE_DELAY=-1",
+        "search.index.directory=${java.io.tmpdir}/badminton-search-index-routing-test",
+        "datasource.routing.enabled=true",
+        "datasource.routing.replica-urls[0]=" + ReplicaRoutingIntegrationTest.REPLICA_URL,
+        "datasource.routing.replica-pool-size=2",
+        "datasource.routing.lag-query=SELECT seconds_behind_source FROM replica_status",
+        "datasource.routing.lag-check-interval-ms=200"
+})
+class ReplicaRoutingIntegrationTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final String PRIMARY = "routing_primary";
+    private static final String REPLICA = "routing_replica";
+
+    @MockBean
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void startReplication() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS replica_status (seconds_behind_source BIGINT)");
+            statement.execute("MERGE INTO replica_status KEY (seconds_behind_source) VALUES (0)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestData.signOut();
+    }
+
+    @Test
+    void readOnlyTransactionsReadFromTheReplicaAndOthersFromThePrimary() throws Exception {
+        awaitReplica();
+
+        assertThat(database(true)).isEqualTo(REPLICA);
+        assertThat(database(false)).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    void readsStayOnThePrimaryAfterTheUsersOwnCommit() throws Exception {
+        User writer = TestData.user(userRepository, User.UserRole.USER);
+        User reader = TestData.user(userRepository, User.UserRole.USER);
+        awaitReplica();
+
+        signInOnNewRequest(writer);
+        assertThat(database(true)).isEqualTo(REPLICA);
+        database(false);
+        assertThat(database(true)).isEqualTo(PRIMARY);
+
+        signInOnNewRequest(reader);
+        assertThat(database(true)).isEqualTo(REPLICA);
+    }
+
+    /**
+     * The tracker remembers a write for the rest of the request, so each user gets their own
+     */
+    private static void signInOnNewRequest(User user) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        TestData.signIn(user);
+    }
+
+    /**
+     * Database the current transaction's first statement runs on
+     */
+    private String database(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                String.valueOf(entityManager.createNativeQuery("SELECT DATABASE()").getSingleResult()).toLowerCase());
+    }
+
+    private void awaitReplica() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (System.nanoTime() < deadline && !database(true).equals(REPLICA)) {
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.badminton.courtmanagement.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VirtualThreadsRuntimeCheckTest {
+
+    private final SpringApplication application = new SpringApplication();
+
+    @Test
+    void virtualThreadsOnJava17FailStartup() {
+        MockEnvironment environment = new MockEnvironment().withProperty(VirtualThreadsRuntimeCheck.PROPERTY, "true");
+
+        assertThatThrownBy(() -> new VirtualThreadsRuntimeCheck(17).postProcessEnvironment(environment, application))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Java 21");
+    }
+
+    @Test
+    void virtualThreadsOnJava21Start() {
+        MockEnvironment environment = new MockEnvironment().withProperty(VirtualThreadsRuntimeCheck.PROPERTY, "true");
+
+        assertThatCode(() -> new VirtualThreadsRuntimeCheck(21).postProcessEnvironment(environment, application))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void platformThreadsStartOnAnyRuntime() {
+        assertThatCode(() -> new VirtualThreadsRuntimeCheck(17).postProcessEnvironment(new MockEnvironment(), application))
+                .doesNotThrowAnyException();
+    }
+}
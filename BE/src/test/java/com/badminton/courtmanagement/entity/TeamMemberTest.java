@@ -0,0 +1,31 @@
+package com.badminton.courtmanagement.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TeamMemberTest {
+
+    @Test
+    void newMembersWithTheSameStatusAreKeptApart() {
+        Set<TeamMember> members = new HashSet<>();
+        members.add(TeamMember.builder().status(TeamMember.MemberStatus.PENDING).build());
+        members.add(TeamMember.builder().status(TeamMember.MemberStatus.PENDING).build());
+
+        assertThat(members).hasSize(2);
+    }
+
+    @Test
+    void membersAreTheSameRowByIdAndStayFoundOnceSaved() {
+        TeamMember member = TeamMember.builder().status(TeamMember.MemberStatus.PENDING).build();
+        Set<TeamMember> members = new HashSet<>(Set.of(member));
+        member.setId(7L);
+
+        assertThat(members).contains(member);
+        assertThat(member).isEqualTo(TeamMember.builder().id(7L).status(TeamMember.MemberStatus.ACCEPTED).build());
+        assertThat(member).isNotEqualTo(TeamMember.builder().id(8L).status(TeamMember.MemberStatus.PENDING).build());
+    }
+}
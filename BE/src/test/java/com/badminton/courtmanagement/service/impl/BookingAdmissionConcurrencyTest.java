@@ -0,0 +1,206 @@
+package com.badminton.courtmanagement.service.impl;
+
+import com.badminton.courtmanagement.constants.ErrorConstants;
+import com.badminton.courtmanagement.dto.BookingDto;
+import com.badminton.courtmanagement.dto.CreateBookingRequest;
+import com.badminton.courtmanagement.entity.Booking;
+import com.badminton.courtmanagement.entity.Court;
+import com.badminton.courtmanagement.entity.CourtPricing;
+import com.badminton.courtmanagement.entity.User;
+import com.badminton.courtmanagement.exception.BusinessException;
+import com.badminton.courtmanagement.repository.BookingRepository;
+import com.badminton.courtmanagement.repository.CourtDayLockRepository;
+import com.badminton.courtmanagement.repository.CourtOwnerRepository;
+import com.badminton.courtmanagement.repository.CourtRepository;
+import com.badminton.courtmanagement.repository.UserRepository;
+import com.badminton.courtmanagement.service.BookingService;
+import com.badminton.courtmanagement.support.IntegrationTest;
+import com.badminton.courtmanagement.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class BookingAdmissionConcurrencyTest {
+
+    private static final int REQUESTS = 2000;
+    private static final int THREADS = 64;
+    private static final int USERS = 32;
+    private static final String ADMITTED = "ADMITTED";
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private AutowireCapableBeanFactory beanFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourtOwnerRepository courtOwnerRepository;
+
+    @Autowired
+    private CourtRepository courtRepository;
+
+    @Autowired
+    private CourtDayLockRepository courtDayLockRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Test
+    void overlappingBookingsFromTwoNodesNeverDoubleBook() throws Exception {
+        Court court = pricedCourt();
+        LocalDate date = LocalDate.now().plusDays(1);
+
+        // A second instance has its own in-JVM lock stripes, like another backend node: callers
+        // split across the two are only ordered by the court_day_locks row lock
+        BookingService otherNode = beanFactory.createBean(BookingServiceImpl.class);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(TestData.user(userRepository, User.UserRole.USER));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> outcomes = new ArrayList<>();
+        try {
+            for (int i = 0; i < REQUESTS; i++) {
+                User user = users.get(i % USERS);
+                BookingService node = i % 2 == 0 ? bookingService : otherNode;
+                // One-hour slots starting every half hour from 17:00 to 20:00, so neighbours overlap
+                LocalTime startTime = LocalTime.of(17, 0).plusMinutes(30L * (i % 7));
+                CreateBookingRequest request = request(court, date, startTime, startTime.plusHours(1));
+                outcomes.add(executor.submit(() -> {
+                    start.await();
+                    return attempt(node, user, request);
+                }));
+            }
+            start.countDown();
+
+            List<String> results = new ArrayList<>();
+            for (Future<String> outcome : outcomes) {
+                results.add(outcome.get(120, TimeUnit.SECONDS));
+            }
+
+            assertThat(results).filteredOn(result -> !ADMITTED.equals(result))
+                    .allMatch(result -> result.equals(ErrorConstants.BOOKING_CONFLICT)
+                            || result.equals(ErrorConstants.BOOKING_SLOT_BUSY));
+
+            List<Booking> booked = bookingRepository.findByCourtAndBookingDateOrderByStartTime(court, date);
+            assertThat(booked).isNotEmpty();
+            assertThat(results).filteredOn(ADMITTED::equals).hasSize(booked.size());
+            for (int i = 1; i < booked.size(); i++) {
+                assertThat(booked.get(i).getStartTime()).isAfterOrEqualTo(booked.get(i - 1).getEndTime());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void lockedCourtDayDoesNotHoldUpOtherCourts() throws Exception {
+        Court busy = pricedCourt();
+        Court other = pricedCourt();
+        LocalDate date = LocalDate.now().plusDays(2);
+        User user = TestData.user(userRepository, User.UserRole.USER);
+        courtDayLockRepository.insertIfAbsent(busy.getId(), date);
+
+        // Another node sits inside its admission transaction on the busy court-day
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> holder = executor.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                courtDayLockRepository.lockCourtDay(busy.getId(), date);
+                locked.countDown();
+                try {
+                    release.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+            Future<String> blocked = executor.submit(() ->
+                    attempt(bookingService, user, request(busy, date, LocalTime.of(18, 0), LocalTime.of(19, 0))));
+
+            long started = System.nanoTime();
+            String unrelated = attempt(bookingService, user, request(other, date, LocalTime.of(18, 0), LocalTime.of(19, 0)));
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+            assertThat(unrelated).isEqualTo(ADMITTED);
+            assertThat(elapsed).isLessThan(Duration.ofSeconds(2));
+            assertThat(blocked.isDone()).isFalse();
+            assertThat(blocked.get(30, TimeUnit.SECONDS)).isEqualTo(ErrorConstants.BOOKING_SLOT_BUSY);
+
+            release.countDown();
+            holder.get(10, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static String attempt(BookingService node, User user, CreateBookingRequest request) {
+        TestData.signIn(user);
+        try {
+            BookingDto booking = node.createBooking(request);
+            assertThat(booking.getTotalAmount()).isPositive();
+            return ADMITTED;
+        } catch (BusinessException e) {
+            return e.getMessage();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static CreateBookingRequest request(Court court, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        return CreateBookingRequest.builder()
+                .courtId(court.getId())
+                .bookingDate(date)
+                .startTime(startTime)
+                .endTime(endTime)
+                .build();
+    }
+
+    private Court pricedCourt() {
+        Court court = TestData.court(userRepository, courtOwnerRepository, courtRepository);
+        court.setPricings(Set.of(
+                pricing(court, CourtPricing.DayType.WEEKDAY),
+                pricing(court, CourtPricing.DayType.WEEKEND)));
+        return courtRepository.save(court);
+    }
+
+    private static CourtPricing pricing(Court court, CourtPricing.DayType dayType) {
+        return CourtPricing.builder()
+                .court(court)
+                .dayType(dayType)
+                .startTime(LocalTime.of(6, 0))
+                .endTime(LocalTime.of(23, 0))
+                .basePrice(BigDecimal.valueOf(100000))
+                .build();
+    }
+}
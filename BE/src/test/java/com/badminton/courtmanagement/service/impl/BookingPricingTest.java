@@ -0,0 +1,110 @@
+package com.badminton.courtmanagement.service.impl;
+
+import com.badminton.courtmanagement.constants.ErrorConstants;
+import com.badminton.courtmanagement.entity.CourtPricing;
+import com.badminton.courtmanagement.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BookingPricingTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 1, 1).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+    private static final LocalDate SATURDAY = MONDAY.with(TemporalAdjusters.next(DayOfWeek.SATURDAY));
+
+    private static final CourtPricing DAY = band(CourtPricing.DayType.WEEKDAY, 6, 18, "80000");
+    private static final CourtPricing EVENING = band(CourtPricing.DayType.WEEKDAY, 18, 22, "120000");
+    private static final CourtPricing WEEKEND = band(CourtPricing.DayType.WEEKEND, 6, 22, "150000");
+
+    @Test
+    void wholeHourInOneBand() {
+        assertThat(price(List.of(DAY, EVENING, WEEKEND), MONDAY, time(18, 0), time(19, 0)))
+                .isEqualByComparingTo("120000.00");
+    }
+
+    @Test
+    void partialHoursAreProratedPerMinute() {
+        assertThat(price(List.of(DAY, EVENING), MONDAY, time(18, 0), time(19, 30)))
+                .isEqualByComparingTo("180000.00");
+        assertThat(price(List.of(DAY, EVENING), MONDAY, time(9, 0), time(9, 20)))
+                .isEqualByComparingTo("26666.67");
+    }
+
+    @Test
+    void slotStraddlingTwoBandsPaysEachForItsMinutes() {
+        // 30 min at 80 000/h + 30 min at 120 000/h
+        assertThat(price(List.of(DAY, EVENING), MONDAY, time(17, 30), time(18, 30)))
+                .isEqualByComparingTo("100000.00");
+    }
+
+    @Test
+    void weekendUsesWeekendBands() {
+        assertThat(price(List.of(DAY, EVENING, WEEKEND), SATURDAY, time(18, 0), time(19, 0)))
+                .isEqualByComparingTo("150000.00");
+    }
+
+    @Test
+    void bandEndingAtMidnightCoversTheLastHour() {
+        CourtPricing late = band(CourtPricing.DayType.WEEKDAY, 22, 0, "100000");
+
+        // 60 min at 120 000/h + 119 min at 100 000/h
+        assertThat(price(List.of(EVENING, late), MONDAY, time(21, 0), time(23, 59)))
+                .isEqualByComparingTo("318333.33");
+    }
+
+    @Test
+    void slotOutsidePricingHoursIsRejected() {
+        assertNotPriced(List.of(DAY, EVENING), MONDAY, time(22, 0), time(23, 0));
+        assertNotPriced(List.of(DAY, EVENING), MONDAY, time(21, 30), time(22, 30));
+        assertNotPriced(List.of(WEEKEND), MONDAY, time(18, 0), time(19, 0));
+    }
+
+    @Test
+    void slotOverAGapBetweenBandsIsRejected() {
+        CourtPricing morning = band(CourtPricing.DayType.WEEKDAY, 6, 12, "80000");
+        CourtPricing afternoon = band(CourtPricing.DayType.WEEKDAY, 13, 22, "80000");
+
+        assertNotPriced(List.of(morning, afternoon), MONDAY, time(11, 30), time(13, 30));
+    }
+
+    @Test
+    void courtWithoutActivePricingIsRejected() {
+        CourtPricing inactive = band(CourtPricing.DayType.WEEKDAY, 6, 22, "80000");
+        inactive.setIsActive(false);
+
+        assertNotPriced(List.of(), MONDAY, time(18, 0), time(19, 0));
+        assertNotPriced(null, MONDAY, time(18, 0), time(19, 0));
+        assertNotPriced(List.of(inactive), MONDAY, time(18, 0), time(19, 0));
+    }
+
+    private static BigDecimal price(List<CourtPricing> pricings, LocalDate date, LocalTime start, LocalTime end) {
+        return BookingServiceImpl.calculateTotalAmount(pricings, date, start, end);
+    }
+
+    private static void assertNotPriced(List<CourtPricing> pricings, LocalDate date, LocalTime start, LocalTime end) {
+        assertThatThrownBy(() -> price(pricings, date, start, end))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage(ErrorConstants.BOOKING_SLOT_NOT_PRICED);
+    }
+
+    private static LocalTime time(int hour, int minute) {
+        return LocalTime.of(hour, minute);
+    }
+
+    private static CourtPricing band(CourtPricing.DayType dayType, int fromHour, int toHour, String hourlyPrice) {
+        return CourtPricing.builder()
+                .dayType(dayType)
+                .startTime(LocalTime.of(fromHour, 0))
+                .endTime(LocalTime.of(toHour, 0))
+                .basePrice(new BigDecimal(hourlyPrice))
+                .build();
+    }
+}
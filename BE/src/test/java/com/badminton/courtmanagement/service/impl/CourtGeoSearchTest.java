@@ -0,0 +1,132 @@
+package com.badminton.courtmanagement.service.impl;
+
+import com.badminton.courtmanagement.config.QueryCountInspector;
+import com.badminton.courtmanagement.dto.CourtDto;
+import com.badminton.courtmanagement.dto.PageResponse;
+import com.badminton.courtmanagement.entity.Court;
+import com.badminton.courtmanagement.repository.CourtOwnerRepository;
+import com.badminton.courtmanagement.repository.CourtRepository;
+import com.badminton.courtmanagement.repository.UserRepository;
+import com.badminton.courtmanagement.service.CourtGeoIndex;
+import com.badminton.courtmanagement.service.CourtService;
+import com.badminton.courtmanagement.service.FullTextSearchIndex;
+import com.badminton.courtmanagement.support.IntegrationTest;
+import com.badminton.courtmanagement.support.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Location searches with keyword and price filters: filtered in the indexes, only the page is loaded
+ */
+@IntegrationTest
+class CourtGeoSearchTest {
+
+    private static final BigDecimal LAT = new BigDecimal("16.047079");
+    private static final BigDecimal LNG = new BigDecimal("108.206230");
+    private static final double RADIUS_KM = 5.0;
+
+    @Autowired
+    private CourtService courtService;
+
+    @Autowired
+    private CourtGeoIndex courtGeoIndex;
+
+    @Autowired
+    private FullTextSearchIndex fullTextSearchIndex;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourtOwnerRepository courtOwnerRepository;
+
+    @Autowired
+    private CourtRepository courtRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String keyword;
+    private Court cheap;
+    private Court mid;
+    private Court expensive;
+
+    @BeforeEach
+    void setUp() {
+        keyword = "geo" + UUID.randomUUID().toString().replace("-", "").substring(0, 8);
+        cheap = locatedCourt(keyword, "0.001", new BigDecimal("60000"));
+        mid = locatedCourt(keyword, "0.002", new BigDecimal("90000"));
+        expensive = locatedCourt(keyword, "0.003", new BigDecimal("120000"));
+        locatedCourt("other", "0.004", null);
+        courtGeoIndex.rebuild();
+        fullTextSearchIndex.rebuild();
+    }
+
+    @Test
+    void priceFilterIsAppliedByTheGeoIndex() {
+        PageResponse<CourtDto> page = search(null, new BigDecimal("80000"), new BigDecimal("130000"), 10);
+
+        assertThat(page.getContent()).extracting(CourtDto::getId)
+                .contains(mid.getId(), expensive.getId())
+                .doesNotContain(cheap.getId());
+        assertThat(page.getContent()).allSatisfy(court -> assertThat(court.getDistance()).isNotNull());
+    }
+
+    @Test
+    void keywordAndPriceNarrowTheNearestFirstPage() {
+        PageResponse<CourtDto> page = search(keyword, new BigDecimal("50000"), null, 2);
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(CourtDto::getId).containsExactly(cheap.getId(), mid.getId());
+    }
+
+    @Test
+    void onlyThePageIsReadFromTheDatabase() {
+        int small = count(keyword, 1);
+        int large = count(keyword, 3);
+
+        // Courts of the page plus their price lists; no query for the keyword or price matches
+        assertThat(large).isEqualTo(small).isLessThanOrEqualTo(2);
+    }
+
+    private PageResponse<CourtDto> search(String keyword, BigDecimal minPrice, BigDecimal maxPrice, int size) {
+        return courtService.searchCourts(keyword, null, null, LAT, LNG, RADIUS_KM, minPrice, maxPrice, null,
+                PageRequest.of(0, size));
+    }
+
+    /**
+     * Statements prepared while reading one non-empty page
+     */
+    private int count(String keyword, int size) {
+        QueryCountInspector.start();
+        int rows;
+        try {
+            rows = search(keyword, new BigDecimal("50000"), null, size).getContent().size();
+        } catch (RuntimeException e) {
+            QueryCountInspector.stop();
+            throw e;
+        }
+        int statements = QueryCountInspector.stop();
+        assertThat(rows).isEqualTo(size);
+        return statements;
+    }
+
+    private Court locatedCourt(String name, String offset, BigDecimal minPrice) {
+        Court court = TestData.court(userRepository, courtOwnerRepository, courtRepository);
+        court.setName("Sân " + name + " " + court.getId());
+        court.setLatitude(LAT.add(new BigDecimal(offset)));
+        court.setLongitude(LNG);
+        court = courtRepository.save(court);
+        // min_price is kept by a trigger on court_pricing in MySQL
+        jdbcTemplate.update("UPDATE courts SET min_price = ? WHERE id = ?", minPrice, court.getId());
+        return court;
+    }
+}
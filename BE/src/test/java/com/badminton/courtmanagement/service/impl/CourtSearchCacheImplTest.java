@@ -0,0 +1,82 @@
+package com.badminton.courtmanagement.service.impl;
+
+import com.badminton.courtmanagement.constants.AppConstants;
+import com.badminton.courtmanagement.dto.CourtDto;
+import com.badminton.courtmanagement.dto.PageResponse;
+import com.badminton.courtmanagement.repository.CourtRepository;
+import com.badminton.courtmanagement.service.CourtSearchCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Two cache instances over one shared Redis counter and one shared page store stand in for two
+ * backend nodes
+ */
+class CourtSearchCacheImplTest {
+
+    private final AtomicLong sharedGeneration = new AtomicLong();
+    private final ConcurrentMapCacheManager sharedPages = new ConcurrentMapCacheManager(AppConstants.CACHE_COURT_SEARCH);
+
+    private CourtSearchCacheImpl nodeA;
+    private CourtSearchCacheImpl nodeB;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redis.opsForValue()).thenReturn(values);
+        when(values.get(anyString())).thenAnswer(invocation -> String.valueOf(sharedGeneration.get()));
+        when(values.increment(anyString())).thenAnswer(invocation -> sharedGeneration.incrementAndGet());
+        when(redis.executePipelined(any(RedisCallback.class))).thenReturn(List.of());
+
+        nodeA = node(redis);
+        nodeB = node(redis);
+    }
+
+    @Test
+    void pageIsCachedWhenNothingChangedMeanwhile() {
+        CourtSearchCache.Key key = nodeA.listKey(PageRequest.of(0, 20));
+
+        nodeA.put(key, page(), nodeA.generation());
+
+        assertThat(nodeB.get(key)).isNotNull();
+    }
+
+    @Test
+    void pageReadBeforeAnInvalidationOnAnotherNodeIsNotCached() {
+        CourtSearchCache.Key key = nodeA.listKey(PageRequest.of(0, 20));
+        long startedAt = nodeA.generation();
+
+        nodeB.evictAll();
+        nodeA.put(key, page(), startedAt);
+
+        assertThat(nodeA.get(key)).isNull();
+        assertThat(nodeB.get(key)).isNull();
+    }
+
+    private CourtSearchCacheImpl node(StringRedisTemplate redis) {
+        CourtSearchCacheImpl node = new CourtSearchCacheImpl(sharedPages, redis, mock(CourtRepository.class));
+        ReflectionTestUtils.setField(node, "enabled", true);
+        return node;
+    }
+
+    private static PageResponse<CourtDto> page() {
+        return PageResponse.of(List.of(CourtDto.builder().id(1L).name("Sân 1").build()), 0, 20, 1);
+    }
+}
@@ -0,0 +1,193 @@
+package com.badminton.courtmanagement.service.impl;
+
+import com.badminton.courtmanagement.constants.ErrorConstants;
+import com.badminton.courtmanagement.dto.GeocodingResultDto;
+import com.badminton.courtmanagement.entity.GeocodingCacheEntry;
+import com.badminton.courtmanagement.exception.BusinessException;
+import com.badminton.courtmanagement.repository.GeocodingCacheRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * GeocodingServiceImpl over LocalGeocodingProvider, with the geocoding_cache table kept in a map
+ */
+class GeocodingServiceImplTest {
+
+    private final Map<String, GeocodingCacheEntry> table = new ConcurrentHashMap<>();
+    private final AtomicInteger tableReads = new AtomicInteger();
+
+    private CountingProvider provider;
+    private GeocodingCacheRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(GeocodingCacheRepository.class);
+        when(repository.findByLookupTypeAndLookupKey(any(), anyString())).thenAnswer(invocation -> {
+            tableReads.incrementAndGet();
+            return Optional.ofNullable(table.get(invocation.getArgument(0) + ":" + invocation.getArgument(1)));
+        });
+        when(repository.upsert(anyString(), anyString(), anyBoolean(), any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    String type = invocation.getArgument(0);
+                    String key = invocation.getArgument(1);
+                    table.put(type + ":" + key, GeocodingCacheEntry.builder()
+                            .lookupType(GeocodingCacheEntry.LookupType.valueOf(type))
+                            .lookupKey(key)
+                            .found(invocation.getArgument(2))
+                            .latitude(invocation.getArgument(3))
+                            .longitude(invocation.getArgument(4))
+                            .displayName(invocation.getArgument(5))
+                            .addressJson(invocation.getArgument(6))
+                            .expiresAt(invocation.getArgument(7))
+                            .build());
+                    return 1;
+                });
+        provider = new CountingProvider(false);
+    }
+
+    @Test
+    void secondLookupIsServedFromTheCache() {
+        GeocodingServiceImpl service = service(provider, 3000);
+
+        Optional<GeocodingResultDto> first = service.geocode("12 Nguyễn Văn Linh, Đà Nẵng");
+        Optional<GeocodingResultDto> second = service.geocode("  12  NGUYỄN VĂN LINH, đà nẵng ");
+
+        assertThat(first).isPresent();
+        assertThat(second).isPresent();
+        assertThat(second.get().getLatitude()).isEqualByComparingTo(first.get().getLatitude());
+        assertThat(second.get().getAddress()).containsEntry("country_code", "vn");
+        assertThat(provider.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void expiredEntryIsAMiss() {
+        GeocodingServiceImpl service = service(provider, 3000);
+        service.geocode("12 Nguyễn Văn Linh, Đà Nẵng");
+        table.values().forEach(entry -> entry.setExpiresAt(LocalDateTime.now().minusSeconds(1)));
+
+        service.geocode("12 Nguyễn Văn Linh, Đà Nẵng");
+
+        assertThat(provider.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void missesAreCachedForTheShorterNegativeTtl() {
+        GeocodingServiceImpl service = service(provider, 3000);
+
+        assertThat(service.geocode("Địa chỉ not found")).isEmpty();
+        assertThat(service.geocode("Địa chỉ not found")).isEmpty();
+
+        assertThat(provider.calls.get()).isEqualTo(1);
+        GeocodingCacheEntry entry = table.values().iterator().next();
+        assertThat(entry.getFound()).isFalse();
+        assertThat(entry.getExpiresAt()).isBefore(LocalDateTime.now().plusHours(25));
+    }
+
+    @Test
+    void concurrentIdenticalLookupsShareOneProviderCall() throws Exception {
+        int callers = 8;
+        CountDownLatch release = new CountDownLatch(1);
+        provider = new CountingProvider(false) {
+            @Override
+            public Optional<GeocodingResultDto> geocode(String address) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.geocode(address);
+            }
+        };
+        GeocodingServiceImpl service = service(provider, 3000);
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Optional<GeocodingResultDto>>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> service.geocode("99 Lê Duẩn, Hà Nội")));
+            }
+            // Every caller has missed the table and either leads or joined the flight
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (tableReads.get() < callers && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for (Future<Optional<GeocodingResultDto>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isPresent();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(provider.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void callersThatWouldWaitPastMaxWaitAreRejected() {
+        provider = new CountingProvider(true);
+        GeocodingServiceImpl service = service(provider, 100);
+
+        assertThat(service.geocode("1 Trần Phú, Nha Trang")).isPresent();
+        assertThatThrownBy(() -> service.geocode("2 Trần Phú, Nha Trang"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(ErrorConstants.GEOCODING_RATE_LIMITED);
+        assertThat(provider.calls.get()).isEqualTo(1);
+    }
+
+    private GeocodingServiceImpl service(CountingProvider provider, long maxWaitMs) {
+        GeocodingServiceImpl service = new GeocodingServiceImpl(repository, provider, new ObjectMapper());
+        ReflectionTestUtils.setField(service, "permitsPerSecond", 1.0);
+        ReflectionTestUtils.setField(service, "burst", 1);
+        ReflectionTestUtils.setField(service, "maxWaitMs", maxWaitMs);
+        ReflectionTestUtils.setField(service, "ttlDays", 30L);
+        ReflectionTestUtils.setField(service, "negativeTtlHours", 24L);
+        ReflectionTestUtils.setField(service, "reverseDecimals", 4);
+        service.init();
+        return service;
+    }
+
+    private static class CountingProvider extends LocalGeocodingProvider {
+
+        final AtomicInteger calls = new AtomicInteger();
+        private final boolean rateLimited;
+
+        CountingProvider(boolean rateLimited) {
+            this.rateLimited = rateLimited;
+        }
+
+        @Override
+        public Optional<GeocodingResultDto> geocode(String address) {
+            calls.incrementAndGet();
+            return super.geocode(address);
+        }
+
+        @Override
+        public boolean isRateLimited() {
+            return rateLimited;
+        }
+    }
+}
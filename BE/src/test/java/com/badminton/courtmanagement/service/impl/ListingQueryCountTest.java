@@ -0,0 +1,156 @@
+package com.badminton.courtmanagement.service.impl;
+
+import com.badminton.courtmanagement.config.QueryCountInspector;
+import com.badminton.courtmanagement.entity.Court;
+import com.badminton.courtmanagement.entity.CourtPricing;
+import com.badminton.courtmanagement.entity.Message;
+import com.badminton.courtmanagement.entity.TeamMember;
+import com.badminton.courtmanagement.entity.TeamPost;
+import com.badminton.courtmanagement.entity.User;
+import com.badminton.courtmanagement.repository.CourtOwnerRepository;
+import com.badminton.courtmanagement.repository.CourtRepository;
+import com.badminton.courtmanagement.repository.MessageRepository;
+import com.badminton.courtmanagement.repository.TeamMemberRepository;
+import com.badminton.courtmanagement.repository.TeamPostRepository;
+import com.badminton.courtmanagement.repository.UserRepository;
+import com.badminton.courtmanagement.service.CourtService;
+import com.badminton.courtmanagement.service.MessageService;
+import com.badminton.courtmanagement.service.TeamPostService;
+import com.badminton.courtmanagement.support.IntegrationTest;
+import com.badminton.courtmanagement.support.TestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statement counts of the listing endpoints must not grow with the page size; each listing is
+ * read with a small and a large page, and both must prepare the same handful of statements
+ */
+@IntegrationTest
+class ListingQueryCountTest {
+
+    private static final int ROWS = 10;
+
+    @Autowired
+    private TeamPostService teamPostService;
+
+    @Autowired
+    private MessageService messageService;
+
+    @Autowired
+    private CourtService courtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourtOwnerRepository courtOwnerRepository;
+
+    @Autowired
+    private CourtRepository courtRepository;
+
+    @Autowired
+    private TeamPostRepository teamPostRepository;
+
+    @Autowired
+    private TeamMemberRepository teamMemberRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @AfterEach
+    void tearDown() {
+        TestData.signOut();
+    }
+
+    @Test
+    void teamPostListingDoesNotLoadAuthorsOrMembersPerPost() {
+        for (int i = 0; i < ROWS; i++) {
+            TeamPost post = teamPostRepository.save(TeamPost.builder()
+                    .user(TestData.user(userRepository, User.UserRole.USER))
+                    .title("Tìm đồng đội " + i)
+                    .playDate(LocalDateTime.now().plusDays(1 + i))
+                    .maxPlayers(4)
+                    .sportType(TeamPost.SportType.BADMINTON)
+                    .build());
+            teamMemberRepository.save(TeamMember.builder()
+                    .teamPost(post)
+                    .user(TestData.user(userRepository, User.UserRole.USER))
+                    .status(TeamMember.MemberStatus.ACCEPTED)
+                    .build());
+        }
+
+        int small = count(() -> teamPostService.getAllTeamPosts(PageRequest.of(0, 2)).getContent().size());
+        int large = count(() -> teamPostService.getAllTeamPosts(PageRequest.of(0, ROWS)).getContent().size());
+
+        assertThat(large).isEqualTo(small).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void conversationListingDoesNotLoadParticipantsPerMessage() {
+        User me = TestData.user(userRepository, User.UserRole.USER);
+        User other = TestData.user(userRepository, User.UserRole.USER);
+        for (int i = 0; i < ROWS; i++) {
+            messageRepository.save(Message.builder()
+                    .sender(i % 2 == 0 ? me : other)
+                    .receiver(i % 2 == 0 ? other : me)
+                    .content("Tin nhắn " + i)
+                    .build());
+        }
+        TestData.signIn(me);
+
+        int small = count(() -> messageService.getConversationByCursor(other.getId(), null, 2).getContent().size());
+        int large = count(() -> messageService.getConversationByCursor(other.getId(), null, ROWS).getContent().size());
+
+        assertThat(large).isEqualTo(small).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void courtSearchReadsPricesOfTheWholePageAtOnce() {
+        for (int i = 0; i < ROWS; i++) {
+            Court court = TestData.court(userRepository, courtOwnerRepository, courtRepository);
+            CourtPricing pricing = CourtPricing.builder()
+                    .court(court)
+                    .dayType(CourtPricing.DayType.WEEKDAY)
+                    .startTime(LocalTime.of(6, 0))
+                    .endTime(LocalTime.of(22, 0))
+                    .basePrice(BigDecimal.valueOf(80000 + i * 1000L))
+                    .build();
+            court.setPricings(Set.of(pricing));
+            courtRepository.save(court);
+        }
+
+        int small = count(() -> courtService.searchCourts(null, null, null, null, null, null, null, null, null,
+                PageRequest.of(0, 2)).getContent().size());
+        int large = count(() -> courtService.searchCourts(null, null, null, null, null, null, null, null, null,
+                PageRequest.of(0, ROWS)).getContent().size());
+
+        assertThat(large).isEqualTo(small).isLessThanOrEqualTo(2);
+    }
+
+    /**
+     * Statements prepared while reading one page, which must not be empty
+     */
+    private static int count(IntSupplier listing) {
+        QueryCountInspector.start();
+        int rows;
+        try {
+            rows = listing.getAsInt();
+        } catch (RuntimeException e) {
+            QueryCountInspector.stop();
+            throw e;
+        }
+        int statements = QueryCountInspector.stop();
+        assertThat(rows).isPositive();
+        return statements;
+    }
+}
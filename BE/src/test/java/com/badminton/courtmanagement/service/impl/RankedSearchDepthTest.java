@@ -0,0 +1,137 @@
+package com.badminton.courtmanagement.service.impl;
+
+import com.badminton.courtmanagement.constants.AppConstants;
+import com.badminton.courtmanagement.dto.CourtDto;
+import com.badminton.courtmanagement.dto.PageResponse;
+import com.badminton.courtmanagement.dto.TeamPostDto;
+import com.badminton.courtmanagement.entity.Court;
+import com.badminton.courtmanagement.entity.TeamPost;
+import com.badminton.courtmanagement.entity.User;
+import com.badminton.courtmanagement.repository.CourtOwnerRepository;
+import com.badminton.courtmanagement.repository.CourtRepository;
+import com.badminton.courtmanagement.repository.TeamPostRepository;
+import com.badminton.courtmanagement.repository.UserRepository;
+import com.badminton.courtmanagement.service.CourtService;
+import com.badminton.courtmanagement.service.FullTextSearchIndex;
+import com.badminton.courtmanagement.service.TeamPostService;
+import com.badminton.courtmanagement.support.IntegrationTest;
+import com.badminton.courtmanagement.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Keyword searches with filters must find matches ranked below the first batch of full-text hits.
+ * The filtered rows only carry the keyword in their lowest-boosted field, so they rank last.
+ */
+@IntegrationTest
+class RankedSearchDepthTest {
+
+    private static final int BETTER_RANKED = AppConstants.SEARCH_RANKED_BATCH_SIZE + 5;
+
+    @Autowired
+    private CourtService courtService;
+
+    @Autowired
+    private TeamPostService teamPostService;
+
+    @Autowired
+    private FullTextSearchIndex fullTextSearchIndex;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourtOwnerRepository courtOwnerRepository;
+
+    @Autowired
+    private CourtRepository courtRepository;
+
+    @Autowired
+    private TeamPostRepository teamPostRepository;
+
+    @Test
+    void filteredCourtMatchesPastTheFirstBatchAreFoundAndCounted() {
+        String keyword = token();
+        Court template = TestData.court(userRepository, courtOwnerRepository, courtRepository);
+        List<Court> courts = new ArrayList<>();
+        for (int i = 0; i < BETTER_RANKED; i++) {
+            courts.add(court(template, "Sân " + keyword + " " + i, null, "BADMINTON"));
+        }
+        for (int i = 0; i < 3; i++) {
+            courts.add(court(template, "Sân cuối " + i, "Có " + keyword, "PICKLEBALL"));
+        }
+        courtRepository.saveAll(courts);
+        fullTextSearchIndex.rebuild();
+
+        PageResponse<CourtDto> first = courtService.searchCourts(keyword, "PICKLEBALL", null, null, null, null,
+                null, null, null, PageRequest.of(0, 2));
+        PageResponse<CourtDto> second = courtService.searchCourts(keyword, "PICKLEBALL", null, null, null, null,
+                null, null, null, PageRequest.of(1, 2));
+
+        assertThat(first.getTotalElements()).isEqualTo(3);
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(second.getContent()).hasSize(1);
+        assertThat(second.getContent().get(0).getId()).isNotIn(first.getContent().stream().map(CourtDto::getId).toList());
+    }
+
+    @Test
+    void filteredTeamPostMatchesPastTheFirstBatchAreFoundAndCounted() {
+        String keyword = token();
+        String location = "Sân " + token();
+        User author = TestData.user(userRepository, User.UserRole.USER);
+        List<TeamPost> posts = new ArrayList<>();
+        for (int i = 0; i < BETTER_RANKED; i++) {
+            posts.add(teamPost(author, "Tìm đội " + keyword + " " + i, null, "Sân khác"));
+        }
+        for (int i = 0; i < 3; i++) {
+            posts.add(teamPost(author, "Tìm đội cuối " + i, "Có " + keyword, location));
+        }
+        teamPostRepository.saveAll(posts);
+        fullTextSearchIndex.rebuild();
+
+        PageResponse<TeamPostDto> first = teamPostService.searchTeamPosts(keyword, null, null, location, null,
+                PageRequest.of(0, 2));
+        PageResponse<TeamPostDto> second = teamPostService.searchTeamPosts(keyword, null, null, location, null,
+                PageRequest.of(1, 2));
+
+        assertThat(first.getTotalElements()).isEqualTo(3);
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(second.getContent()).hasSize(1);
+    }
+
+    private static String token() {
+        return "k" + UUID.randomUUID().toString().replace("-", "").substring(0, 10);
+    }
+
+    private static Court court(Court template, String name, String description, String sportTypes) {
+        return Court.builder()
+                .owner(template.getOwner())
+                .name(name)
+                .description(description)
+                .address(template.getAddress())
+                .city(template.getCity())
+                .district(template.getDistrict())
+                .sportTypes(sportTypes)
+                .build();
+    }
+
+    private static TeamPost teamPost(User author, String title, String description, String location) {
+        return TeamPost.builder()
+                .user(author)
+                .title(title)
+                .description(description)
+                .location(location)
+                .playDate(LocalDateTime.now().plusDays(3))
+                .maxPlayers(4)
+                .sportType(TeamPost.SportType.BADMINTON)
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.badminton.courtmanagement.service.impl;
+
+import com.badminton.courtmanagement.config.JwtUtil;
+import com.badminton.courtmanagement.constants.ErrorConstants;
+import com.badminton.courtmanagement.entity.User;
+import com.badminton.courtmanagement.exception.ValidationException;
+import com.badminton.courtmanagement.repository.UserRepository;
+import com.badminton.courtmanagement.service.AuthService;
+import com.badminton.courtmanagement.service.TokenVersionService;
+import com.badminton.courtmanagement.support.IntegrationTest;
+import com.badminton.courtmanagement.support.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@IntegrationTest
+class RefreshTokenTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private TokenVersionService tokenVersionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = TestData.user(userRepository, User.UserRole.USER);
+    }
+
+    @Test
+    void currentRefreshTokenGetsANewPair() {
+        String refreshToken = jwtUtil.generateRefreshToken(user);
+
+        assertThat(authService.refreshToken(refreshToken).getAccessToken()).isNotBlank();
+    }
+
+    @Test
+    void refreshTokenWithoutVersionIsRejected() {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(JwtUtil.CLAIM_USER_ID, user.getId());
+        String versionless = ReflectionTestUtils.invokeMethod(jwtUtil, "createToken", claims, user.getEmail(), 60_000L);
+
+        assertThatThrownBy(() -> authService.refreshToken(versionless))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage(ErrorConstants.INVALID_TOKEN);
+    }
+
+    @Test
+    void refreshTokenIssuedBeforeRevocationIsRejected() {
+        String refreshToken = jwtUtil.generateRefreshToken(user);
+        tokenVersionService.revokeTokens(user);
+        userRepository.save(user);
+
+        assertThatThrownBy(() -> authService.refreshToken(refreshToken))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage(ErrorConstants.INVALID_TOKEN);
+    }
+
+    @Test
+    void inactiveUserCannotRefresh() {
+        String refreshToken = jwtUtil.generateRefreshToken(user);
+        user.setStatus(User.UserStatus.SUSPENDED);
+        userRepository.save(user);
+
+        assertThatThrownBy(() -> authService.refreshToken(refreshToken))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage(ErrorConstants.USER_INACTIVE);
+    }
+}
@@ -0,0 +1,106 @@
+package com.badminton.courtmanagement.service.impl;
+
+import com.badminton.courtmanagement.constants.ErrorConstants;
+import com.badminton.courtmanagement.controller.DashboardController;
+import com.badminton.courtmanagement.entity.Court;
+import com.badminton.courtmanagement.entity.User;
+import com.badminton.courtmanagement.exception.ValidationException;
+import com.badminton.courtmanagement.repository.CourtOwnerRepository;
+import com.badminton.courtmanagement.repository.CourtRepository;
+import com.badminton.courtmanagement.repository.UserRepository;
+import com.badminton.courtmanagement.service.BookingService;
+import com.badminton.courtmanagement.support.IntegrationTest;
+import com.badminton.courtmanagement.support.TestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@IntegrationTest
+class StatisticsAccessTest {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private DashboardController dashboardController;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourtOwnerRepository courtOwnerRepository;
+
+    @Autowired
+    private CourtRepository courtRepository;
+
+    private Court ownCourt;
+    private Court otherCourt;
+
+    @BeforeEach
+    void setUp() {
+        ownCourt = TestData.court(userRepository, courtOwnerRepository, courtRepository);
+        otherCourt = TestData.court(userRepository, courtOwnerRepository, courtRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void ownerSeesOnlyTheirOwnRevenue() {
+        TestData.signIn(ownCourt.getOwner().getUser());
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(bookingService.getRevenueStatistics(ownCourt.getOwner().getId(), now.minusDays(7), now))
+                .containsEntry("ownerId", ownCourt.getOwner().getId());
+        assertThatThrownBy(() -> bookingService.getRevenueStatistics(otherCourt.getOwner().getId(),
+                now.minusDays(7), now))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage(ErrorConstants.ACCESS_DENIED);
+    }
+
+    @Test
+    void ownerSeesStatisticsOfTheirOwnCourtsOnly() {
+        TestData.signIn(ownCourt.getOwner().getUser());
+
+        assertThat(bookingService.getBookingStatistics(ownCourt.getId()))
+                .containsEntry("totalBookings", 0L)
+                .containsKey("totalRevenue");
+        assertThatThrownBy(() -> bookingService.getBookingStatistics(otherCourt.getId()))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage(ErrorConstants.ACCESS_DENIED);
+    }
+
+    @Test
+    void platformRevenueOnTheDashboardIsAdminOnly() {
+        TestData.signIn(TestData.user(userRepository, User.UserRole.USER));
+        assertThat(dashboardController.getDashboardStats().getData())
+                .containsKeys("totalCourts", "totalBookings")
+                .doesNotContainKeys("totalRevenue", "todayRevenue", "weeklyRevenue", "monthlyRevenue", "totalUsers");
+
+        TestData.signIn(ownCourt.getOwner().getUser());
+        assertThat(dashboardController.getDashboardStats().getData()).doesNotContainKey("totalRevenue");
+
+        TestData.signIn(TestData.user(userRepository, User.UserRole.ADMIN));
+        assertThat(dashboardController.getDashboardStats().getData()).containsKeys("totalRevenue", "monthlyRevenue");
+    }
+
+    @Test
+    void adminSeesAnyOwnersRevenue() {
+        TestData.signIn(TestData.user(userRepository, User.UserRole.ADMIN));
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(bookingService.getRevenueStatistics(otherCourt.getOwner().getId(), now.minusDays(7), now))
+                .containsKey("totalRevenue");
+        assertThat(bookingService.getBookingStatistics(otherCourt.getId()))
+                .containsKey("totalRevenue");
+    }
+}
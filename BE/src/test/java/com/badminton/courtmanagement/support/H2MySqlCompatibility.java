@@ -0,0 +1,122 @@
+package com.badminton.courtmanagement.support;
+
+import com.zaxxer.hikari.SQLExceptionOverride;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.regex.Pattern;
+
+/**
+ * Lets Hibernate create the schema on H2: MySQL SET(...) columns become VARCHAR (the entities
+ * store them as comma-separated strings anyway) and FIND_IN_SET is provided as a Java alias.
+ * With replica routing the lazy proxy's target is wrapped instead of the proxy, so a connection is
+ * still only picked once the transaction's read-only flag is known.
+ */
+@TestConfiguration
+public class H2MySqlCompatibility {
+
+    private static final Pattern SET_COLUMN = Pattern.compile("SET\\('[^)]*\\)");
+    private static final int H2_LOCK_TIMEOUT = 50200;
+
+    @Bean
+    static BeanPostProcessor h2MySqlDataSourceWrapper() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof LazyConnectionDataSourceProxy lazy) {
+                    lazy.setTargetDataSource(wrap(lazy.getTargetDataSource()));
+                    return bean;
+                }
+                return bean instanceof DataSource dataSource && !(bean instanceof AbstractRoutingDataSource)
+                        ? wrap(dataSource)
+                        : bean;
+            }
+        };
+    }
+
+    /**
+     * MySQL FIND_IN_SET: 1-based position of value in a comma-separated list, 0 when absent
+     */
+    public static int findInSet(String value, String list) {
+        if (value == null || list == null) {
+            return 0;
+        }
+        String[] items = list.split(",");
+        for (int i = 0; i < items.length; i++) {
+            if (items[i].equals(value)) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    private static DataSource wrap(DataSource target) {
+        return proxy(DataSource.class, target, (method, args) -> {
+            Object result = method.invoke(target, args);
+            if (method.getName().equals("getConnection")) {
+                Connection connection = (Connection) result;
+                registerFunctions(connection);
+                return proxy(Connection.class, connection, (connectionMethod, connectionArgs) -> {
+                    Object value = connectionMethod.invoke(connection, connectionArgs);
+                    return value instanceof Statement statement && connectionMethod.getName().equals("createStatement")
+                            ? rewritingStatement(statement)
+                            : value;
+                });
+            }
+            return result;
+        });
+    }
+
+    private static Statement rewritingStatement(Statement statement) {
+        return proxy(Statement.class, statement, (method, args) -> {
+            if (args != null && args.length > 0 && args[0] instanceof String sql && sql.startsWith("create table")) {
+                args[0] = SET_COLUMN.matcher(sql).replaceAll("VARCHAR(100)");
+            }
+            return method.invoke(statement, args);
+        });
+    }
+
+    private static void registerFunctions(Connection connection) throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE ALIAS IF NOT EXISTS FIND_IN_SET FOR '"
+                    + H2MySqlCompatibility.class.getName() + ".findInSet'");
+        }
+    }
+
+    /**
+     * H2 reports a row lock it could not take as SQLTimeoutException, which Hikari treats as a broken
+     * connection; MySQL's NOWAIT failure leaves the connection usable, so the retry loop can roll back
+     */
+    public static class LockTimeoutOverride implements SQLExceptionOverride {
+        @java.lang.Override
+        public Override adjudicate(SQLException e) {
+            return e.getErrorCode() == H2_LOCK_TIMEOUT ? Override.DO_NOT_EVICT : Override.CONTINUE_EVICT;
+        }
+    }
+
+    private interface Handler {
+        Object invoke(java.lang.reflect.Method method, Object[] args) throws Exception;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Handler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> {
+            try {
+                return handler.invoke(method, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+    }
+}
@@ -0,0 +1,22 @@
+package com.badminton.courtmanagement.support;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Full application context on the in-memory H2 database (test profile); Redis is not running,
+ * so caches work from their local level only
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({H2MySqlCompatibility.class, OfflineRedis.class})
+public @interface IntegrationTest {
+}
@@ -0,0 +1,15 @@
+package com.badminton.courtmanagement.support;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * No Redis server in the test environment: the pub/sub container would fail the context on
+ * startup, so it is replaced by a mock that never starts. Cache reads and writes against Redis
+ * fail fast and the two-level caches fall back to their local level.
+ */
+@TestConfiguration
+@MockBean(name = "cacheInvalidationListenerContainer", classes = RedisMessageListenerContainer.class)
+public class OfflineRedis {
+}
@@ -0,0 +1,67 @@
+package com.badminton.courtmanagement.support;
+
+import com.badminton.courtmanagement.config.AuthenticatedUser;
+import com.badminton.courtmanagement.entity.Court;
+import com.badminton.courtmanagement.entity.CourtOwner;
+import com.badminton.courtmanagement.entity.User;
+import com.badminton.courtmanagement.repository.CourtOwnerRepository;
+import com.badminton.courtmanagement.repository.CourtRepository;
+import com.badminton.courtmanagement.repository.UserRepository;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.UUID;
+
+/**
+ * Minimal valid users, owners and courts for integration tests; names are unique per call so
+ * tests sharing the context database do not collide
+ */
+public final class TestData {
+
+    private TestData() {
+    }
+
+    public static User user(UserRepository userRepository, User.UserRole role) {
+        String name = "u" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+        return userRepository.save(User.builder()
+                .username(name)
+                .email(name + "@test.local")
+                .password("{noop}secret")
+                .fullName("Test " + name)
+                .role(role)
+                .status(User.UserStatus.ACTIVE)
+                .build());
+    }
+
+    public static Court court(UserRepository userRepository, CourtOwnerRepository courtOwnerRepository,
+                              CourtRepository courtRepository) {
+        CourtOwner owner = courtOwnerRepository.save(CourtOwner.builder()
+                .user(user(userRepository, User.UserRole.COURT_OWNER))
+                .bankName("VCB")
+                .bankAccount("0123456789")
+                .bankBin("970436")
+                .accountHolderName("TEST OWNER")
+                .build());
+        return courtRepository.save(Court.builder()
+                .owner(owner)
+                .name("Sân test " + owner.getId())
+                .address("1 Test Street")
+                .city("Đà Nẵng")
+                .district("Hải Châu")
+                .sportTypes("BADMINTON")
+                .build());
+    }
+
+    /**
+     * Authenticate the current thread as the given user, the way JwtAuthenticationFilter does
+     */
+    public static void signIn(User user) {
+        AuthenticatedUser principal = AuthenticatedUser.of(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    public static void signOut() {
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,46 @@
+package com.badminton.courtmanagement.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    @Test
+    void burstIsGrantedWithoutWaiting() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(1, 3);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.tryAcquire(0, TimeUnit.MILLISECONDS)).isTrue();
+        }
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(500);
+    }
+
+    @Test
+    void callerIsRejectedAtOnceWhenTheWaitWouldExceedTheTimeout() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(1, 1);
+        assertThat(bucket.tryAcquire(0, TimeUnit.MILLISECONDS)).isTrue();
+
+        long start = System.nanoTime();
+        assertThat(bucket.tryAcquire(200, TimeUnit.MILLISECONDS)).isFalse();
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(100);
+    }
+
+    @Test
+    void rejectedCallerDoesNotHoldAPlace() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(10, 1);
+        assertThat(bucket.tryAcquire(0, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(bucket.tryAcquire(0, TimeUnit.MILLISECONDS)).isFalse();
+
+        // The next permit is due after 100 ms, not 200 ms
+        long start = System.nanoTime();
+        assertThat(bucket.tryAcquire(150, TimeUnit.MILLISECONDS)).isTrue();
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(150);
+    }
+}
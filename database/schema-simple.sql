@@ -34,6 +34,7 @@ CREATE TABLE users (
     -- Account status
     status ENUM('ACTIVE', 'INACTIVE', 'SUSPENDED') DEFAULT 'ACTIVE',
     role ENUM('USER', 'COURT_OWNER', 'ADMIN') DEFAULT 'USER',
+    token_version INT NOT NULL DEFAULT 0, -- Tăng khi đổi trạng thái/mật khẩu để thu hồi token
     
     -- Social
     facebook_url VARCHAR(255),
@@ -101,6 +102,8 @@ CREATE TABLE courts (
     amenities JSON,
     average_rating DECIMAL(3,2) DEFAULT 0.00,
     total_reviews INT DEFAULT 0,
+    min_price DECIMAL(10,2) NULL, -- Giá thấp nhất của bảng giá đang áp dụng (trigger cập nhật)
+    max_price DECIMAL(10,2) NULL, -- Giá cao nhất của bảng giá đang áp dụng (trigger cập nhật)
     status ENUM('ACTIVE', 'INACTIVE') NOT NULL DEFAULT 'ACTIVE',
     featured BOOLEAN NOT NULL DEFAULT FALSE,
     images JSON,
@@ -113,6 +116,7 @@ CREATE TABLE courts (
     INDEX idx_sport_types (sport_types),
     INDEX idx_location (latitude, longitude),
     INDEX idx_city_district (city, district),
+    INDEX idx_status_min_price (status, min_price, id),
     
     FOREIGN KEY (owner_id) REFERENCES court_owners(id) ON DELETE CASCADE
 );
@@ -334,7 +338,7 @@ CREATE TABLE messages (
     FOREIGN KEY (related_post_id) REFERENCES team_posts(id) ON DELETE SET NULL,
     
     INDEX idx_receiver_unread (receiver_id, is_read),
-    INDEX idx_conversation (sender_id, receiver_id, created_at DESC)
+    INDEX idx_conversation (sender_id, receiver_id, created_at DESC, id DESC)
 );
 
 -- =====================================================
@@ -442,6 +446,53 @@ CREATE TABLE discount_usages (
     INDEX idx_user_id (user_id)
 );
 
+-- =====================================================
+-- 15. BẢNG COURT_DAY_LOCKS - KHÓA ĐẶT SÂN THEO NGÀY
+-- =====================================================
+CREATE TABLE court_day_locks (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    court_id BIGINT NOT NULL,
+    booking_date DATE NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    
+    -- One lock row per court per day; booking admission locks it FOR UPDATE
+    UNIQUE KEY uk_court_day (court_id, booking_date),
+    
+    FOREIGN KEY (court_id) REFERENCES courts(id) ON DELETE CASCADE
+);
+
+-- =====================================================
+-- 16. BẢNG GEOCODING_CACHE - KẾT QUẢ GEOCODING ĐÃ TRA CỨU
+-- =====================================================
+CREATE TABLE geocoding_cache (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    lookup_type VARCHAR(10) NOT NULL,
+    lookup_key VARCHAR(255) NOT NULL,
+    found BOOLEAN NOT NULL,
+    latitude DECIMAL(10, 8),
+    longitude DECIMAL(11, 8),
+    display_name VARCHAR(500),
+    address_json TEXT,
+    expires_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    
+    -- FORWARD: normalized address; REVERSE: coordinates rounded to the cache grid
+    UNIQUE KEY uk_geocoding_lookup (lookup_type, lookup_key),
+    INDEX idx_expires_at (expires_at)
+);
+
+-- =====================================================
+-- 17. BẢNG ID_SEQUENCES - CẤP ID THEO KHỐI (PROFILE PROD)
+-- =====================================================
+-- Next id block per table for bookings, messages and notifications when the prod profile maps
+-- them to pooled table ids (META-INF/orm-batching.xml); rows come from seed-id-sequences.sql
+CREATE TABLE id_sequences (
+    sequence_name VARCHAR(255) PRIMARY KEY,
+    next_val BIGINT NOT NULL
+);
+
 -- =====================================================
 -- TRIGGERS CƠ BẢN
 -- =====================================================
@@ -507,8 +558,56 @@ BEGIN
     WHERE id = OLD.team_post_id;
 END//
 
+-- Update court min/max price khi bảng giá thay đổi
+CREATE PROCEDURE RefreshCourtPriceRange(IN p_court_id BIGINT)
+BEGIN
+    UPDATE courts 
+    SET 
+        min_price = (
+            SELECT MIN(base_price) 
+            FROM court_pricing 
+            WHERE court_id = p_court_id AND is_active = TRUE
+        ),
+        max_price = (
+            SELECT MAX(base_price) 
+            FROM court_pricing 
+            WHERE court_id = p_court_id AND is_active = TRUE
+        )
+    WHERE id = p_court_id;
+END//
+
+CREATE TRIGGER update_court_price_insert 
+AFTER INSERT ON court_pricing 
+FOR EACH ROW
+BEGIN
+    CALL RefreshCourtPriceRange(NEW.court_id);
+END//
+
+CREATE TRIGGER update_court_price_update 
+AFTER UPDATE ON court_pricing 
+FOR EACH ROW
+BEGIN
+    CALL RefreshCourtPriceRange(NEW.court_id);
+    IF OLD.court_id <> NEW.court_id THEN
+        CALL RefreshCourtPriceRange(OLD.court_id);
+    END IF;
+END//
+
+CREATE TRIGGER update_court_price_delete 
+AFTER DELETE ON court_pricing 
+FOR EACH ROW
+BEGIN
+    CALL RefreshCourtPriceRange(OLD.court_id);
+END//
+
 DELIMITER ;
 
+-- Đồng bộ min/max price cho dữ liệu có sẵn (chạy lại khi thêm trigger vào database cũ)
+UPDATE courts c 
+SET 
+    c.min_price = (SELECT MIN(p.base_price) FROM court_pricing p WHERE p.court_id = c.id AND p.is_active = TRUE),
+    c.max_price = (SELECT MAX(p.base_price) FROM court_pricing p WHERE p.court_id = c.id AND p.is_active = TRUE);
+
 -- =====================================================
 -- STORED PROCEDURES
 -- =====================================================
@@ -556,7 +655,11 @@ DELIMITER ;
 
 -- Indexes cho tìm kiếm thường dùng
 CREATE INDEX idx_courts_search ON courts (city, sport_types, status);
-CREATE INDEX idx_bookings_user_date ON bookings (user_id, booking_date DESC);
+CREATE INDEX idx_bookings_user_date ON bookings (user_id, booking_date DESC, start_time DESC, id DESC);
+CREATE INDEX idx_bookings_court_date ON bookings (court_id, booking_date DESC, start_time DESC, id DESC);
+CREATE INDEX idx_team_posts_status_created ON team_posts (status, created_at DESC, id DESC);
+CREATE INDEX idx_bookings_status_created ON bookings (status, created_at, id);
+CREATE INDEX idx_team_members_user_status ON team_members (user_id, status, team_post_id);
 CREATE INDEX idx_team_posts_active ON team_posts (status, play_date);
 CREATE INDEX idx_reviews_court_published ON reviews (court_id, status);
 
@@ -0,0 +1,24 @@
+-- =====================================================
+-- SEED ID_SEQUENCES CHO PROFILE PROD
+-- =====================================================
+-- Run after the data is loaded and before starting with --spring.profiles.active=prod, and again
+-- after any bulk load that inserts ids directly. Starts every pooled id block above the highest
+-- existing id (plus one allocation of 50, so the block Hibernate reserves first is free too).
+-- Safe to re-run: a sequence never moves backwards.
+
+CREATE TABLE IF NOT EXISTS id_sequences (
+    sequence_name VARCHAR(255) PRIMARY KEY,
+    next_val BIGINT NOT NULL
+);
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'bookings', COALESCE(MAX(id), 0) + 51 FROM bookings
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'messages', COALESCE(MAX(id), 0) + 51 FROM messages
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'notifications', COALESCE(MAX(id), 0) + 51 FROM notifications
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));